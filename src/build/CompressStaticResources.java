@@ -0,0 +1,80 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a gzip variant next to each compressible static resource, run by the build after the
+ * resources are copied: {@code java src/build/CompressStaticResources.java target/classes/static}.
+ *
+ * Spring's resource chain serves {@code style.css.gz} for {@code style.css} to clients that accept
+ * gzip, so responses are compressed once at build time instead of on every request. Variants that
+ * would not be smaller than the original are not written. The output does not depend on file times,
+ * so repeated builds produce the same archive.
+ */
+public class CompressStaticResources {
+
+    private static final Set<String> EXTENSIONS = Set.of("css", "js", "mjs", "json", "map", "svg", "html", "txt");
+    private static final int MIN_BYTES = 256;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: java CompressStaticResources.java <static resource directory>");
+            System.exit(2);
+        }
+        Path root = Path.of(args[0]);
+        if (!Files.isDirectory(root)) {
+            System.out.println("No static resources in " + root);
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).filter(CompressStaticResources::isCompressible).toList();
+        }
+        int written = 0;
+        for (Path file : files) {
+            byte[] original = Files.readAllBytes(file);
+            byte[] compressed = gzip(original);
+            Path variant = file.resolveSibling(file.getFileName() + ".gz");
+            if (compressed.length < original.length) {
+                Files.write(variant, compressed);
+                written++;
+                System.out.printf("%s: %d -> %d bytes%n", root.relativize(file), original.length, compressed.length);
+            } else {
+                Files.deleteIfExists(variant);
+            }
+        }
+        System.out.println("Wrote " + written + " gzip variants under " + root);
+    }
+
+    private static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        int dot = name.lastIndexOf('.');
+        try {
+            return dot > 0 && EXTENSIONS.contains(name.substring(dot + 1)) && Files.size(file) >= MIN_BYTES;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        java.io.ByteArrayOutputStream buffer = new java.io.ByteArrayOutputStream(data.length / 2);
+        try (OutputStream out = new BestCompressionGzip(buffer)) {
+            out.write(data);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static final class BestCompressionGzip extends GZIPOutputStream {
+        BestCompressionGzip(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
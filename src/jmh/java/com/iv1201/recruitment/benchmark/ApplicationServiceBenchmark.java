@@ -0,0 +1,110 @@
+package com.iv1201.recruitment.benchmark;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.dto.ApplicationDetailsDTO;
+import com.iv1201.recruitment.domain.dto.ApplicationFormDTO;
+import com.iv1201.recruitment.domain.dto.ApplicationKeysetPage;
+import com.iv1201.recruitment.domain.dto.ApplicationListDTO;
+import com.iv1201.recruitment.domain.dto.AvailabilityForm;
+import com.iv1201.recruitment.domain.dto.CompetenceForm;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.service.ApplicationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Throughput and allocation of the ApplicationService hot paths.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ApplicationServiceBenchmark {
+
+    private static final int DASHBOARD_PAGE_SIZE = 10;
+
+    private ApplicationService applicationService;
+    private RecruitmentState state;
+    private ApplicationFormDTO form;
+    private List<Application> dashboardRows;
+    private int next;
+
+    /**
+     * Prepares the form used for submissions and the entities used for list mapping.
+     *
+     * @param state the seeded application
+     */
+    @Setup(Level.Trial)
+    public void setUp(RecruitmentState state) {
+        this.state = state;
+        applicationService = state.bean(ApplicationService.class);
+
+        form = new ApplicationFormDTO();
+        form.getCompetences().add(new CompetenceForm(state.competences.get(0).getCompetenceId(), BigDecimal.valueOf(2)));
+        form.getCompetences().add(new CompetenceForm(state.competences.get(1).getCompetenceId(), BigDecimal.ONE));
+        form.getAvailabilities().add(new AvailabilityForm(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 31)));
+
+        ApplicationRepository applicationRepository = state.bean(ApplicationRepository.class);
+        dashboardRows = new ArrayList<>(DASHBOARD_PAGE_SIZE);
+        for (int i = 0; i < DASHBOARD_PAGE_SIZE; i++) {
+            dashboardRows.add(applicationRepository.findWithPersonById(state.applicationIds.get(i)).orElseThrow());
+        }
+    }
+
+    /**
+     * Resubmits an application, replacing the applicant's competences and availability.
+     */
+    @Benchmark
+    public Application submitApplication() {
+        Person applicant = state.applicants.get(nextIndex());
+        return applicationService.submitApplication(applicant, form);
+    }
+
+    /**
+     * Loads an application with its competences and availability for the details page.
+     */
+    @Benchmark
+    public Optional<ApplicationDetailsDTO> getApplicationDetails() {
+        return applicationService.getApplicationDetails(state.applicationIds.get(nextIndex()));
+    }
+
+    /**
+     * Loads the first dashboard page, which replaced mapping entities with toListDTO.
+     */
+    @Benchmark
+    public ApplicationKeysetPage dashboardPage() {
+        return applicationService.getApplicationsKeyset(null, null, null, DASHBOARD_PAGE_SIZE);
+    }
+
+    /**
+     * Maps a page of loaded applications to list DTOs, as toListDTO did.
+     */
+    @Benchmark
+    public void toListDTO(Blackhole blackhole) {
+        for (Application application : dashboardRows) {
+            blackhole.consume(ApplicationListDTO.of(application));
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % RecruitmentState.APPLICANTS;
+        return next;
+    }
+}
@@ -0,0 +1,62 @@
+package com.iv1201.recruitment.benchmark;
+
+import com.iv1201.recruitment.config.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of verifying a password with the bounded BCrypt encoder, paid on every login that is not
+ * served from the user cache. Strength 10 is the cost of the migrated hashes and the lowest the
+ * startup benchmark in PasswordEncoderConfig picks; pass -p strength=11,12 to compare higher costs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    @Param({"10"})
+    private int strength;
+
+    private BoundedPasswordEncoder passwordEncoder;
+    private String hash;
+
+    /**
+     * Starts the encoder with the default pool sizes of PasswordEncoderConfig and hashes the
+     * password once, as registration does.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        passwordEncoder = new BoundedPasswordEncoder(strength, threads, threads * 16, new SimpleMeterRegistry());
+        hash = passwordEncoder.encode("correct horse battery staple");
+    }
+
+    /**
+     * Stops the encoder's hashing threads.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    /**
+     * Verifies a correct password against the stored hash.
+     */
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("correct horse battery staple", hash);
+    }
+}
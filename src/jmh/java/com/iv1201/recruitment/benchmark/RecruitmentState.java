@@ -0,0 +1,109 @@
+package com.iv1201.recruitment.benchmark;
+
+import com.iv1201.recruitment.RecruitmentApplication;
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.Availability;
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.domain.CompetenceProfile;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.repository.AvailabilityRepository;
+import com.iv1201.recruitment.repository.CompetenceProfileRepository;
+import com.iv1201.recruitment.repository.CompetenceRepository;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.repository.RoleRepository;
+import com.iv1201.recruitment.service.ApplicationStatusCounters;
+import com.iv1201.recruitment.service.AvailabilityIndex;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared benchmark state: the application context on H2 in PostgreSQL mode, seeded with
+ * applicants that each have an application, two competences and an availability period.
+ */
+@State(Scope.Benchmark)
+public class RecruitmentState {
+
+    static final int APPLICANTS = 1000;
+
+    ConfigurableApplicationContext context;
+    List<Person> applicants;
+    List<Integer> applicationIds;
+    List<Competence> competences;
+
+    /**
+     * Starts the application and seeds the database.
+     */
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(RecruitmentApplication.class)
+                .profiles("benchmark")
+                .run();
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> seed());
+        // Reload the in-memory views, which were built before the seed data existed
+        context.getBean(ApplicationStatusCounters.class).load();
+        context.getBean(AvailabilityIndex.class).load();
+    }
+
+    /**
+     * Stops the application.
+     */
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed() {
+        Role role = bean(RoleRepository.class).save(new Role("applicant"));
+        competences = bean(CompetenceRepository.class).saveAll(List.of(
+                new Competence("ticket sales"), new Competence("lotteries"), new Competence("roller coaster operation")));
+
+        applicants = new ArrayList<>(APPLICANTS);
+        applicationIds = new ArrayList<>(APPLICANTS);
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        for (int i = 0; i < APPLICANTS; i++) {
+            Person person = new Person();
+            person.setUsername("bench" + i);
+            person.setEmail("bench" + i + "@example.com");
+            person.setPassword("password");
+            person.setName("Name" + i);
+            person.setSurname("Surname" + i);
+            person.setRole(role);
+            person = bean(PersonRepository.class).save(person);
+            applicants.add(person);
+
+            bean(CompetenceProfileRepository.class).saveAll(List.of(
+                    new CompetenceProfile(person, competences.get(i % 3), BigDecimal.valueOf(1 + i % 5)),
+                    new CompetenceProfile(person, competences.get((i + 1) % 3), BigDecimal.ONE)));
+
+            Availability availability = new Availability();
+            availability.setPerson(person);
+            availability.setFromDate(LocalDate.of(2025, 6, 1).plusDays(i % 30));
+            availability.setToDate(LocalDate.of(2025, 8, 31));
+            bean(AvailabilityRepository.class).save(availability);
+
+            Application application = new Application(person);
+            application.setStatus(statuses[i % statuses.length]);
+            application.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i));
+            applicationIds.add(bean(ApplicationRepository.class).save(application).getApplicationId());
+        }
+    }
+}
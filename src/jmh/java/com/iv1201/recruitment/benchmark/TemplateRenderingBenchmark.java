@@ -0,0 +1,108 @@
+package com.iv1201.recruitment.benchmark;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.dto.ApplicationKeysetPage;
+import com.iv1201.recruitment.security.PersonPrincipal;
+import com.iv1201.recruitment.service.ApplicationService;
+import jakarta.servlet.ServletContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Throughput and allocation of rendering the recruiter dashboard and the applicant status page
+ * through the application's Thymeleaf view resolver, with the model the controllers build.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TemplateRenderingBenchmark {
+
+    private ServletContext servletContext;
+    private View dashboardView;
+    private View statusView;
+    private Map<String, Object> dashboardModel;
+    private Map<String, Object> statusModel;
+
+    /**
+     * Resolves the views and builds their models from the seeded data.
+     *
+     * @param state the seeded application
+     */
+    @Setup(Level.Trial)
+    public void setUp(RecruitmentState state) throws Exception {
+        servletContext = ((WebApplicationContext) state.context).getServletContext();
+        ThymeleafViewResolver viewResolver = state.bean(ThymeleafViewResolver.class);
+        dashboardView = viewResolver.resolveViewName("recruiter/dashboard", Locale.ENGLISH);
+        statusView = viewResolver.resolveViewName("applicant/status", Locale.ENGLISH);
+
+        ApplicationService applicationService = state.bean(ApplicationService.class);
+        Map<ApplicationStatus, Long> statusCounts = applicationService.getStatusCounts();
+        ApplicationKeysetPage page = applicationService.getApplicationsKeyset(null, null, null, 10);
+        dashboardModel = new HashMap<>();
+        dashboardModel.put("statuses", ApplicationStatus.values());
+        dashboardModel.put("statusCounts", statusCounts);
+        dashboardModel.put("allCount", statusCounts.values().stream().mapToLong(Long::longValue).sum());
+        dashboardModel.put("pagingMode", "cursor");
+        dashboardModel.put("applications", page.getContent());
+        dashboardModel.put("nextCursor", page.getNextCursor());
+        dashboardModel.put("previousCursor", page.getPreviousCursor());
+        dashboardModel.put("hasNext", page.hasNext());
+        dashboardModel.put("hasPrevious", page.hasPrevious());
+        dashboardModel.put("totalElements", page.getTotalElements());
+
+        Person applicant = state.applicants.get(0);
+        Application application = applicationService.getApplicationByPerson(applicant).orElseThrow();
+        statusModel = new HashMap<>();
+        statusModel.put("person", new PersonPrincipal(applicant.getUsername(), "",
+                List.of(new SimpleGrantedAuthority("ROLE_APPLICANT")), applicant.getPersonId(),
+                applicant.getName() + " " + applicant.getSurname()));
+        statusModel.put("applicationDetails",
+                applicationService.getApplicationDetails(application.getApplicationId()).orElseThrow());
+    }
+
+    /**
+     * Renders one page of the recruiter dashboard.
+     */
+    @Benchmark
+    public String renderDashboard() throws Exception {
+        return render(dashboardView, dashboardModel, "/recruiter/applications");
+    }
+
+    /**
+     * Renders the applicant status page.
+     */
+    @Benchmark
+    public String renderApplicantStatus() throws Exception {
+        return render(statusView, statusModel, "/applicant/status");
+    }
+
+    private String render(View view, Map<String, Object> model, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        view.render(model, request, response);
+        return response.getContentAsString();
+    }
+}
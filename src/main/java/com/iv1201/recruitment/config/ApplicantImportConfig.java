@@ -0,0 +1,63 @@
+package com.iv1201.recruitment.config;
+
+import com.iv1201.recruitment.service.ApplicantImporter;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Imports applicants from a CSV file at startup when the {@code import} profile is active.
+ *
+ * The import runs before the in-memory indexes and counters are built, so the application
+ * serves the imported applicants once it is up. Rows already registered are rejected, so
+ * restarting with the same file is harmless. Rejected rows are written next to the input
+ * unless {@code recruitment.import.rejects} names another file.
+ */
+@Configuration
+@Profile("import")
+public class ApplicantImportConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicantImportConfig.class);
+
+    /**
+     * Runs the importer with the {@code recruitment.import.*} settings.
+     *
+     * @param dataSource the application data source
+     * @param validator validator for the registration rules
+     * @param environment the environment holding the import settings
+     * @return the runner that imports the file
+     */
+    @Bean
+    public ApplicationRunner applicantImportRunner(DataSource dataSource, Validator validator,
+                                                   Environment environment) {
+        return args -> {
+            Path file = Path.of(environment.getRequiredProperty("recruitment.import.file"));
+            Path rejects = Path.of(environment.getProperty("recruitment.import.rejects",
+                file + ".rejected.csv"));
+            int chunkSize = environment.getProperty("recruitment.import.chunk-size", Integer.class, 500);
+
+            logger.info("Importing applicants from {} in chunks of {}", file, chunkSize);
+            Map<String, Long> counts;
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                 Writer writer = Files.newBufferedWriter(rejects, StandardCharsets.UTF_8)) {
+                counts = new ApplicantImporter(dataSource, validator, chunkSize).importCsv(reader, writer);
+            }
+            if (counts.get("rejected") > 0) {
+                logger.warn("{} of {} rows were rejected, see {}", counts.get("rejected"), counts.get("read"), rejects);
+            }
+        };
+    }
+}
@@ -0,0 +1,213 @@
+package com.iv1201.recruitment.config;
+
+import com.iv1201.recruitment.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt password encoder that hashes on a small pool of its own threads.
+ *
+ * One BCrypt check at cost 10 takes about 80 ms of CPU, so a burst of logins run on request
+ * threads occupies every core and starves all other endpoints. Here at most {@code threads}
+ * hashes run at once, further callers wait in a queue of {@code queueCapacity}, and callers
+ * beyond that are rejected at once with a {@link PasswordHashingBusyException}.
+ *
+ * New hashes use the target strength. {@link #upgradeEncoding(String)} reports weaker hashes,
+ * such as the cost-10 hashes of the password migration, so the authentication provider
+ * re-hashes them on a successful login. Upgrades are skipped while hashes are queued, so they
+ * never add to a backlog.
+ *
+ * The time spent waiting for a hashing thread is published as the
+ * {@code recruitment.password.queue} timer and the hashing itself as
+ * {@code recruitment.password.hash}, both tagged with the {@code operation}. Rejected calls are
+ * counted as {@code recruitment.password.rejected} and waiting calls are the
+ * {@code recruitment.password.queued} gauge.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    private static final String ENCODE = "encode";
+    private static final String MATCHES = "matches";
+
+    // Cheap enough to time at startup; each step of strength doubles the work
+    private static final int PROBE_STRENGTH = 6;
+    private static final int PROBE_ROUNDS = 5;
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Timer> queueTimers;
+    private final Map<String, Timer> hashTimers;
+    private final Map<String, Counter> rejected;
+
+    /**
+     * Constructs an encoder and starts its hashing threads.
+     *
+     * @param strength the BCrypt cost of new hashes
+     * @param threads the most hashes computed at the same time
+     * @param queueCapacity the most callers waiting for a hashing thread
+     * @param registry registry for the queue and hashing metrics
+     */
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, MeterRegistry registry) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("threads and queueCapacity must be at least 1");
+        }
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.queueTimers = Map.of(ENCODE, queueTimer(registry, ENCODE), MATCHES, queueTimer(registry, MATCHES));
+        this.hashTimers = Map.of(ENCODE, hashTimer(registry, ENCODE), MATCHES, hashTimer(registry, MATCHES));
+        this.rejected = Map.of(ENCODE, rejectedCounter(registry, ENCODE), MATCHES, rejectedCounter(registry, MATCHES));
+        Gauge.builder("recruitment.password.queued", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(registry);
+    }
+
+    /**
+     * Finds the highest BCrypt strength whose hash takes at most the target time on this machine.
+     *
+     * @param target how long one hash may take
+     * @param minimum the lowest strength returned, even if it takes longer than the target
+     * @param maximum the highest strength returned
+     * @return the benchmarked strength
+     */
+    public static int benchmarkStrength(Duration target, int minimum, int maximum) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("benchmark");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        int strength = minimum;
+        while (strength < maximum && Math.scalb((double) best, strength + 1 - PROBE_STRENGTH) <= target.toNanos()) {
+            strength++;
+        }
+        logger.info("BCrypt strength {} takes about {} ms here (target {} ms)", strength,
+                Math.round(Math.scalb((double) best, strength - PROBE_STRENGTH) / 1_000_000), target.toMillis());
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // An upgrade costs one more hash at the target strength; leave it for a quieter login
+        return executor.getQueue().isEmpty() && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Gets the BCrypt cost of new hashes.
+     *
+     * @return the strength
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Gets the number of calls waiting for a hashing thread.
+     *
+     * @return waiting calls
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops the hashing threads; later calls are rejected.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T hash(String operation, Supplier<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                queueTimers.get(operation).record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    return work.get();
+                } finally {
+                    hashTimers.get(operation).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.get(operation).increment();
+            logger.debug("Password {} rejected, {} already queued", operation, executor.getQueue().size());
+            throw new PasswordHashingBusyException("Too many password checks in progress", e);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting for a password check", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer queueTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("recruitment.password.queue")
+                .tag("operation", operation)
+                .description("Time password hashes wait for a hashing thread")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Timer hashTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("recruitment.password.hash")
+                .tag("operation", operation)
+                .description("Time spent computing password hashes")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String operation) {
+        return Counter.builder("recruitment.password.rejected")
+                .tag("operation", operation)
+                .description("Password hashes rejected because the hashing queue was full")
+                .register(registry);
+    }
+}
@@ -0,0 +1,179 @@
+package com.iv1201.recruitment.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source wrapper that caps how many connections are checked out at once.
+ *
+ * With virtual threads there can be thousands of concurrent requests for a pool of ten
+ * connections. Callers over the limit wait in a fair semaphore, which parks a virtual thread
+ * cheaply, instead of in the pool, where they would fail after the pool's connection timeout.
+ * The permit is released when the returned connection is closed.
+ *
+ * A thread that already holds a connection from this data source gets further ones without a
+ * permit, e.g. for a {@code REQUIRES_NEW} transaction or a lookup while an export streams.
+ * Otherwise every permit holder could wait for a second permit and none would be released
+ * until the acquire timeout. Such nested connections come straight from the pool, so the limit
+ * should stay below the pool size to leave them connections to take.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+    // Connections from this data source the current thread has open
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+    /**
+     * Wraps a data source.
+     *
+     * @param targetDataSource the pooled data source
+     * @param maxConcurrency the most connections handed out at the same time, not counting nested ones
+     * @param acquireTimeout how long a caller may wait for a permit
+     */
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+        super(targetDataSource);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limited(obtainTargetDataSource()::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return limited(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Gets the configured connection limit.
+     *
+     * @return the most connections handed out at the same time
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the number of connections currently handed out under the limit.
+     *
+     * @return connections in use, not counting nested ones
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Gets an estimate of the number of callers waiting for a connection.
+     *
+     * @return waiting callers
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No database connection available after "
+                        + acquireTimeout.toMillis() + " ms: " + getWaitingCount() + " callers waiting, "
+                        + maxConcurrency + " connections in use");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection limited(ConnectionSource source) throws SQLException {
+        AtomicInteger open = held.get();
+        boolean nested = open.get() > 0;
+        if (!nested) {
+            acquire();
+        }
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException e) {
+            if (!nested) {
+                permits.release();
+            }
+            throw e;
+        }
+        open.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ReleasingHandler(connection, open, nested));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * Delegates every call to the pooled connection and releases the permit on the first close.
+     */
+    private final class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        // The opening thread's count, which may be closed from another thread
+        private final AtomicInteger open;
+        private final boolean nested;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingHandler(Connection target, AtomicInteger open, boolean nested) {
+            this.target = target;
+            this.open = open;
+            this.nested = nested;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    open.decrementAndGet();
+                    if (!nested) {
+                        permits.release();
+                    }
+                }
+            }
+        }
+    }
+}
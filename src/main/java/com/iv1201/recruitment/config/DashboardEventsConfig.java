@@ -0,0 +1,37 @@
+package com.iv1201.recruitment.config;
+
+import com.iv1201.recruitment.service.ApplicationEventBroadcaster;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Live recruiter dashboard updates over server-sent events.
+ *
+ * {@code recruitment.dashboard.events.timeout} bounds one subscription, after which the
+ * browser reconnects, and defaults to 30 minutes; {@code recruitment.dashboard.events.heartbeat}
+ * sets the keep-alive interval and defaults to 20 seconds;
+ * {@code recruitment.dashboard.events.queue-capacity} is how many events one stream may fall
+ * behind before it is dropped, and defaults to 64.
+ */
+@Configuration
+public class DashboardEventsConfig {
+
+    /**
+     * Creates the broadcaster that pushes application changes to open dashboards.
+     *
+     * @param environment the environment holding the stream settings
+     * @return the broadcaster
+     */
+    @Bean(destroyMethod = "stop")
+    public ApplicationEventBroadcaster applicationEventBroadcaster(Environment environment) {
+        return new ApplicationEventBroadcaster(
+                environment.getProperty("recruitment.dashboard.events.timeout", Duration.class,
+                        Duration.ofMinutes(30)),
+                environment.getProperty("recruitment.dashboard.events.heartbeat", Duration.class,
+                        Duration.ofSeconds(20)),
+                environment.getProperty("recruitment.dashboard.events.queue-capacity", Integer.class, 64));
+    }
+}
@@ -0,0 +1,147 @@
+package com.iv1201.recruitment.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+/**
+ * Version resolver that marks resources requested by their versioned URL as cacheable forever.
+ *
+ * A versioned URL such as /css/style-&lt;md5&gt;.css only ever serves one content, so it gets
+ * the given Cache-Control header, which replaces the handler's own. The same file requested by
+ * its plain URL is resolved as before and keeps the handler's Cache-Control.
+ */
+public class ImmutableVersionResourceResolver extends VersionResourceResolver {
+
+    private final String cacheControl;
+
+    /**
+     * Creates a resolver for the given caching policy of versioned URLs.
+     *
+     * @param cacheControl the Cache-Control sent for versioned URLs
+     */
+    public ImmutableVersionResourceResolver(CacheControl cacheControl) {
+        this.cacheControl = cacheControl.getHeaderValue();
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = super.resolveResourceInternal(request, requestPath, locations, chain);
+        // The parent only returns an HttpResource, carrying the version as ETag, for a versioned URL
+        return resource instanceof HttpResource ? new ImmutableResource(resource, cacheControl) : resource;
+    }
+
+    /**
+     * Resource adding a Cache-Control header to the headers of a versioned resource.
+     */
+    private static final class ImmutableResource extends AbstractResource implements HttpResource {
+
+        private final Resource original;
+        private final String cacheControl;
+
+        private ImmutableResource(Resource original, String cacheControl) {
+            this.original = original;
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            // A new instance per call: the gzip resolver adds its own headers to the returned one
+            HttpHeaders headers = new HttpHeaders();
+            if (original instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            headers.setCacheControl(cacheControl);
+            return headers;
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            // Keeps the gzip variant of a versioned resource apart from that of the plain one
+            return new ImmutableResource(original.createRelative(relativePath), cacheControl);
+        }
+
+        @Override
+        public String getDescription() {
+            // Resources are compared by description, e.g. by the transformer cache; a versioned
+            // resource must not be mistaken for the same file served without a version
+            return "versioned " + original.getDescription();
+        }
+
+        @Override
+        public boolean exists() {
+            return original.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return original.isReadable();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return original.isOpen();
+        }
+
+        @Override
+        public boolean isFile() {
+            return original.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return original.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return original.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return original.getFile();
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return original.readableChannel();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return original.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return original.lastModified();
+        }
+
+        @Override
+        @Nullable
+        public String getFilename() {
+            return original.getFilename();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return original.getInputStream();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.iv1201.recruitment.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Password hashing on a bounded pool of threads; see {@link BoundedPasswordEncoder}.
+ *
+ * {@code recruitment.password.threads} defaults to half the available processors, so logins
+ * leave the other half to the rest of the application, and {@code recruitment.password.queue-capacity}
+ * to 16 waiting hashes per thread, about a second of work at cost 10.
+ * {@code recruitment.password.strength} fixes the BCrypt cost; when unset, the cost is benchmarked
+ * at startup as the highest, from 10 to 14, that hashes within {@code recruitment.password.target-duration}
+ * (default 100 ms).
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    // The default BCrypt cost and that of the migrated hashes; never hash weaker than this
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 14;
+
+    /**
+     * Creates the password encoder used for logins and registrations.
+     *
+     * @param environment the environment holding the hashing settings
+     * @param registry registry for the hashing metrics
+     * @return the password encoder
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(Environment environment, MeterRegistry registry) {
+        int threads = environment.getProperty("recruitment.password.threads", Integer.class,
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        int queueCapacity = environment.getProperty("recruitment.password.queue-capacity", Integer.class,
+                threads * 16);
+        Integer strength = environment.getProperty("recruitment.password.strength", Integer.class);
+        if (strength == null) {
+            strength = BoundedPasswordEncoder.benchmarkStrength(environment.getProperty(
+                    "recruitment.password.target-duration", Duration.class, Duration.ofMillis(100)),
+                    MIN_STRENGTH, MAX_STRENGTH);
+        }
+        logger.info("Password hashing at BCrypt strength {} on {} threads, {} callers may wait",
+                strength, threads, queueCapacity);
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, registry);
+    }
+}
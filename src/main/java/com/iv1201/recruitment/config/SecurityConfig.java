@@ -1,21 +1,35 @@
 package com.iv1201.recruitment.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.AuthenticationEventPublisher;
+import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authentication.event.AuthenticationFailureServiceExceptionEvent;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 import com.iv1201.recruitment.exception.DatabaseUnavailableException;
+import com.iv1201.recruitment.exception.PasswordHashingBusyException;
 import com.iv1201.recruitment.service.AuthService;
+import com.iv1201.recruitment.service.UserDetailsCache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+
 /**
  * Security configuration - enables login with BCrypt password hashing
  * and role-based access control.
@@ -27,9 +41,14 @@ public class SecurityConfig {
     private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
     
     private final AuthService authService;
+    private final UserDetailsCache userDetailsCache;
+    private final PasswordEncoder passwordEncoder;
     
-    public SecurityConfig(AuthService authService) {
+    public SecurityConfig(AuthService authService, UserDetailsCache userDetailsCache,
+                          PasswordEncoder passwordEncoder) {
         this.authService = authService;
+        this.userDetailsCache = userDetailsCache;
+        this.passwordEncoder = passwordEncoder;
     }
     
     /**
@@ -56,25 +75,65 @@ public class SecurityConfig {
         return false;
     }
     
+    /**
+     * Publishes authentication events, including logins rejected because password hashing
+     * was saturated, which the default publisher only maps by exact exception class.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AuthenticationEventPublisher authenticationEventPublisher(ApplicationEventPublisher publisher) {
+        DefaultAuthenticationEventPublisher eventPublisher = new DefaultAuthenticationEventPublisher(publisher);
+        eventPublisher.setAdditionalExceptionMappings(
+            Map.of(PasswordHashingBusyException.class, AuthenticationFailureServiceExceptionEvent.class));
+        return eventPublisher;
     }
     
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(authService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Re-hash passwords stored at a lower BCrypt cost after a successful login
+        authProvider.setUserDetailsPasswordService(authService);
+        // Serve repeated logins from memory; the provider reloads if a cached password mismatches
+        authProvider.setUserCache(userDetailsCache);
         return authProvider;
     }
     
+    /**
+     * Guards the Prometheus scrape endpoint, which reveals application counts, login rates and
+     * connection pool state. On a separate management port (MANAGEMENT_SERVER_PORT), which is not
+     * published outside the host, it is open. On the application port it requires a recruiter
+     * account over HTTP basic, so scrapers can authenticate without a login form or session.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http, Environment environment) throws Exception {
+        boolean separatePort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
+        logger.info("Prometheus scrape endpoint {}", separatePort
+            ? "open on the management port" : "requires a recruiter login over HTTP basic");
+        http
+            .securityMatcher(EndpointRequest.to("prometheus"))
+            .authenticationProvider(authenticationProvider())
+            .authorizeHttpRequests(auth -> {
+                if (separatePort) {
+                    auth.anyRequest().permitAll();
+                } else {
+                    auth.anyRequest().hasRole("RECRUITER");
+                }
+            })
+            .httpBasic(Customizer.withDefaults())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+    
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .authenticationProvider(authenticationProvider())
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/login", "/register", "/claim", "/verify", "/css/**", "/error").permitAll()
+                .requestMatchers("/login", "/register", "/claim", "/verify", "/error").permitAll()
+                .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
+                .requestMatchers(EndpointRequest.to("health")).permitAll()
                 .requestMatchers("/recruiter/**").hasRole("RECRUITER")
                 .requestMatchers("/applicant/**").hasRole("APPLICANT")
                 .anyRequest().authenticated()
@@ -97,7 +156,11 @@ public class SecurityConfig {
                             exception instanceof org.springframework.security.authentication.InternalAuthenticationServiceException ||
                             hasDatabaseErrorInCause(exception);
                     
-                    if (isDatabaseError) {
+                    if (exception instanceof PasswordHashingBusyException) {
+                        logger.warn("Login rejected, password hashing is saturated: username={}",
+                            username != null ? username : "unknown");
+                        response.sendRedirect("/login?busy");
+                    } else if (isDatabaseError) {
                         logger.error("Login failed due to database unavailability: username={}", 
                             username != null ? username : "unknown");
                         response.sendRedirect("/login?dbError");
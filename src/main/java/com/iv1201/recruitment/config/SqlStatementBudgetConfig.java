@@ -0,0 +1,61 @@
+package com.iv1201.recruitment.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-request SQL statement counting; see {@link SqlStatementBudgetFilter}.
+ *
+ * {@code recruitment.sql.statement-budget} sets how many statements a request may run before
+ * it is logged, and {@code recruitment.sql.repeat-threshold} how often one statement may repeat
+ * within a request before it is reported as a possible N+1 query.
+ */
+@Configuration
+public class SqlStatementBudgetConfig {
+
+    /**
+     * Creates the statement counter.
+     *
+     * @return the counter
+     */
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    /**
+     * Registers the counter as Hibernate's statement inspector, unless one is already configured.
+     *
+     * @param counter the statement counter
+     * @return the customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter counter) {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    /**
+     * Registers the budget filter ahead of Spring Security, so login queries are counted too.
+     *
+     * @param counter the statement counter
+     * @param registry registry for the per-endpoint statement counts
+     * @param environment the environment holding the budget settings
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(
+            SqlStatementCounter counter, MeterRegistry registry, Environment environment) {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(counter, registry,
+                environment.getProperty("recruitment.sql.statement-budget", Integer.class, 10),
+                environment.getProperty("recruitment.sql.repeat-threshold", Integer.class, 3));
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,113 @@
+package com.iv1201.recruitment.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Counts the SQL statements each HTTP request runs, including those of the security filters.
+ *
+ * Counts are published per endpoint as the {@code recruitment.http.sql.statements} summary.
+ * A request over the statement budget is logged with its most repeated statements, and any
+ * statement repeated at least the repeat threshold is reported as a possible N+1 query.
+ * The count is also left in the {@link #STATEMENT_COUNT_ATTRIBUTE} request attribute.
+ */
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    /** Request attribute holding the number of statements the request ran. */
+    public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".COUNT";
+
+    // Handled by Spring Security before any handler mapping, so they have no URI pattern
+    private static final Set<String> SECURITY_PATHS = Set.of("/login", "/logout");
+    private static final int REPORTED_STATEMENTS = 5;
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry registry;
+    private final int budget;
+    private final int repeatThreshold;
+
+    /**
+     * Constructs a SqlStatementBudgetFilter.
+     *
+     * @param counter the statement counter registered with Hibernate
+     * @param registry registry for the per-endpoint statement counts
+     * @param budget statements a request may run before it is logged
+     * @param repeatThreshold executions of one statement that are reported as a possible N+1 query
+     */
+    public SqlStatementBudgetFilter(SqlStatementCounter counter, MeterRegistry registry, int budget,
+                                    int repeatThreshold) {
+        this.counter = counter;
+        this.registry = registry;
+        this.budget = budget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        counter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.Recording recording = counter.stop();
+            if (recording != null) {
+                record(request, recording);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Recording recording) {
+        int count = recording.getCount();
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, count);
+        String uri = uri(request);
+        DistributionSummary.builder("recruitment.http.sql.statements")
+                .tags("method", request.getMethod(), "uri", uri)
+                .baseUnit("statements")
+                .description("SQL statements run per HTTP request")
+                .register(registry)
+                .record(count);
+
+        logger.debug("{} {} ran {} SQL statements", request.getMethod(), uri, count);
+        if (count > budget) {
+            logger.warn("SQL statement budget exceeded: {} {} ran {} statements (budget {}), most repeated: {}",
+                request.getMethod(), uri, count, budget, mostRepeated(recording));
+        }
+        recording.getExecutions().forEach((sql, executions) -> {
+            if (executions >= repeatThreshold) {
+                logger.warn("Possible N+1 query: {} {} ran the same statement {} times: {}",
+                    request.getMethod(), uri, executions, sql);
+            }
+        });
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return SECURITY_PATHS.contains(path) ? path : "UNKNOWN";
+    }
+
+    private static String mostRepeated(SqlStatementCounter.Recording recording) {
+        StringBuilder report = new StringBuilder();
+        recording.getExecutions().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(REPORTED_STATEMENTS)
+                .forEach(e -> report.append("\n  ").append(e.getValue()).append("x ").append(e.getKey()));
+        return report.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.iv1201.recruitment.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a recording is open.
+ *
+ * Registered as the Hibernate statement inspector by {@link SqlStatementBudgetConfig}; the
+ * {@link SqlStatementBudgetFilter} opens a recording around each HTTP request. Statements
+ * issued outside Hibernate, such as through {@code JdbcTemplate}, are not seen.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    /** Distinct statements remembered per recording for the repeated-statement report. */
+    static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private final ThreadLocal<Recording> current = new ThreadLocal<>();
+
+    /**
+     * Starts counting statements on the current thread, replacing any open recording.
+     *
+     * @return the new recording
+     */
+    public Recording start() {
+        Recording recording = new Recording();
+        current.set(recording);
+        return recording;
+    }
+
+    /**
+     * Stops counting statements on the current thread.
+     *
+     * @return the closed recording, or null if none was open
+     */
+    public Recording stop() {
+        Recording recording = current.get();
+        current.remove();
+        return recording;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Recording recording = current.get();
+        if (recording != null) {
+            recording.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Statements seen on one thread between {@link #start()} and {@link #stop()}.
+     */
+    public static final class Recording {
+
+        private int count;
+        private final Map<String, Integer> executions = new HashMap<>();
+
+        private void add(String sql) {
+            count++;
+            if (executions.size() < MAX_DISTINCT_STATEMENTS || executions.containsKey(sql)) {
+                executions.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        /**
+         * Gets the number of statements prepared.
+         *
+         * @return the statement count
+         */
+        public int getCount() { return count; }
+
+        /**
+         * Gets how often each distinct statement was prepared.
+         *
+         * @return executions keyed by SQL text
+         */
+        public Map<String, Integer> getExecutions() { return Collections.unmodifiableMap(executions); }
+    }
+}
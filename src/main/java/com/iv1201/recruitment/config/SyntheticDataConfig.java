@@ -0,0 +1,59 @@
+package com.iv1201.recruitment.config;
+
+import com.iv1201.recruitment.service.SyntheticDataGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+
+/**
+ * Loads a synthetic dataset at startup when the {@code datagen} profile is active.
+ *
+ * The load runs before the in-memory indexes are built, so the application serves the
+ * generated data once it is up. A dataset whose username prefix is already taken is not
+ * loaded again, so restarting with the profile is harmless. Every generated person logs
+ * in with the password {@code recruitment.datagen.password}.
+ */
+@Configuration
+@Profile("datagen")
+public class SyntheticDataConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataConfig.class);
+
+    /**
+     * Runs the generator with the {@code recruitment.datagen.*} settings.
+     *
+     * @param dataSource the application data source
+     * @param passwordEncoder encoder for the shared password of the generated persons
+     * @param environment the environment holding the generator settings
+     * @return the runner that loads the dataset
+     */
+    @Bean
+    public ApplicationRunner syntheticDataRunner(DataSource dataSource, PasswordEncoder passwordEncoder,
+                                                 Environment environment) {
+        return args -> {
+            String prefix = environment.getProperty("recruitment.datagen.prefix", "synthetic-");
+            int persons = environment.getProperty("recruitment.datagen.persons", Integer.class, 100_000);
+            double applicationRatio = environment.getProperty(
+                "recruitment.datagen.application-ratio", Double.class, 0.8);
+            long seed = environment.getProperty("recruitment.datagen.seed", Long.class, 42L);
+            String password = environment.getProperty("recruitment.datagen.password", "password");
+
+            SyntheticDataGenerator generator =
+                new SyntheticDataGenerator(dataSource, passwordEncoder.encode(password));
+            if (generator.exists(prefix)) {
+                logger.warn("Synthetic dataset '{}' already exists, not loading it again", prefix);
+                return;
+            }
+            logger.info("Loading synthetic dataset '{}': {} persons, {}% applied, seed {}",
+                prefix, persons, Math.round(applicationRatio * 100), seed);
+            generator.generate(prefix, persons, applicationRatio, seed);
+        };
+    }
+}
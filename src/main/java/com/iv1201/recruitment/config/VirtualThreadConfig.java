@@ -0,0 +1,73 @@
+package com.iv1201.recruitment.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Virtual-thread execution mode, active when {@code spring.threads.virtual.enabled=true}.
+ *
+ * Spring Boot then serves Tomcat requests on virtual threads, so controllers and the
+ * {@code @Transactional} services they call run on them too. This configuration puts a
+ * {@link ConnectionLimitingDataSource} in front of the pool, so requests queue cheaply for
+ * a connection, and starts the {@link VirtualThreadPinningMonitor}.
+ *
+ * {@code recruitment.datasource.max-concurrency} defaults to one less than the pool size, which
+ * keeps a connection for threads that open a second one, and
+ * {@code recruitment.datasource.acquire-timeout} to 30 seconds.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Wraps the application data source in a connection limiter.
+     *
+     * @param environment the environment holding the limiter settings
+     * @return the post-processor that wraps the data source
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                int maxConcurrency = environment.getProperty(
+                        "recruitment.datasource.max-concurrency", Integer.class, Math.max(1, poolSize - 1));
+                Duration acquireTimeout = environment.getProperty(
+                        "recruitment.datasource.acquire-timeout", Duration.class, DEFAULT_ACQUIRE_TIMEOUT);
+                logger.info("Virtual threads enabled: data source '{}' limited to {} concurrent connections, "
+                        + "callers wait up to {} ms", beanName, maxConcurrency, acquireTimeout.toMillis());
+                return new ConnectionLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+
+    /**
+     * Reports virtual threads pinned to their carrier while blocking.
+     *
+     * @param environment the environment holding the monitor settings
+     * @return the pinning monitor
+     */
+    @Bean(destroyMethod = "stop")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment environment) {
+        return new VirtualThreadPinningMonitor(environment.getProperty(
+                "recruitment.virtual-threads.pinning-threshold", Duration.class, Duration.ofMillis(20)));
+    }
+}
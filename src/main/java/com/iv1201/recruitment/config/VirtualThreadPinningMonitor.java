@@ -0,0 +1,140 @@
+package com.iv1201.recruitment.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Detects virtual threads that stay pinned to their carrier thread while blocking, which on
+ * Java 21 happens when a virtual thread blocks inside a {@code synchronized} block or a native
+ * frame, for example in a JDBC driver or a logging appender.
+ *
+ * Listens to the JFR {@code jdk.VirtualThreadPinned} event. Each new pinning site is logged
+ * once with its stack; the counts per site are logged on shutdown and can be read from the
+ * {@code pinning} actuator endpoint when it is exposed.
+ */
+@Endpoint(id = "pinning")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.iv1201.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    /**
+     * Constructs a monitor.
+     *
+     * @param threshold pinning shorter than this is ignored
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Starts listening for pinning events once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        logger.info("Virtual thread pinning monitor started, reporting pins longer than {} ms",
+            threshold.toMillis());
+    }
+
+    /**
+     * Stops listening and logs the pinning report.
+     */
+    public synchronized void stop() {
+        if (stream == null) {
+            return;
+        }
+        stream.close();
+        stream = null;
+        Map<String, Long> report = report();
+        if (report.isEmpty()) {
+            logger.info("Virtual thread pinning report: no pinning observed");
+        } else {
+            logger.warn("Virtual thread pinning report (site=count): {}", report);
+        }
+    }
+
+    /**
+     * Gets the number of pinning events per site, where the site is the innermost
+     * application frame or, if there is none, the innermost frame.
+     *
+     * @return pinning counts keyed by site
+     */
+    @ReadOperation
+    public Map<String, Long> report() {
+        return pinnedBySite.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum(), Long::sum, TreeMap::new));
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null
+                ? List.of() : event.getStackTrace().getFrames();
+        String site = site(frames);
+        LongAdder count = pinnedBySite.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            logger.warn("Virtual thread pinned for {} ms at {}:\n{}",
+                event.getDuration().toMillis(), site, format(event.getStackTrace()));
+        }
+    }
+
+    private static String site(List<RecordedFrame> frames) {
+        RecordedFrame innermost = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (innermost == null) {
+                innermost = frame;
+            }
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return innermost == null ? "unknown" : describe(innermost);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "    (no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + describe(frame))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.iv1201.recruitment.config;
+
+import com.iv1201.recruitment.security.PersonPrincipalArgumentResolver;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Spring MVC configuration - registers custom handler argument resolvers and serves static resources.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final Duration VERSIONED_MAX_AGE = Duration.ofDays(365);
+
+    private final WebProperties.Resources resources;
+
+    /**
+     * Constructs a WebConfig with the spring.web.resources settings.
+     *
+     * @param webProperties Spring Boot web properties
+     */
+    public WebConfig(WebProperties webProperties) {
+        this.resources = webProperties.getResources();
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new PersonPrincipalArgumentResolver());
+    }
+
+    /**
+     * Serves static resources from the configured locations. Pages link them by content hash
+     * (/css/style-&lt;md5&gt;.css); those URLs never change content and may be cached for a year
+     * without revalidation. The plain URLs (/css/style.css) keep serving the current file, so
+     * they must be revalidated on every use. Replaces Boot's default mapping, which applies one
+     * Cache-Control to both.
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        ResourceChainRegistration chain = registry.addResourceHandler("/**")
+                .addResourceLocations(resources.getStaticLocations())
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(resources.getChain().isCache());
+        if (resources.getChain().isCompressed()) {
+            // Serve the .gz variants written at build time to clients that accept them
+            chain.addResolver(new EncodedResourceResolver());
+        }
+        chain.addResolver(new ImmutableVersionResourceResolver(
+                CacheControl.maxAge(VERSIONED_MAX_AGE).cachePublic().immutable())
+                .addContentVersionStrategy("/**"));
+    }
+}
@@ -4,11 +4,11 @@ import com.iv1201.recruitment.domain.Application;
 import com.iv1201.recruitment.domain.Competence;
 import com.iv1201.recruitment.domain.Person;
 import com.iv1201.recruitment.domain.dto.ApplicationFormDTO;
-import com.iv1201.recruitment.domain.dto.ApplicationDetailsDTO;
+import com.iv1201.recruitment.domain.dto.ApplicationVersion;
 import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.security.PersonPrincipal;
 import com.iv1201.recruitment.service.ApplicationService;
 import jakarta.validation.Valid;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import org.slf4j.Logger;
@@ -27,6 +28,8 @@ import java.util.Optional;
 /**
  * Controller for applicant-specific pages.
  * Handles the applicant dashboard and application submission.
+ * The applicant is identified by the {@link PersonPrincipal} stored at login; the person
+ * is only referenced by ID, so no page view needs to look the person up by username.
  */
 @Controller
 @RequestMapping("/applicant")
@@ -47,24 +50,21 @@ public class ApplicantController {
      * Displays the applicant dashboard.
      * Shows the current application status if one exists.
      *
-     * @param authentication the current user's authentication
+     * @param applicant the authenticated person, resolved without a database query
      * @param model the model for the view
      * @return the applicant dashboard view
      */
     @GetMapping("/dashboard")
-    public String dashboard(Authentication authentication, Model model) {
-        String username = authentication.getName();
-        logger.info("Dashboard accessed by user: {}", username);
-        
-        Optional<Person> personOpt = personRepository.findByUsername(username);
-        
-        if (personOpt.isEmpty()) {
-            logger.warn("Person not found for username: {}", username);
+    public String dashboard(PersonPrincipal applicant, Model model) {
+        if (applicant == null) {
+            logger.warn("No person principal for request, redirecting to login");
             return "redirect:/login";
         }
+        String username = applicant.getUsername();
+        logger.info("Dashboard accessed by user: {}", username);
         
-        Person person = personOpt.get();
-        model.addAttribute("person", person);
+        Person person = personRepository.getReferenceById(applicant.getPersonId());
+        model.addAttribute("person", applicant);
         
         Optional<Application> applicationOpt = applicationService.getApplicationByPerson(person);
         
@@ -84,23 +84,20 @@ public class ApplicantController {
      * Displays the application form with competences and availability inputs.
      * Redirects to status page if user already has an application.
      *
-     * @param authentication the current user's authentication
+     * @param applicant the authenticated person, resolved without a database query
      * @param model the model for the view
      * @return the application form view or redirect
      */
     @GetMapping("/apply")
-    public String showApplyForm(Authentication authentication, Model model) {
-        String username = authentication.getName();
-        logger.info("Application form accessed by user: {}", username);
-        
-        Optional<Person> personOpt = personRepository.findByUsername(username);
-        
-        if (personOpt.isEmpty()) {
-            logger.warn("Person not found for username: {}", username);
+    public String showApplyForm(PersonPrincipal applicant, Model model) {
+        if (applicant == null) {
+            logger.warn("No person principal for request, redirecting to login");
             return "redirect:/login";
         }
+        String username = applicant.getUsername();
+        logger.info("Application form accessed by user: {}", username);
         
-        Person person = personOpt.get();
+        Person person = personRepository.getReferenceById(applicant.getPersonId());
         
         // Check if already has application - redirect to status page
         if (applicationService.hasApplication(person)) {
@@ -108,7 +105,7 @@ public class ApplicantController {
             return "redirect:/applicant/status";
         }
         
-        model.addAttribute("person", person);
+        model.addAttribute("person", applicant);
         model.addAttribute("applicationForm", new ApplicationFormDTO());
         
         // Provide list of competences for the dropdown
@@ -121,7 +118,7 @@ public class ApplicantController {
     /**
      * Submits a new application with competences and availabilities.
      *
-     * @param authentication the current user's authentication
+     * @param applicant the authenticated person, resolved without a database query
      * @param form the application form data
      * @param bindingResult validation results
      * @param redirectAttributes for flash messages
@@ -129,27 +126,24 @@ public class ApplicantController {
      * @return redirect to status or back to form on error
      */
     @PostMapping("/apply")
-    public String submitApplication(Authentication authentication,
+    public String submitApplication(PersonPrincipal applicant,
                                     @Valid @ModelAttribute("applicationForm") ApplicationFormDTO form,
                                     BindingResult bindingResult,
                                     RedirectAttributes redirectAttributes,
                                     Model model) {
-        String username = authentication.getName();
-        logger.info("Application submission by user: {}", username);
-        
-        Optional<Person> personOpt = personRepository.findByUsername(username);
-        
-        if (personOpt.isEmpty()) {
-            logger.warn("Person not found for username: {}", username);
+        if (applicant == null) {
+            logger.warn("No person principal for request, redirecting to login");
             return "redirect:/login";
         }
+        String username = applicant.getUsername();
+        logger.info("Application submission by user: {}", username);
         
-        Person person = personOpt.get();
+        Person person = personRepository.getReferenceById(applicant.getPersonId());
         
         if (bindingResult.hasErrors()) {
             logger.debug("Application form has validation errors for user {}: {}", 
                 username, bindingResult.getAllErrors());
-            model.addAttribute("person", person);
+            model.addAttribute("person", applicant);
             model.addAttribute("competences", applicationService.getAllCompetences());
             return "applicant/apply";
         }
@@ -162,7 +156,7 @@ public class ApplicantController {
             
         } catch (IllegalArgumentException e) {
             // Service already logged the issue
-            model.addAttribute("person", person);
+            model.addAttribute("person", applicant);
             model.addAttribute("competences", applicationService.getAllCompetences());
             model.addAttribute("error", e.getMessage());
             return "applicant/apply";
@@ -170,7 +164,7 @@ public class ApplicantController {
         } catch (Exception e) {
             logger.error("Unexpected error during application submission for user {}: {}", 
                 username, e.getMessage(), e);
-            model.addAttribute("person", person);
+            model.addAttribute("person", applicant);
             model.addAttribute("competences", applicationService.getAllCompetences());
             model.addAttribute("error", "An unexpected error occurred");
             return "applicant/apply";
@@ -179,39 +173,40 @@ public class ApplicantController {
 
     /**
      * Displays the application status page with full details.
+     * The page is tagged with the application's version, so a refresh while the application is
+     * unchanged is answered with 304 before the competences and availabilities are loaded.
      *
-     * @param authentication the current user's authentication
+     * @param applicant the authenticated person, resolved without a database query
      * @param model the model for the view
-     * @return the status view or redirect if no application
+     * @param webRequest the request, for conditional GET handling
+     * @return the status view, redirect if no application, or null if not modified
      */
     @GetMapping("/status")
-    public String showStatus(Authentication authentication, Model model) {
-        String username = authentication.getName();
-        logger.info("Application status page accessed by user: {}", username);
-        
-        Optional<Person> personOpt = personRepository.findByUsername(username);
-        
-        if (personOpt.isEmpty()) {
-            logger.warn("Person not found for username: {}", username);
+    public String showStatus(PersonPrincipal applicant, Model model, ServletWebRequest webRequest) {
+        if (applicant == null) {
+            logger.warn("No person principal for request, redirecting to login");
             return "redirect:/login";
         }
+        String username = applicant.getUsername();
+        logger.info("Application status page accessed by user: {}", username);
         
-        Person person = personOpt.get();
-        model.addAttribute("person", person);
+        model.addAttribute("person", applicant);
         
-        Optional<Application> applicationOpt = applicationService.getApplicationByPerson(person);
+        Optional<ApplicationVersion> current = applicationService.getApplicationVersionByPerson(applicant.getPersonId());
         
-        if (applicationOpt.isEmpty()) {
+        if (current.isEmpty()) {
             logger.info("No application found for user {}, redirecting to apply", username);
             return "redirect:/applicant/apply";
         }
+        Integer applicationId = current.get().getApplicationId();
+        if (ConditionalGet.isNotModified(webRequest, "status", applicationId, current.get().getVersion())) {
+            logger.debug("Application status page not modified for user {}", username);
+            return null;
+        }
         
         // Get full application details with competences and availabilities
-        Optional<ApplicationDetailsDTO> detailsOpt = applicationService
-                .getApplicationDetails(applicationOpt.get().getApplicationId());
-        
-        detailsOpt.ifPresent(details -> model.addAttribute("applicationDetails", details));
-        model.addAttribute("appDetails", applicationOpt.get());
+        applicationService.getApplicationDetails(applicationId)
+                .ifPresent(details -> model.addAttribute("applicationDetails", details));
         
         return "applicant/status";
     }
@@ -0,0 +1,53 @@
+package com.iv1201.recruitment.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Conditional GET support for pages rendered from a few cheaply read values, such as an
+ * application's id and optimistic-locking version.
+ *
+ * The ETag is a digest of those values, the session id and the locale: pages embed the session's
+ * CSRF token and localized text, so a page cached in another session or language must not match.
+ * Responses are marked {@code private, no-cache}, so browsers keep the page but revalidate it on
+ * every visit, and shared caches never store it. This also keeps Spring Security from adding its
+ * default {@code no-store}.
+ */
+final class ConditionalGet {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Sets the caching headers and checks the request's {@code If-None-Match} against the page state.
+     * When this returns true the response is a 304 and the handler should return null.
+     *
+     * @param webRequest the current request
+     * @param state the values the rendered page depends on
+     * @return true if the client already has this version of the page
+     */
+    static boolean isNotModified(ServletWebRequest webRequest, Object... state) {
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        HttpServletRequest request = webRequest.getRequest();
+        // Flash messages are shown once, so a page carrying one is always rendered and not tagged
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request);
+        if (flash != null && !flash.isEmpty()) {
+            return false;
+        }
+        String fingerprint = request.getSession().getId() + '|' + LocaleContextHolder.getLocale()
+                + '|' + Arrays.deepToString(state);
+        String etag = DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8));
+        return webRequest.checkNotModified(etag);
+    }
+}
@@ -1,5 +1,6 @@
 package com.iv1201.recruitment.controller;
 
+import com.iv1201.recruitment.exception.PasswordHashingBusyException;
 import jakarta.persistence.OptimisticLockException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -136,6 +137,24 @@ public class GlobalExceptionHandler {
         return "error";
     }
 
+    /**
+     * Handles registrations rejected because every password hashing thread is busy.
+     * Returns 503 Service Unavailable so the user retries shortly.
+     *
+     * @param ex the exception
+     * @param model the model for the view
+     * @return the error view name
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handlePasswordHashingBusy(PasswordHashingBusyException ex, Model model) {
+        logger.warn("Password hashing saturated: {}", ex.getMessage());
+        model.addAttribute("errorTitle", "Service Busy");
+        model.addAttribute("errorMessage", "Too many requests are being processed right now. Please try again in a moment.");
+        model.addAttribute("errorCode", 503);
+        return "error";
+    }
+
     /**
      * Handles all other unexpected exceptions.
      * Logs full details but shows generic message to user.
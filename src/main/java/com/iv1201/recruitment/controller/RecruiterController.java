@@ -1,22 +1,47 @@
 package com.iv1201.recruitment.controller;
 
 import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.dto.ApplicantLookupResult;
+import com.iv1201.recruitment.domain.dto.ApplicationCursor;
 import com.iv1201.recruitment.domain.dto.ApplicationDetailsDTO;
+import com.iv1201.recruitment.domain.dto.ApplicationKeysetPage;
 import com.iv1201.recruitment.domain.dto.ApplicationListDTO;
+import com.iv1201.recruitment.domain.dto.ApplicationVersion;
+import com.iv1201.recruitment.domain.dto.BulkStatusUpdateResult;
+import com.iv1201.recruitment.domain.dto.CandidateSearchForm;
+import com.iv1201.recruitment.domain.dto.CompetenceForm;
+import com.iv1201.recruitment.service.ApplicantLookupService;
+import com.iv1201.recruitment.service.ApplicationEventBroadcaster;
+import com.iv1201.recruitment.service.ApplicationExportService;
 import com.iv1201.recruitment.service.ApplicationService;
+import com.iv1201.recruitment.service.CandidateSearchService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,70 +53,272 @@ import java.util.Optional;
 public class RecruiterController {
 
     private static final Logger logger = LoggerFactory.getLogger(RecruiterController.class);
+    private static final int PAGE_SIZE = 10;
+
+    private static final int SEARCH_COMPETENCE_ROWS = 3;
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
 
     private final ApplicationService applicationService;
+    private final CandidateSearchService candidateSearchService;
+    private final ApplicationExportService applicationExportService;
+    private final ApplicantLookupService applicantLookupService;
+    private final ApplicationEventBroadcaster eventBroadcaster;
 
-    public RecruiterController(ApplicationService applicationService) {
+    public RecruiterController(ApplicationService applicationService,
+                               CandidateSearchService candidateSearchService,
+                               ApplicationExportService applicationExportService,
+                               ApplicantLookupService applicantLookupService,
+                               ApplicationEventBroadcaster eventBroadcaster) {
         this.applicationService = applicationService;
+        this.candidateSearchService = candidateSearchService;
+        this.applicationExportService = applicationExportService;
+        this.applicantLookupService = applicantLookupService;
+        this.eventBroadcaster = eventBroadcaster;
     }
 
     /**
      * Displays the recruiter dashboard with a paginated list of applications.
      * Supports filtering by application status and page navigation.
+     * Pages are addressed by cursor (keyset) by default; passing an explicit page
+     * number falls back to offset pagination. Totals and per-status counts come from
+     * maintained counters, so no page load scans the application table to count it.
      *
-     * @param page the page number to display (0-based, defaults to 0)
+     * @param page optional page number for offset pagination (0-based)
+     * @param after cursor of the last row on the previous page, for the next page
+     * @param before cursor of the first row on the current page, for the previous page
      * @param status optional filter for application status
      * @param model the model for the view
      * @return the recruiter dashboard view
      */
     @GetMapping({"/dashboard", "/applications"})
-    public String dashboard(@RequestParam(defaultValue = "0") int page,
+    public String dashboard(@RequestParam(required = false) Integer page,
+                           @RequestParam(required = false) String after,
+                           @RequestParam(required = false) String before,
                            @RequestParam(required = false) String status,
                            Model model, Authentication authentication) {
         String username = authentication.getName();
         logger.info("Recruiter dashboard accessed by user: {}", username);
         
-        Pageable pageable = PageRequest.of(page, 10);
-        Page<ApplicationListDTO> applications;
-        
+        ApplicationStatus filterStatus = null;
         if (status != null && !status.isEmpty()) {
             try {
-                ApplicationStatus filterStatus = ApplicationStatus.valueOf(status.toUpperCase());
-                applications = applicationService.getApplicationsByStatus(filterStatus, pageable);
+                filterStatus = ApplicationStatus.valueOf(status.toUpperCase());
                 model.addAttribute("currentFilter", status);
-                logger.info("Dashboard filtered by status: {}, found {} applications", filterStatus, applications.getTotalElements());
             } catch (IllegalArgumentException e) {
                 logger.warn("Invalid status filter attempted: {}", status);
-                applications = applicationService.getAllApplications(pageable);
             }
+        }
+
+        model.addAttribute("statuses", ApplicationStatus.values());
+        Map<ApplicationStatus, Long> statusCounts = applicationService.getStatusCounts();
+        model.addAttribute("statusCounts", statusCounts);
+        model.addAttribute("allCount", statusCounts.values().stream().mapToLong(Long::longValue).sum());
+
+        if (page != null) {
+            addOffsetPage(model, filterStatus, page);
         } else {
-            applications = applicationService.getAllApplications(pageable);
-            logger.info("Dashboard showing all applications: {} total", applications.getTotalElements());
+            addKeysetPage(model, filterStatus, after, before);
         }
         
+        return "recruiter/dashboard";
+    }
+
+    /**
+     * Adds an offset-paginated page (with total count) to the model.
+     */
+    private void addOffsetPage(Model model, ApplicationStatus filterStatus, int page) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), PAGE_SIZE);
+        Page<ApplicationListDTO> applications = filterStatus != null
+                ? applicationService.getApplicationsByStatus(filterStatus, pageable)
+                : applicationService.getAllApplications(pageable);
+        logger.info("Dashboard offset page {} with status filter {}: {} total",
+            page, filterStatus, applications.getTotalElements());
+
+        model.addAttribute("pagingMode", "offset");
         model.addAttribute("applications", applications.getContent());
-        model.addAttribute("statuses", ApplicationStatus.values());
         model.addAttribute("currentPage", applications.getNumber());
         model.addAttribute("totalPages", applications.getTotalPages());
         model.addAttribute("hasNext", applications.hasNext());
         model.addAttribute("hasPrevious", applications.hasPrevious());
         model.addAttribute("totalElements", applications.getTotalElements());
-        
-        return "recruiter/dashboard";
+    }
+
+    /**
+     * Adds a cursor-paginated page to the model. Invalid cursors fall back to the first page.
+     */
+    private void addKeysetPage(Model model, ApplicationStatus filterStatus,
+                               String after, String before) {
+        ApplicationCursor afterCursor = null;
+        ApplicationCursor beforeCursor = null;
+        try {
+            if (before != null && !before.isEmpty()) {
+                beforeCursor = ApplicationCursor.decode(before);
+            } else if (after != null && !after.isEmpty()) {
+                afterCursor = ApplicationCursor.decode(after);
+            }
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid dashboard cursor attempted: after={}, before={}", after, before);
+        }
+
+        ApplicationKeysetPage applications = applicationService.getApplicationsKeyset(
+                filterStatus, afterCursor, beforeCursor, PAGE_SIZE);
+        logger.info("Dashboard cursor page with status filter {}: {} rows", filterStatus,
+            applications.getContent().size());
+
+        model.addAttribute("pagingMode", "cursor");
+        model.addAttribute("applications", applications.getContent());
+        model.addAttribute("nextCursor", applications.getNextCursor());
+        model.addAttribute("previousCursor", applications.getPreviousCursor());
+        model.addAttribute("hasNext", applications.hasNext());
+        model.addAttribute("hasPrevious", applications.hasPrevious());
+        model.addAttribute("totalElements", applications.getTotalElements());
+    }
+
+    /**
+     * Downloads all applications, or those with one status, as CSV.
+     * The file is written while it is read from the database, on an async request,
+     * so the download starts at once and the server holds no more than one fetch of rows.
+     *
+     * @param status optional filter for application status
+     * @return the streaming CSV body, or 400 for an unknown status
+     */
+    @GetMapping("/applications/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(@RequestParam(required = false) String status,
+                                                                    Authentication authentication) {
+        String username = authentication.getName();
+        ApplicationStatus filterStatus = null;
+        if (status != null && !status.isEmpty()) {
+            try {
+                filterStatus = ApplicationStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid export status filter attempted: {}, recruiter={}", status, username);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        logger.info("Application export requested: status={}, recruiter={}", filterStatus, username);
+
+        ApplicationStatus exportStatus = filterStatus;
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            applicationExportService.exportCsv(exportStatus, writer);
+        };
+        String filename = filterStatus == null
+                ? "applications.csv"
+                : "applications-" + filterStatus.name().toLowerCase() + ".csv";
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Streams application submissions and status changes to an open dashboard as server-sent events,
+     * so it can update in place instead of reloading. Touches no database.
+     *
+     * @return the event stream
+     */
+    @GetMapping(value = "/applications/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter applicationEvents() {
+        return eventBroadcaster.subscribe();
+    }
+
+    /**
+     * Looks up applicants by name, surname, email or personal number for the dashboard type-ahead.
+     * Queries without a term of at least three characters return no matches.
+     *
+     * @param query the text typed so far
+     * @return the matches as JSON, echoing the query
+     */
+    @GetMapping(value = "/applicants/lookup", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ApplicantLookupResult lookupApplicants(@RequestParam(name = "q", defaultValue = "") String query) {
+        return applicantLookupService.lookup(query);
+    }
+
+    /**
+     * Searches candidates by competences, minimum years of experience and availability window.
+     * Without any criteria only the empty search form is shown.
+     *
+     * @param form the search criteria bound from query parameters
+     * @param page the page number to display (0-based, defaults to 0)
+     * @param model the model for the view
+     * @return the candidate search view
+     */
+    @GetMapping("/search")
+    public String search(@ModelAttribute("searchForm") CandidateSearchForm form,
+                         @RequestParam(defaultValue = "0") int page,
+                         Model model, Authentication authentication) {
+        String username = authentication.getName();
+        logger.info("Candidate search by recruiter: {}", username);
+
+        if (form.hasCriteria()) {
+            try {
+                Page<ApplicationListDTO> results = candidateSearchService.search(
+                        form, PageRequest.of(Math.max(page, 0), PAGE_SIZE));
+                model.addAttribute("applications", results.getContent());
+                model.addAttribute("currentPage", results.getNumber());
+                model.addAttribute("totalPages", results.getTotalPages());
+                model.addAttribute("totalElements", results.getTotalElements());
+                if (results.hasPrevious()) {
+                    model.addAttribute("previousPageUrl", pageUrl(results.getNumber() - 1));
+                }
+                if (results.hasNext()) {
+                    model.addAttribute("nextPageUrl", pageUrl(results.getNumber() + 1));
+                }
+            } catch (IllegalArgumentException e) {
+                model.addAttribute("error", e.getMessage());
+            }
+        }
+
+        // Always render a fixed number of competence rows in the form
+        while (form.getCompetences().size() < SEARCH_COMPETENCE_ROWS) {
+            form.getCompetences().add(new CompetenceForm());
+        }
+        model.addAttribute("competences", applicationService.getAllCompetences());
+
+        return "recruiter/search";
+    }
+
+    /**
+     * Builds the URL of another result page, keeping the current search criteria.
+     */
+    private String pageUrl(int page) {
+        return ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("page", page)
+                .build()
+                .toUriString();
     }
 
     /**
      * Displays the application detail page with competences and availabilities.
+     * The page is tagged with the application's version and the status counts it shows,
+     * so a revisit without changes is answered with 304 before the details are loaded.
      *
      * @param id the application ID
      * @param model the model for the view
-     * @return the application detail view or redirect if not found
+     * @param webRequest the request, for conditional GET handling
+     * @return the application detail view, redirect if not found, or null if not modified
      */
     @GetMapping("/applications/{id}")
-    public String viewApplication(@PathVariable("id") Integer id, Model model, Authentication authentication) {
+    public String viewApplication(@PathVariable("id") Integer id, Model model, Authentication authentication,
+                                  ServletWebRequest webRequest) {
         String username = authentication.getName();
         logger.info("Application detail requested: id={}, recruiter={}", id, username);
-        
+
+        Optional<ApplicationVersion> current = applicationService.getApplicationVersion(id);
+        if (current.isEmpty()) {
+            logger.warn("Application not found: id={}, recruiter={}", id, username);
+            return "redirect:/recruiter/applications";
+        }
+        Map<ApplicationStatus, Long> statusCounts = applicationService.getStatusCounts();
+        if (ConditionalGet.isNotModified(webRequest, "application", id, current.get().getVersion(), statusCounts)) {
+            logger.debug("Application detail not modified: id={}, recruiter={}", id, username);
+            return null;
+        }
+
         Optional<ApplicationDetailsDTO> detailsOpt = applicationService.getApplicationDetails(id);
         
         if (detailsOpt.isEmpty()) {
@@ -105,6 +332,8 @@ public class RecruiterController {
         
         model.addAttribute("appDetails", details);
         model.addAttribute("statuses", ApplicationStatus.values());
+        model.addAttribute("statusCounts", statusCounts);
+        model.addAttribute("allCount", statusCounts.values().stream().mapToLong(Long::longValue).sum());
         
         return "recruiter/application-detail";
     }
@@ -150,4 +379,68 @@ public class RecruiterController {
         
         return "redirect:/recruiter/applications/" + id;
     }
+
+    /**
+     * Sets the status of all applications selected on the dashboard in one request.
+     * Each selection is {@code applicationId:version} as rendered on the dashboard, so rows
+     * changed by someone else since the page was loaded are reported back instead of overwritten.
+     *
+     * @param selected the selected applications as {@code id:version} values
+     * @param status the new status
+     * @param filter the dashboard status filter to return to
+     * @param redirectAttributes for flash messages
+     * @return redirect to the dashboard
+     */
+    @PostMapping("/applications/status")
+    public String updateStatuses(@RequestParam(value = "selected", required = false) List<String> selected,
+                                 @RequestParam("status") String status,
+                                 @RequestParam(value = "filter", required = false) String filter,
+                                 RedirectAttributes redirectAttributes,
+                                 Authentication authentication) {
+        String username = authentication.getName();
+        int count = selected == null ? 0 : selected.size();
+        logger.info("Bulk status update attempt: count={}, newStatus={}, recruiter={}", count, status, username);
+
+        try {
+            ApplicationStatus newStatus = ApplicationStatus.valueOf(status.toUpperCase());
+            BulkStatusUpdateResult result = applicationService.updateApplicationStatuses(
+                    parseSelection(selected), newStatus);
+            if (result.hasConflicts()) {
+                logger.warn("Bulk status update conflicts: {}, recruiter={}", result.getConflicts(), username);
+            }
+            redirectAttributes.addFlashAttribute("bulkResult", result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk status update: error={}, recruiter={}", e.getMessage(), username);
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Unexpected error during bulk status update: recruiter={}, error={}",
+                username, e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("error", "An unexpected error occurred");
+        }
+
+        if (filter != null && !filter.isEmpty()) {
+            redirectAttributes.addAttribute("status", filter);
+        }
+        return "redirect:/recruiter/applications";
+    }
+
+    /**
+     * Parses {@code id:version} selections into expected versions keyed by application ID.
+     */
+    private Map<Integer, Integer> parseSelection(List<String> selected) {
+        Map<Integer, Integer> expectedVersions = new LinkedHashMap<>();
+        if (selected == null) {
+            return expectedVersions;
+        }
+        for (String value : selected) {
+            int separator = value.indexOf(':');
+            try {
+                expectedVersions.put(Integer.valueOf(value.substring(0, separator)),
+                        Integer.valueOf(value.substring(separator + 1)));
+            } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid application selection");
+            }
+        }
+        return expectedVersions;
+    }
 }
@@ -16,7 +16,8 @@ import java.time.LocalDate;
 public class Availability {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "availability_seq")
+    @SequenceGenerator(name = "availability_seq", sequenceName = "availability_availability_id_seq", allocationSize = 50)
     @Column(name = "availability_id")
     private Integer availabilityId;
 
@@ -18,7 +18,8 @@ import java.math.BigDecimal;
 public class CompetenceProfile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "competence_profile_seq")
+    @SequenceGenerator(name = "competence_profile_seq", sequenceName = "competence_profile_competence_profile_id_seq", allocationSize = 50)
     @Column(name = "competence_profile_id")
     private Integer competenceProfileId;
 
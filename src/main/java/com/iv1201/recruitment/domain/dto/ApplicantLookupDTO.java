@@ -0,0 +1,42 @@
+package com.iv1201.recruitment.domain.dto;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+
+/**
+ * One applicant found by the recruiter type-ahead lookup, with their application if they have one.
+ */
+public class ApplicantLookupDTO {
+
+    private final Integer personId;
+    private final String name;
+    private final String surname;
+    private final String email;
+    private final String pnr;
+    private final Integer applicationId;
+    private final ApplicationStatus status;
+
+    public ApplicantLookupDTO(Integer personId, String name, String surname, String email, String pnr,
+                              Integer applicationId, ApplicationStatus status) {
+        this.personId = personId;
+        this.name = name;
+        this.surname = surname;
+        this.email = email;
+        this.pnr = pnr;
+        this.applicationId = applicationId;
+        this.status = status;
+    }
+
+    public Integer getPersonId() { return personId; }
+
+    public String getName() { return name; }
+
+    public String getSurname() { return surname; }
+
+    public String getEmail() { return email; }
+
+    public String getPnr() { return pnr; }
+
+    public Integer getApplicationId() { return applicationId; }
+
+    public ApplicationStatus getStatus() { return status; }
+}
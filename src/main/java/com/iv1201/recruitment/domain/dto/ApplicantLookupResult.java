@@ -0,0 +1,30 @@
+package com.iv1201.recruitment.domain.dto;
+
+import java.util.List;
+
+/**
+ * Response of the recruiter type-ahead lookup.
+ * Echoes the query so a client can drop responses to keystrokes it has already moved past.
+ */
+public class ApplicantLookupResult {
+
+    private final String query;
+    private final List<ApplicantLookupDTO> matches;
+    private final boolean truncated;
+
+    public ApplicantLookupResult(String query, List<ApplicantLookupDTO> matches, boolean truncated) {
+        this.query = query;
+        this.matches = matches;
+        this.truncated = truncated;
+    }
+
+    public String getQuery() { return query; }
+
+    public List<ApplicantLookupDTO> getMatches() { return matches; }
+
+    /**
+     * Tells whether more applicants matched than were returned.
+     * @return true if the result was capped
+     */
+    public boolean isTruncated() { return truncated; }
+}
@@ -0,0 +1,44 @@
+package com.iv1201.recruitment.domain.dto;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+
+/**
+ * One committed change to an application, pushed to open recruiter dashboards.
+ * Carries the new version so a dashboard can keep its bulk selection current.
+ */
+public class ApplicationChange {
+
+    private final Integer applicationId;
+    private final ApplicationStatus previousStatus;
+    private final ApplicationStatus status;
+    private final Integer version;
+
+    /**
+     * Creates a change.
+     *
+     * @param applicationId the changed application
+     * @param previousStatus the status before the change, or null for a new application
+     * @param status the status after the change
+     * @param version the version after the change
+     */
+    public ApplicationChange(Integer applicationId, ApplicationStatus previousStatus,
+                             ApplicationStatus status, Integer version) {
+        this.applicationId = applicationId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.version = version;
+    }
+
+    public Integer getApplicationId() { return applicationId; }
+
+    public ApplicationStatus getPreviousStatus() { return previousStatus; }
+
+    public ApplicationStatus getStatus() { return status; }
+
+    public Integer getVersion() { return version; }
+
+    @Override
+    public String toString() {
+        return applicationId + ":" + previousStatus + "->" + status;
+    }
+}
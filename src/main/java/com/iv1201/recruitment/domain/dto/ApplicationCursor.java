@@ -0,0 +1,70 @@
+package com.iv1201.recruitment.domain.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the recruiter dashboard, identified by the
+ * (createdAt, applicationId) pair of an application row.
+ * Encoded as an opaque URL-safe token so it can be carried in query parameters.
+ */
+public class ApplicationCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Integer applicationId;
+
+    public ApplicationCursor(LocalDateTime createdAt, Integer applicationId) {
+        this.createdAt = createdAt;
+        this.applicationId = applicationId;
+    }
+
+    /**
+     * Creates a cursor positioned at the given list row.
+     *
+     * @param dto the row to position the cursor at
+     * @return the cursor for that row
+     */
+    public static ApplicationCursor of(ApplicationListDTO dto) {
+        return new ApplicationCursor(dto.getCreatedAt(), dto.getApplicationId());
+    }
+
+    /**
+     * Decodes a cursor token produced by {@link #encode()}.
+     *
+     * @param token the URL-safe token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ApplicationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new ApplicationCursor(
+                    LocalDateTime.parse(raw.substring(0, split)),
+                    Integer.valueOf(raw.substring(split + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Encodes this cursor as a URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + applicationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public Integer getApplicationId() { return applicationId; }
+}
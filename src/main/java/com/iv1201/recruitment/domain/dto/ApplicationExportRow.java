@@ -0,0 +1,45 @@
+package com.iv1201.recruitment.domain.dto;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One application with its applicant's contact details, as streamed into the CSV export.
+ * Selected directly from the application and person tables without loading entities.
+ */
+public class ApplicationExportRow {
+
+    private final Integer applicationId;
+    private final Integer personId;
+    private final String name;
+    private final String surname;
+    private final String email;
+    private final ApplicationStatus status;
+    private final LocalDateTime createdAt;
+
+    public ApplicationExportRow(Integer applicationId, Integer personId, String name, String surname,
+                                String email, ApplicationStatus status, LocalDateTime createdAt) {
+        this.applicationId = applicationId;
+        this.personId = personId;
+        this.name = name;
+        this.surname = surname;
+        this.email = email;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public Integer getApplicationId() { return applicationId; }
+
+    public Integer getPersonId() { return personId; }
+
+    public String getName() { return name; }
+
+    public String getSurname() { return surname; }
+
+    public String getEmail() { return email; }
+
+    public ApplicationStatus getStatus() { return status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
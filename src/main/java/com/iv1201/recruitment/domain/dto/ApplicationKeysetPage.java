@@ -0,0 +1,35 @@
+package com.iv1201.recruitment.domain.dto;
+
+import java.util.List;
+
+/**
+ * One page of the recruiter dashboard in cursor (keyset) mode.
+ * Carries the cursors needed to fetch the neighbouring pages instead of page numbers.
+ * The total comes from the maintained status counters, not a COUNT query.
+ */
+public class ApplicationKeysetPage {
+
+    private final List<ApplicationListDTO> content;
+    private final String nextCursor;
+    private final String previousCursor;
+    private Long totalElements;
+
+    public ApplicationKeysetPage(List<ApplicationListDTO> content, String nextCursor, String previousCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.previousCursor = previousCursor;
+    }
+
+    public List<ApplicationListDTO> getContent() { return content; }
+
+    public String getNextCursor() { return nextCursor; }
+
+    public String getPreviousCursor() { return previousCursor; }
+
+    public boolean hasNext() { return nextCursor != null; }
+
+    public boolean hasPrevious() { return previousCursor != null; }
+
+    public Long getTotalElements() { return totalElements; }
+    public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
+}
@@ -1,5 +1,6 @@
 package com.iv1201.recruitment.domain.dto;
 
+import com.iv1201.recruitment.domain.Application;
 import com.iv1201.recruitment.domain.ApplicationStatus;
 import java.time.LocalDateTime;
 
@@ -12,6 +13,7 @@ public class ApplicationListDTO {
     private String personName;
     private ApplicationStatus status;
     private LocalDateTime createdAt;
+    private Integer version;
 
     public ApplicationListDTO() {}
 
@@ -23,6 +25,34 @@ public class ApplicationListDTO {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Constructor used by JPQL constructor expressions in list projections.
+     * Builds the display name the same way as {@link #of(Application)}.
+     * The version is carried along so bulk actions can detect concurrent changes.
+     */
+    public ApplicationListDTO(Integer applicationId, String name, String surname,
+                              ApplicationStatus status, LocalDateTime createdAt, Integer version) {
+        this(applicationId, name + " " + surname, status, createdAt);
+        this.version = version;
+    }
+
+    /**
+     * Converts a loaded Application entity to a list DTO.
+     *
+     * @param app the application with its person loaded
+     * @return the list DTO
+     */
+    public static ApplicationListDTO of(Application app) {
+        ApplicationListDTO dto = new ApplicationListDTO(
+                app.getApplicationId(),
+                app.getPerson().getName() + " " + app.getPerson().getSurname(),
+                app.getStatus(),
+                app.getCreatedAt()
+        );
+        dto.setVersion(app.getVersion());
+        return dto;
+    }
+
     public Integer getApplicationId() { return applicationId; }
     public void setApplicationId(Integer applicationId) { this.applicationId = applicationId; }
 
@@ -34,4 +64,7 @@ public class ApplicationListDTO {
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Integer getVersion() { return version; }
+    public void setVersion(Integer version) { this.version = version; }
 }
@@ -0,0 +1,21 @@
+package com.iv1201.recruitment.domain.dto;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+
+/**
+ * Number of applications with a given status, as returned by a grouped count query.
+ */
+public class ApplicationStatusCount {
+
+    private final ApplicationStatus status;
+    private final long count;
+
+    public ApplicationStatusCount(ApplicationStatus status, long count) {
+        this.status = status;
+        this.count = count;
+    }
+
+    public ApplicationStatus getStatus() { return status; }
+
+    public long getCount() { return count; }
+}
@@ -0,0 +1,26 @@
+package com.iv1201.recruitment.domain.dto;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+
+/**
+ * Current status and optimistic-locking version of an application, as read by a bulk update
+ * or to tag a page for conditional GETs.
+ */
+public class ApplicationVersion {
+
+    private final Integer applicationId;
+    private final ApplicationStatus status;
+    private final Integer version;
+
+    public ApplicationVersion(Integer applicationId, ApplicationStatus status, Integer version) {
+        this.applicationId = applicationId;
+        this.status = status;
+        this.version = version;
+    }
+
+    public Integer getApplicationId() { return applicationId; }
+
+    public ApplicationStatus getStatus() { return status; }
+
+    public Integer getVersion() { return version; }
+}
@@ -0,0 +1,36 @@
+package com.iv1201.recruitment.domain.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Lightweight availability period keyed by person ID.
+ * Selected directly from the availability table without loading entities or person proxies.
+ */
+public class AvailabilityPeriod {
+
+    private final Integer personId;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+
+    public AvailabilityPeriod(Integer personId, LocalDate fromDate, LocalDate toDate) {
+        this.personId = personId;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    public Integer getPersonId() { return personId; }
+
+    public LocalDate getFromDate() { return fromDate; }
+
+    public LocalDate getToDate() { return toDate; }
+
+    /**
+     * Checks whether this period overlaps the closed range [from, to].
+     * @param from start of the range
+     * @param to end of the range
+     * @return true if the period and the range share at least one day
+     */
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !fromDate.isAfter(to) && !toDate.isBefore(from);
+    }
+}
@@ -0,0 +1,42 @@
+package com.iv1201.recruitment.domain.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of setting the status of several applications at once.
+ * Every selected application ends up in exactly one of updated, unchanged or conflicts.
+ */
+public class BulkStatusUpdateResult {
+
+    /**
+     * Why a selected application was not updated.
+     */
+    public enum Conflict {
+        /** The application no longer exists. */
+        NOT_FOUND,
+        /** Another recruiter changed the application after it was selected. */
+        MODIFIED
+    }
+
+    private final List<Integer> updated = new ArrayList<>();
+    private final List<Integer> unchanged = new ArrayList<>();
+    private final Map<Integer, Conflict> conflicts = new LinkedHashMap<>();
+
+    public void addUpdated(Integer applicationId) { updated.add(applicationId); }
+
+    public void addUnchanged(Integer applicationId) { unchanged.add(applicationId); }
+
+    public void addConflict(Integer applicationId, Conflict conflict) { conflicts.put(applicationId, conflict); }
+
+    public List<Integer> getUpdated() { return Collections.unmodifiableList(updated); }
+
+    public List<Integer> getUnchanged() { return Collections.unmodifiableList(unchanged); }
+
+    public Map<Integer, Conflict> getConflicts() { return Collections.unmodifiableMap(conflicts); }
+
+    public boolean hasConflicts() { return !conflicts.isEmpty(); }
+}
@@ -0,0 +1,44 @@
+package com.iv1201.recruitment.domain.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Form DTO for the recruiter candidate search.
+ * Each competence row requires the applicant to have that competence with at least
+ * the given years of experience; the optional date window requires an availability
+ * period overlapping it.
+ */
+public class CandidateSearchForm {
+
+    private List<CompetenceForm> competences = new ArrayList<>();
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+
+    public CandidateSearchForm() {}
+
+    public List<CompetenceForm> getCompetences() { return competences; }
+    public void setCompetences(List<CompetenceForm> competences) { this.competences = competences; }
+
+    public LocalDate getFromDate() { return fromDate; }
+    public void setFromDate(LocalDate fromDate) { this.fromDate = fromDate; }
+
+    public LocalDate getToDate() { return toDate; }
+    public void setToDate(LocalDate toDate) { this.toDate = toDate; }
+
+    /**
+     * Checks whether the form restricts the result at all.
+     * @return true if at least one competence or date bound is set
+     */
+    public boolean hasCriteria() {
+        return fromDate != null || toDate != null
+                || competences.stream().anyMatch(c -> c.getCompetenceId() != null);
+    }
+}
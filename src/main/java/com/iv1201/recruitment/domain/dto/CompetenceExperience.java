@@ -0,0 +1,26 @@
+package com.iv1201.recruitment.domain.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Lightweight competence name and years of experience keyed by person ID.
+ * Selected directly from the competence profile and competence tables without loading entities.
+ */
+public class CompetenceExperience {
+
+    private final Integer personId;
+    private final String competenceName;
+    private final BigDecimal yearsOfExperience;
+
+    public CompetenceExperience(Integer personId, String competenceName, BigDecimal yearsOfExperience) {
+        this.personId = personId;
+        this.competenceName = competenceName;
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    public Integer getPersonId() { return personId; }
+
+    public String getCompetenceName() { return competenceName; }
+
+    public BigDecimal getYearsOfExperience() { return yearsOfExperience; }
+}
@@ -0,0 +1,19 @@
+package com.iv1201.recruitment.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Exception thrown when a password cannot be hashed or checked because every password hashing
+ * thread is busy and the queue in front of them is full.
+ * This allows rejecting logins quickly during a login storm instead of queueing them without bound.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException(String msg) {
+        super(msg);
+    }
+
+    public PasswordHashingBusyException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,84 @@
+package com.iv1201.recruitment.repository;
+
+import com.iv1201.recruitment.domain.Person;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Specifications for the recruiter type-ahead lookup of applicants.
+ * Terms are matched as case-insensitive substrings of {@code lower(column)}, the expressions the
+ * trigram indexes of V11 are built on, so PostgreSQL can answer each term with a bitmap scan of
+ * those indexes instead of reading the whole person table.
+ */
+public final class ApplicantLookupSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private ApplicantLookupSpecifications() {
+    }
+
+    /**
+     * Matches persons with the applicant role.
+     *
+     * @return the specification
+     */
+    public static Specification<Person> isApplicant() {
+        return (root, query, cb) -> cb.equal(root.join("role").get("name"), "applicant");
+    }
+
+    /**
+     * Matches persons whose name, surname, email or personal number contains the term.
+     *
+     * @param term the search term, matched literally
+     * @return the specification
+     */
+    public static Specification<Person> containsTerm(String term) {
+        String pattern = "%" + escape(term.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("name")), pattern, ESCAPE),
+                cb.like(cb.lower(root.get("surname")), pattern, ESCAPE),
+                cb.like(cb.lower(root.get("email")), pattern, ESCAPE),
+                cb.like(cb.lower(root.get("pnr")), pattern, ESCAPE));
+    }
+
+    /**
+     * Orders persons whose name or surname starts with one of the terms first, then by surname
+     * and name. Adds no restriction.
+     *
+     * @param terms the lower-case search terms
+     * @return the specification
+     */
+    public static Specification<Person> prefixMatchesFirst(List<String> terms) {
+        return (root, query, cb) -> {
+            Expression<String> name = cb.lower(root.get("name"));
+            Expression<String> surname = cb.lower(root.get("surname"));
+            List<Predicate> prefixMatches = new ArrayList<>();
+            for (String term : terms) {
+                String pattern = escape(term.toLowerCase(Locale.ROOT)) + "%";
+                prefixMatches.add(cb.like(name, pattern, ESCAPE));
+                prefixMatches.add(cb.like(surname, pattern, ESCAPE));
+            }
+            Expression<Integer> rank = cb.<Integer>selectCase()
+                    .when(cb.or(prefixMatches.toArray(new Predicate[0])), 0)
+                    .otherwise(1);
+            query.orderBy(cb.asc(rank), cb.asc(surname), cb.asc(name), cb.asc(root.get("personId")));
+            return null;
+        };
+    }
+
+    private static String escape(String term) {
+        StringBuilder escaped = new StringBuilder(term.length());
+        for (char c : term.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -3,20 +3,38 @@ package com.iv1201.recruitment.repository;
 import com.iv1201.recruitment.domain.Application;
 import com.iv1201.recruitment.domain.ApplicationStatus;
 import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.dto.ApplicationExportRow;
+import com.iv1201.recruitment.domain.dto.ApplicationListDTO;
+import com.iv1201.recruitment.domain.dto.ApplicationStatusCount;
+import com.iv1201.recruitment.domain.dto.ApplicationVersion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Application entities.
  * Provides data access operations for job applications.
+ * Supports specifications for the multi-criteria candidate search.
  */
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Integer> {
+public interface ApplicationRepository extends JpaRepository<Application, Integer>,
+        JpaSpecificationExecutor<Application> {
 
     /**
      * Finds an application by the associated person.
@@ -34,6 +52,27 @@ public interface ApplicationRepository extends JpaRepository<Application, Intege
      */
     Optional<Application> findByPersonPersonId(Integer personId);
 
+    /**
+     * Finds an application with its person and the person's role in a single query.
+     * Used by the details page so that no further lazy loads are needed.
+     *
+     * @param applicationId the application ID
+     * @return the application with applicant loaded
+     */
+    @Query("SELECT a FROM Application a JOIN FETCH a.person p LEFT JOIN FETCH p.role "
+            + "WHERE a.applicationId = :applicationId")
+    Optional<Application> findWithPersonById(@Param("applicationId") Integer applicationId);
+
+    /**
+     * Finds the applications of the given persons.
+     * Filters on the person_id column directly so the lookup can use its unique index.
+     *
+     * @param personIds the person IDs
+     * @return the applications of those persons that have one
+     */
+    @Query("SELECT a FROM Application a WHERE a.person.personId IN :personIds")
+    List<Application> findByPersonIds(@Param("personIds") Collection<Integer> personIds);
+
     /**
      * Finds all applications with a specific status.
      *
@@ -66,6 +105,229 @@ public interface ApplicationRepository extends JpaRepository<Application, Intege
      */
     Page<Application> findByStatus(ApplicationStatus status, Pageable pageable);
 
+    /**
+     * Select clause projecting applications straight into list DTOs.
+     * Only the displayed columns and the version are read and no entities enter the persistence context.
+     */
+    String LIST_SELECT = "SELECT new com.iv1201.recruitment.domain.dto.ApplicationListDTO("
+            + "a.applicationId, p.name, p.surname, a.status, a.createdAt, a.version) "
+            + "FROM Application a LEFT JOIN a.person p ";
+
+    /**
+     * Finds all applications as list DTOs, newest first.
+     *
+     * @return list DTOs of all applications
+     */
+    @Query(LIST_SELECT + "ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationListDTO> findListOrderByCreatedAtDesc();
+
+    /**
+     * Finds applications with a specific status as list DTOs, newest first.
+     *
+     * @param status the application status
+     * @return list DTOs of applications with that status
+     */
+    @Query(LIST_SELECT + "WHERE a.status = :status ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationListDTO> findListByStatus(@Param("status") ApplicationStatus status);
+
+    /**
+     * Finds a window of applications as list DTOs, newest first, ties broken by id.
+     * No count query is issued; totals come from the maintained status counters.
+     * Serves both the first keyset page and offset pages.
+     *
+     * @param pageable offset and row limit
+     * @return list DTOs ordered newest first
+     */
+    @Query(LIST_SELECT + "ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationListDTO> findListNewestFirst(Pageable pageable);
+
+    /**
+     * Finds a window of applications with a status as list DTOs, newest first, ties broken by id.
+     *
+     * @param status the application status
+     * @param pageable offset and row limit
+     * @return list DTOs with that status ordered newest first
+     */
+    @Query(LIST_SELECT + "WHERE a.status = :status ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationListDTO> findListNewestFirstByStatus(@Param("status") ApplicationStatus status,
+                                                       Pageable pageable);
+
+    /**
+     * Finds applications that come after the given keyset position (older ones), newest first.
+     *
+     * @param createdAt creation time of the cursor row
+     * @param applicationId id of the cursor row
+     * @param pageable row limit (page number must be 0)
+     * @return list DTOs after the cursor
+     */
+    @Query(LIST_SELECT
+            + "WHERE a.createdAt < :createdAt "
+            + "OR (a.createdAt = :createdAt AND a.applicationId < :applicationId) "
+            + "ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationListDTO> findListPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("applicationId") Integer applicationId,
+                                               Pageable pageable);
+
+    /**
+     * Finds applications that come before the given keyset position (newer ones), oldest first.
+     * Callers reverse the result to restore dashboard order.
+     *
+     * @param createdAt creation time of the cursor row
+     * @param applicationId id of the cursor row
+     * @param pageable row limit (page number must be 0)
+     * @return list DTOs before the cursor, in ascending order
+     */
+    @Query(LIST_SELECT
+            + "WHERE a.createdAt > :createdAt "
+            + "OR (a.createdAt = :createdAt AND a.applicationId > :applicationId) "
+            + "ORDER BY a.createdAt ASC, a.applicationId ASC")
+    List<ApplicationListDTO> findListPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("applicationId") Integer applicationId,
+                                                Pageable pageable);
+
+    /**
+     * Finds applications with a status that come after the given keyset position, newest first.
+     *
+     * @param status the application status
+     * @param createdAt creation time of the cursor row
+     * @param applicationId id of the cursor row
+     * @param pageable row limit (page number must be 0)
+     * @return list DTOs with that status after the cursor
+     */
+    @Query(LIST_SELECT
+            + "WHERE a.status = :status "
+            + "AND (a.createdAt < :createdAt "
+            + "OR (a.createdAt = :createdAt AND a.applicationId < :applicationId)) "
+            + "ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationListDTO> findListPageAfterByStatus(@Param("status") ApplicationStatus status,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("applicationId") Integer applicationId,
+                                                       Pageable pageable);
+
+    /**
+     * Finds applications with a status that come before the given keyset position, oldest first.
+     * Callers reverse the result to restore dashboard order.
+     *
+     * @param status the application status
+     * @param createdAt creation time of the cursor row
+     * @param applicationId id of the cursor row
+     * @param pageable row limit (page number must be 0)
+     * @return list DTOs with that status before the cursor, in ascending order
+     */
+    @Query(LIST_SELECT
+            + "WHERE a.status = :status "
+            + "AND (a.createdAt > :createdAt "
+            + "OR (a.createdAt = :createdAt AND a.applicationId > :applicationId)) "
+            + "ORDER BY a.createdAt ASC, a.applicationId ASC")
+    List<ApplicationListDTO> findListPageBeforeByStatus(@Param("status") ApplicationStatus status,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("applicationId") Integer applicationId,
+                                                        Pageable pageable);
+
+    /**
+     * Rows fetched per round trip by the export streams. Without a fetch size the PostgreSQL
+     * driver reads the whole result into memory before returning the first row.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Select clause projecting applications and applicant contact details into export rows.
+     */
+    String EXPORT_SELECT = "SELECT new com.iv1201.recruitment.domain.dto.ApplicationExportRow("
+            + "a.applicationId, p.personId, p.name, p.surname, p.email, a.status, a.createdAt) "
+            + "FROM Application a JOIN a.person p ";
+
+    /**
+     * Streams all applications as export rows, ordered by person ID.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @return export rows ordered by person ID
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "ORDER BY p.personId")
+    Stream<ApplicationExportRow> streamExportRows();
+
+    /**
+     * Streams applications with a specific status as export rows, ordered by person ID.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @param status the application status
+     * @return export rows with that status ordered by person ID
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "WHERE a.status = :status ORDER BY p.personId")
+    Stream<ApplicationExportRow> streamExportRowsByStatus(@Param("status") ApplicationStatus status);
+
+    /**
+     * Counts applications with a specific status.
+     *
+     * @param status the application status
+     * @return number of applications with that status
+     */
+    long countByStatus(ApplicationStatus status);
+
+    /**
+     * Counts applications per status in one grouped scan.
+     * Used to seed the in-memory status counters at startup.
+     *
+     * @return one row per status that has at least one application
+     */
+    @Query("SELECT new com.iv1201.recruitment.domain.dto.ApplicationStatusCount(a.status, COUNT(a)) "
+            + "FROM Application a GROUP BY a.status")
+    List<ApplicationStatusCount> countGroupedByStatus();
+
+    /**
+     * Reads the current status and version of one application without loading the applicant,
+     * so a conditional GET can be answered before the full details are read.
+     *
+     * @param applicationId the application ID
+     * @return the status and version, if the application exists
+     */
+    @Query("SELECT new com.iv1201.recruitment.domain.dto.ApplicationVersion(a.applicationId, a.status, a.version) "
+            + "FROM Application a WHERE a.applicationId = :applicationId")
+    Optional<ApplicationVersion> findVersionById(@Param("applicationId") Integer applicationId);
+
+    /**
+     * Reads the current status and version of a person's application without loading the person.
+     *
+     * @param personId the applicant's person ID
+     * @return the status and version, if the person has applied
+     */
+    @Query("SELECT new com.iv1201.recruitment.domain.dto.ApplicationVersion(a.applicationId, a.status, a.version) "
+            + "FROM Application a WHERE a.person.personId = :personId")
+    Optional<ApplicationVersion> findVersionByPersonId(@Param("personId") Integer personId);
+
+    /**
+     * Reads the current status and version of the given applications and locks their rows
+     * until the transaction ends, so a bulk update can report conflicts per row.
+     *
+     * @param applicationIds the application IDs
+     * @return one row per existing application
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.iv1201.recruitment.domain.dto.ApplicationVersion(a.applicationId, a.status, a.version) "
+            + "FROM Application a WHERE a.applicationId IN :applicationIds")
+    List<ApplicationVersion> findVersionsForUpdate(@Param("applicationIds") Collection<Integer> applicationIds);
+
+    /**
+     * Sets the status of all given applications that still have the expected version,
+     * in one statement. Bumps the version like an entity update would.
+     * Bypasses the persistence context, which is cleared afterwards.
+     *
+     * @param applicationIds the application IDs
+     * @param version the version the applications are expected to have
+     * @param status the new status
+     * @param updatedAt the update timestamp
+     * @return number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :status, a.updatedAt = :updatedAt, a.version = a.version + 1 "
+            + "WHERE a.applicationId IN :applicationIds AND a.version = :version")
+    int updateStatusWhereVersion(@Param("applicationIds") Collection<Integer> applicationIds,
+                                 @Param("version") Integer version,
+                                 @Param("status") ApplicationStatus status,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
     /**
      * Checks if an application exists for a person.
      *
@@ -1,11 +1,21 @@
 package com.iv1201.recruitment.repository;
 
+import com.iv1201.recruitment.domain.ApplicationStatus;
 import com.iv1201.recruitment.domain.Availability;
+import com.iv1201.recruitment.domain.dto.AvailabilityDetailDTO;
+import com.iv1201.recruitment.domain.dto.AvailabilityPeriod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Availability entities.
@@ -23,6 +33,16 @@ public interface AvailabilityRepository extends JpaRepository<Availability, Inte
      * @return list of availability periods for the person
      */
     List<Availability> findByPersonPersonId(Integer personId);
+
+    /**
+     * Finds a person's availability periods as detail DTOs, earliest first.
+     * 
+     * @param personId the ID of the person
+     * @return availability periods for the person
+     */
+    @Query("SELECT new com.iv1201.recruitment.domain.dto.AvailabilityDetailDTO(a.fromDate, a.toDate) "
+            + "FROM Availability a WHERE a.person.personId = :personId ORDER BY a.fromDate, a.availabilityId")
+    List<AvailabilityDetailDTO> findDetailsByPersonId(@Param("personId") Integer personId);
     
     /**
      * Finds all availability periods that overlap with a given date range.
@@ -35,9 +55,65 @@ public interface AvailabilityRepository extends JpaRepository<Availability, Inte
         LocalDate endDate, LocalDate startDate);
 
     /**
-     * Deletes all availability periods for a specific person.
+     * Loads every availability period as a lightweight projection.
+     * Used to build the in-memory availability index at startup.
+     * 
+     * @return all complete availability periods
+     */
+    @Query("SELECT new com.iv1201.recruitment.domain.dto.AvailabilityPeriod(a.person.personId, a.fromDate, a.toDate) "
+            + "FROM Availability a WHERE a.fromDate IS NOT NULL AND a.toDate IS NOT NULL")
+    List<AvailabilityPeriod> findAllPeriods();
+
+    /**
+     * Finds availability periods overlapping a date range as lightweight projections.
+     * Fallback for the in-memory availability index while it is not loaded.
+     * 
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return periods overlapping the given range
+     */
+    @Query("SELECT new com.iv1201.recruitment.domain.dto.AvailabilityPeriod(a.person.personId, a.fromDate, a.toDate) "
+            + "FROM Availability a WHERE a.fromDate <= :endDate AND a.toDate >= :startDate")
+    List<AvailabilityPeriod> findPeriodsOverlapping(@Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    /**
+     * Select clause projecting the availability of applicants who have an application.
+     */
+    String EXPORT_SELECT = "SELECT new com.iv1201.recruitment.domain.dto.AvailabilityPeriod("
+            + "av.person.personId, av.fromDate, av.toDate) "
+            + "FROM Availability av JOIN Application a ON a.person.personId = av.person.personId ";
+
+    /**
+     * Streams the availability periods of every applicant with an application, ordered by
+     * person ID so they can be merged with {@link ApplicationRepository#streamExportRows()}.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @return availability periods ordered by person ID, earliest first
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ApplicationRepository.EXPORT_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "ORDER BY av.person.personId, av.fromDate, av.availabilityId")
+    Stream<AvailabilityPeriod> streamExportRows();
+
+    /**
+     * Streams the availability periods of applicants whose application has a specific status,
+     * ordered by person ID. Must be consumed and closed inside a transaction.
+     *
+     * @param status the application status
+     * @return availability periods ordered by person ID, earliest first
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ApplicationRepository.EXPORT_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "WHERE a.status = :status ORDER BY av.person.personId, av.fromDate, av.availabilityId")
+    Stream<AvailabilityPeriod> streamExportRowsByStatus(@Param("status") ApplicationStatus status);
+
+    /**
+     * Deletes all availability periods for a specific person in a single bulk statement,
+     * without loading the rows first. Bypasses the persistence context.
      * 
      * @param personId the ID of the person
+     * @return number of deleted rows
      */
-    void deleteByPersonPersonId(Integer personId);
+    @Modifying
+    @Query("DELETE FROM Availability a WHERE a.person.personId = :personId")
+    int deleteByPersonPersonId(@Param("personId") Integer personId);
 }
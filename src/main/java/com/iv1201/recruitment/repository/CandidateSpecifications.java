@@ -0,0 +1,101 @@
+package com.iv1201.recruitment.repository;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.Availability;
+import com.iv1201.recruitment.domain.CompetenceProfile;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Specifications for searching applications by the applicant's competences and availability.
+ * Each criterion is a correlated EXISTS subquery on the person, so any combination
+ * is executed as a single SQL statement.
+ */
+public final class CandidateSpecifications {
+
+    private CandidateSpecifications() {
+    }
+
+    /**
+     * Matches applicants who have a competence with at least the given years of experience.
+     *
+     * @param competenceId the competence ID
+     * @param minYears minimum years of experience, or null for any
+     * @return the specification
+     */
+    public static Specification<Application> hasCompetence(Integer competenceId, BigDecimal minYears) {
+        return (root, query, cb) -> {
+            Subquery<Integer> sub = query.subquery(Integer.class);
+            var profile = sub.from(CompetenceProfile.class);
+            sub.select(profile.get("competenceProfileId"));
+
+            var person = profile.get("person").get("personId");
+            var competence = profile.get("competence").get("competenceId");
+            if (minYears == null) {
+                sub.where(cb.equal(person, root.get("person").get("personId")),
+                        cb.equal(competence, competenceId));
+            } else {
+                sub.where(cb.equal(person, root.get("person").get("personId")),
+                        cb.equal(competence, competenceId),
+                        cb.greaterThanOrEqualTo(profile.get("yearsOfExperience"), minYears));
+            }
+            return cb.exists(sub);
+        };
+    }
+
+    /**
+     * Matches applicants with an availability period overlapping [fromDate, toDate].
+     * Either bound may be null to leave that side open.
+     *
+     * @param fromDate start of the window, or null
+     * @param toDate end of the window, or null
+     * @return the specification
+     */
+    public static Specification<Application> availableDuring(LocalDate fromDate, LocalDate toDate) {
+        return (root, query, cb) -> {
+            Subquery<Integer> sub = query.subquery(Integer.class);
+            var availability = sub.from(Availability.class);
+            sub.select(availability.get("availabilityId"));
+
+            var predicate = cb.equal(availability.get("person").get("personId"), root.get("person").get("personId"));
+            if (toDate != null) {
+                predicate = cb.and(predicate, cb.lessThanOrEqualTo(availability.get("fromDate"), toDate));
+            }
+            if (fromDate != null) {
+                predicate = cb.and(predicate, cb.greaterThanOrEqualTo(availability.get("toDate"), fromDate));
+            }
+            sub.where(predicate);
+            return cb.exists(sub);
+        };
+    }
+
+    /**
+     * Matches applications of the given persons.
+     *
+     * @param personIds the person IDs
+     * @return the specification
+     */
+    public static Specification<Application> personIn(Collection<Integer> personIds) {
+        return (root, query, cb) -> root.get("person").get("personId").in(personIds);
+    }
+
+    /**
+     * Fetch-joins the applicant and role so listing results does not load them row by row.
+     * Skipped for the count query, where a fetch join is not allowed.
+     *
+     * @return the specification
+     */
+    public static Specification<Application> fetchApplicant() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("person", JoinType.LEFT).fetch("role", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
@@ -1,10 +1,20 @@
 package com.iv1201.recruitment.repository;
 
+import com.iv1201.recruitment.domain.ApplicationStatus;
 import com.iv1201.recruitment.domain.CompetenceProfile;
+import com.iv1201.recruitment.domain.dto.CompetenceDetailDTO;
+import com.iv1201.recruitment.domain.dto.CompetenceExperience;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for CompetenceProfile entities.
@@ -22,7 +32,49 @@ public interface CompetenceProfileRepository extends JpaRepository<CompetencePro
      * @return list of competence profiles for the person
      */
     List<CompetenceProfile> findByPersonPersonId(Integer personId);
+
+    /**
+     * Finds a person's competences with their names as detail DTOs.
+     * Joins the competence in the same query instead of loading it per profile.
+     * 
+     * @param personId the ID of the person
+     * @return competence names and years of experience for the person
+     */
+    @Query("SELECT new com.iv1201.recruitment.domain.dto.CompetenceDetailDTO(c.name, cp.yearsOfExperience) "
+            + "FROM CompetenceProfile cp JOIN cp.competence c WHERE cp.person.personId = :personId "
+            + "ORDER BY cp.competenceProfileId")
+    List<CompetenceDetailDTO> findDetailsByPersonId(@Param("personId") Integer personId);
     
+    /**
+     * Select clause projecting the competences of applicants who have an application.
+     */
+    String EXPORT_SELECT = "SELECT new com.iv1201.recruitment.domain.dto.CompetenceExperience("
+            + "cp.person.personId, c.name, cp.yearsOfExperience) "
+            + "FROM CompetenceProfile cp JOIN cp.competence c "
+            + "JOIN Application a ON a.person.personId = cp.person.personId ";
+
+    /**
+     * Streams the competences of every applicant with an application, ordered by person ID
+     * so they can be merged with {@link ApplicationRepository#streamExportRows()}.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @return competences ordered by person ID
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ApplicationRepository.EXPORT_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "ORDER BY cp.person.personId, cp.competenceProfileId")
+    Stream<CompetenceExperience> streamExportRows();
+
+    /**
+     * Streams the competences of applicants whose application has a specific status,
+     * ordered by person ID. Must be consumed and closed inside a transaction.
+     *
+     * @param status the application status
+     * @return competences ordered by person ID
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ApplicationRepository.EXPORT_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "WHERE a.status = :status ORDER BY cp.person.personId, cp.competenceProfileId")
+    Stream<CompetenceExperience> streamExportRowsByStatus(@Param("status") ApplicationStatus status);
+
     /**
      * Finds all competence profiles for a specific competence.
      * 
@@ -32,9 +84,13 @@ public interface CompetenceProfileRepository extends JpaRepository<CompetencePro
     List<CompetenceProfile> findByCompetenceCompetenceId(Integer competenceId);
 
     /**
-     * Deletes all competence profiles for a specific person.
+     * Deletes all competence profiles for a specific person in a single bulk statement,
+     * without loading the rows first. Bypasses the persistence context.
      * 
      * @param personId the ID of the person
+     * @return number of deleted rows
      */
-    void deleteByPersonPersonId(Integer personId);
+    @Modifying
+    @Query("DELETE FROM CompetenceProfile cp WHERE cp.person.personId = :personId")
+    int deleteByPersonPersonId(@Param("personId") Integer personId);
 }
@@ -1,8 +1,14 @@
 package com.iv1201.recruitment.repository;
 
 import com.iv1201.recruitment.domain.Person;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,13 +16,15 @@ import java.util.Optional;
  * Repository for Person entity operations.
  */
 @Repository
-public interface PersonRepository extends JpaRepository<Person, Integer> {
+public interface PersonRepository extends JpaRepository<Person, Integer>, JpaSpecificationExecutor<Person> {
 
     /**
-     * Find a person by their username.
+     * Find a person by their username, with the role fetched in the same query
+     * since every login needs it.
      * @param username the username to search for
      * @return Optional containing the person if found
      */
+    @EntityGraph(attributePaths = "role")
     Optional<Person> findByUsername(String username);
 
     /**
@@ -39,4 +47,22 @@ public interface PersonRepository extends JpaRepository<Person, Integer> {
      * @return true if email exists
      */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Replaces a person's password hash, but only if it is still the expected one, so a
+     * password changed in the meantime is never overwritten. Runs in its own transaction
+     * and bypasses the persistence context.
+     *
+     * @param username the username of the person
+     * @param expectedPassword the hash the person is expected to have
+     * @param newPassword the new hash
+     * @return number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Person p SET p.password = :newPassword "
+            + "WHERE p.username = :username AND p.password = :expectedPassword")
+    int updatePasswordWhere(@Param("username") String username,
+                            @Param("expectedPassword") String expectedPassword,
+                            @Param("newPassword") String newPassword);
+}
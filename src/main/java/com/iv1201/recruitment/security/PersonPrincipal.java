@@ -0,0 +1,38 @@
+package com.iv1201.recruitment.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated user that also carries the person's ID and display name,
+ * so request handlers can identify the person without querying the database.
+ */
+public class PersonPrincipal extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Integer personId;
+    private final String displayName;
+
+    public PersonPrincipal(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                           Integer personId, String displayName) {
+        super(username, password, authorities);
+        this.personId = personId;
+        this.displayName = displayName;
+    }
+
+    public Integer getPersonId() { return personId; }
+
+    public String getDisplayName() { return displayName; }
+
+    /**
+     * Creates an independent copy, keeping the password even if this instance is later erased.
+     *
+     * @return a copy of this principal
+     */
+    public PersonPrincipal copy() {
+        return new PersonPrincipal(getUsername(), getPassword(), getAuthorities(), personId, displayName);
+    }
+}
@@ -0,0 +1,33 @@
+package com.iv1201.recruitment.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.security.Principal;
+
+/**
+ * Resolves {@link PersonPrincipal} handler parameters from the authenticated request.
+ * Resolves to null when the request is not authenticated with a person principal.
+ */
+public class PersonPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return PersonPrincipal.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Principal principal = webRequest.getUserPrincipal();
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof PersonPrincipal person) {
+            return person;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,543 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.dto.CompetenceForm;
+import com.iv1201.recruitment.domain.dto.RegistrationForm;
+import com.iv1201.recruitment.util.CsvReader;
+import com.iv1201.recruitment.util.CsvWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Bulk-imports applicants delivered by partner agencies as CSV.
+ *
+ * The file starts with a header row naming the columns {@code name}, {@code surname}, {@code pnr}
+ * and {@code email}, and optionally {@code competences} and {@code availability} written as in the
+ * recruiter export ({@code name: years; ...} and {@code from/to; ...}). Other columns are ignored.
+ * Rows are checked with the registration rules and rejected when their personal number or email is
+ * already registered or appears earlier in the same chunk.
+ *
+ * Imported persons get neither username nor password, like the legacy applicants, and claim their
+ * account through the email verification flow. Those with at least one competence get an unhandled
+ * application, as the legacy applicants did when applications were introduced.
+ *
+ * The file is read one row at a time and loaded in chunks, each in its own transaction, with
+ * {@code COPY} on PostgreSQL and batched inserts elsewhere. If loading a chunk fails the import
+ * stops; chunks loaded before it stay committed, and since their rows are then registered,
+ * running the same file again only adds what is missing.
+ */
+public class ApplicantImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicantImporter.class);
+
+    static final int DEFAULT_CHUNK_SIZE = 500;
+    static final String[] REQUIRED_COLUMNS = {"name", "surname", "pnr", "email"};
+    private static final String COMPETENCES_COLUMN = "competences";
+    private static final String AVAILABILITY_COLUMN = "availability";
+
+    private static final String COMPETENCE_PROFILE_SEQUENCE = "competence_profile_competence_profile_id_seq";
+    private static final String AVAILABILITY_SEQUENCE = "availability_availability_id_seq";
+    // Must match the allocation size of the pooled id generators on the entities
+    private static final int SEQUENCE_INCREMENT = 50;
+    // years_of_experience is numeric(4,2)
+    private static final BigDecimal MAX_YEARS = new BigDecimal("99.99");
+
+    private final DataSource dataSource;
+    private final Validator validator;
+    private final int chunkSize;
+
+    /**
+     * Constructs an ApplicantImporter.
+     *
+     * @param dataSource the database to load into
+     * @param validator validator applying the registration form constraints
+     * @param chunkSize number of accepted rows loaded per transaction
+     */
+    public ApplicantImporter(DataSource dataSource, Validator validator, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.dataSource = dataSource;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports all rows of a CSV file. Roles and competences must already exist.
+     * Each rejected row is written to {@code rejects} with its line number, the reason and
+     * the original fields.
+     *
+     * @param source the CSV input
+     * @param rejects destination for rejected rows; flushed but not closed
+     * @return rows read and rejected, and rows inserted per table, in that order
+     * @throws IOException if the input cannot be read or the rejects cannot be written
+     * @throws SQLException if loading a chunk fails; earlier chunks stay committed
+     * @throws IllegalArgumentException if the header lacks a required column
+     */
+    public Map<String, Long> importCsv(Reader source, Writer rejects) throws IOException, SQLException {
+        long start = System.nanoTime();
+        CsvReader csv = new CsvReader(source);
+        List<String> header = csv.readRow();
+        if (header == null) {
+            throw new IllegalArgumentException("The import file is empty");
+        }
+        Columns columns = new Columns(header);
+        CsvWriter rejected = new CsvWriter(rejects);
+        List<String> rejectHeader = new ArrayList<>(List.of("line", "reason"));
+        rejectHeader.addAll(header);
+        rejected.writeRow(rejectHeader.toArray(String[]::new));
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String key : List.of("read", "rejected", "person", "competence_profile", "availability", "application")) {
+            counts.put(key, 0L);
+        }
+        boolean postgres;
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                postgres = connection.isWrapperFor(PGConnection.class);
+                int roleId = findApplicantRoleId(connection);
+                Map<String, Integer> competenceIds = findCompetenceIds(connection);
+                Loader loader = new Loader(connection, postgres, roleId, rejected, counts);
+
+                Chunk chunk = new Chunk();
+                List<String> row;
+                while ((row = csv.readRow()) != null) {
+                    if (row.stream().allMatch(String::isBlank)) {
+                        continue;
+                    }
+                    counts.merge("read", 1L, Long::sum);
+                    long line = csv.getLineNumber();
+                    try {
+                        chunk.add(line, row, parse(row, columns, competenceIds));
+                    } catch (IllegalArgumentException e) {
+                        reject(rejected, counts, line, e.getMessage(), row);
+                    }
+                    if (chunk.size() >= chunkSize) {
+                        loader.load(chunk);
+                        chunk = new Chunk();
+                        logger.info("Import progress: {} rows read, {} persons imported, {} rejected",
+                            counts.get("read"), counts.get("person"), counts.get("rejected"));
+                    }
+                }
+                loader.load(chunk);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            if (postgres && counts.get("person") > 0) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ANALYZE person, competence_profile, availability, application");
+                }
+            }
+        }
+        rejects.flush();
+        logger.info("Applicant import finished with {} in {} ms: {}",
+            postgres ? "COPY" : "batched inserts", (System.nanoTime() - start) / 1_000_000, counts);
+        return counts;
+    }
+
+    /**
+     * Validates and converts one row.
+     *
+     * @throws IllegalArgumentException with the rejection reason if the row is invalid
+     */
+    private ImportedApplicant parse(List<String> row, Columns columns, Map<String, Integer> competenceIds) {
+        RegistrationForm form = new RegistrationForm();
+        form.setName(columns.get(row, "name"));
+        form.setSurname(columns.get(row, "surname"));
+        form.setPnr(columns.get(row, "pnr"));
+        form.setEmail(columns.get(row, "email"));
+
+        StringJoiner errors = new StringJoiner("; ");
+        for (String property : REQUIRED_COLUMNS) {
+            for (ConstraintViolation<RegistrationForm> violation : validator.validateProperty(form, property)) {
+                errors.add(property + ": " + violation.getMessage());
+            }
+        }
+        if (errors.length() > 0) {
+            throw new IllegalArgumentException(errors.toString());
+        }
+
+        ImportedApplicant applicant = new ImportedApplicant(form);
+        for (String entry : split(columns.get(row, COMPETENCES_COLUMN))) {
+            applicant.competences.add(parseCompetence(entry, competenceIds));
+        }
+        for (String entry : split(columns.get(row, AVAILABILITY_COLUMN))) {
+            applicant.periods.add(parsePeriod(entry));
+        }
+        return applicant;
+    }
+
+    private CompetenceForm parseCompetence(String entry, Map<String, Integer> competenceIds) {
+        int colon = entry.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Competence must be written as name: years: " + entry);
+        }
+        String name = entry.substring(0, colon).trim();
+        Integer competenceId = competenceIds.get(name.toLowerCase(Locale.ROOT));
+        if (competenceId == null) {
+            throw new IllegalArgumentException("Unknown competence: " + name);
+        }
+        BigDecimal years;
+        try {
+            years = new BigDecimal(entry.substring(colon + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid years of experience: " + entry);
+        }
+        CompetenceForm competence = new CompetenceForm(competenceId, years);
+        Set<ConstraintViolation<CompetenceForm>> violations = validator.validate(competence);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.iterator().next().getMessage() + ": " + entry);
+        }
+        if (years.compareTo(MAX_YEARS) > 0 || years.scale() > 2) {
+            throw new IllegalArgumentException("Years of experience must be below 100 with at most two decimals: "
+                + entry);
+        }
+        return competence;
+    }
+
+    private static LocalDate[] parsePeriod(String entry) {
+        int slash = entry.indexOf('/');
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(entry.substring(0, Math.max(slash, 0)).trim());
+            to = LocalDate.parse(entry.substring(slash + 1).trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Availability must be written as yyyy-mm-dd/yyyy-mm-dd: " + entry);
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Availability ends before it starts: " + entry);
+        }
+        return new LocalDate[] {from, to};
+    }
+
+    private static List<String> split(String list) {
+        List<String> entries = new ArrayList<>();
+        if (list != null) {
+            for (String entry : list.split(";")) {
+                if (!entry.isBlank()) {
+                    entries.add(entry.trim());
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static void reject(CsvWriter rejected, Map<String, Long> counts, long line, String reason,
+                               List<String> row) throws IOException {
+        List<String> fields = new ArrayList<>(List.of(String.valueOf(line), reason));
+        fields.addAll(row);
+        rejected.writeRow(fields.toArray(String[]::new));
+        counts.merge("rejected", 1L, Long::sum);
+        logger.debug("Import row on line {} rejected: {}", line, reason);
+    }
+
+    private static int findApplicantRoleId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT role_id FROM role WHERE name = 'applicant'")) {
+            if (!result.next()) {
+                throw new IllegalStateException("Role 'applicant' does not exist");
+            }
+            return result.getInt(1);
+        }
+    }
+
+    private static Map<String, Integer> findCompetenceIds(Connection connection) throws SQLException {
+        Map<String, Integer> ids = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT competence_id, name FROM competence")) {
+            while (result.next()) {
+                ids.put(result.getString(2).toLowerCase(Locale.ROOT), result.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    private static String placeholders(int count) {
+        return "?, ".repeat(count - 1) + "?";
+    }
+
+    /**
+     * Loads chunks of accepted rows, one transaction per chunk.
+     */
+    private static final class Loader {
+
+        private final Connection connection;
+        private final boolean postgres;
+        private final int roleId;
+        private final CsvWriter rejected;
+        private final Map<String, Long> counts;
+        private final PooledIds competenceProfileIds;
+        private final PooledIds availabilityIds;
+
+        private Loader(Connection connection, boolean postgres, int roleId, CsvWriter rejected,
+                       Map<String, Long> counts) {
+            this.connection = connection;
+            this.postgres = postgres;
+            this.roleId = roleId;
+            this.rejected = rejected;
+            this.counts = counts;
+            this.competenceProfileIds = new PooledIds(connection, COMPETENCE_PROFILE_SEQUENCE);
+            this.availabilityIds = new PooledIds(connection, AVAILABILITY_SEQUENCE);
+        }
+
+        private void load(Chunk chunk) throws SQLException, IOException {
+            if (chunk.size() == 0) {
+                return;
+            }
+            Map<String, Long> inserted = new HashMap<>();
+            try {
+                List<ImportedApplicant> accepted = rejectRegistered(chunk);
+                if (!accepted.isEmpty()) {
+                    inserted = insert(accepted);
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                logger.error("Import stopped at the chunk starting on line {}; earlier chunks are committed",
+                    chunk.lines.get(0));
+                throw e;
+            }
+            inserted.forEach((table, rows) -> counts.merge(table, rows, Long::sum));
+        }
+
+        /**
+         * Rejects the rows whose personal number or email is already registered.
+         */
+        private List<ImportedApplicant> rejectRegistered(Chunk chunk) throws SQLException, IOException {
+            Set<String> pnrs = new HashSet<>();
+            Set<String> emails = new HashSet<>();
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT pnr, email FROM person WHERE pnr IN (" + placeholders(chunk.size())
+                        + ") OR email IN (" + placeholders(chunk.size()) + ")")) {
+                int index = 1;
+                for (ImportedApplicant applicant : chunk.applicants) {
+                    statement.setString(index++, applicant.pnr);
+                }
+                for (ImportedApplicant applicant : chunk.applicants) {
+                    statement.setString(index++, applicant.email);
+                }
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        pnrs.add(result.getString(1));
+                        emails.add(result.getString(2));
+                    }
+                }
+            }
+
+            List<ImportedApplicant> accepted = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                ImportedApplicant applicant = chunk.applicants.get(i);
+                if (pnrs.contains(applicant.pnr)) {
+                    reject(rejected, counts, chunk.lines.get(i), "pnr: already registered", chunk.rows.get(i));
+                } else if (emails.contains(applicant.email)) {
+                    reject(rejected, counts, chunk.lines.get(i), "email: already registered", chunk.rows.get(i));
+                } else {
+                    accepted.add(applicant);
+                }
+            }
+            return accepted;
+        }
+
+        private Map<String, Long> insert(List<ImportedApplicant> applicants) throws SQLException {
+            Map<String, Long> rows = new HashMap<>();
+            try (RowSink sink = RowSink.open(connection, postgres, "person",
+                    "name", "surname", "pnr", "email", "password", "role_id", "username")) {
+                for (ImportedApplicant applicant : applicants) {
+                    sink.add(applicant.name, applicant.surname, applicant.pnr, applicant.email, null, roleId, null);
+                }
+                rows.put("person", sink.rows());
+            }
+            Map<String, Integer> personIds = findPersonIds(applicants);
+
+            try (RowSink sink = RowSink.open(connection, postgres, "competence_profile",
+                    "competence_profile_id", "person_id", "competence_id", "years_of_experience")) {
+                for (ImportedApplicant applicant : applicants) {
+                    for (CompetenceForm competence : applicant.competences) {
+                        sink.add(competenceProfileIds.next(), personIds.get(applicant.email),
+                            competence.getCompetenceId(), competence.getYearsOfExperience());
+                    }
+                }
+                rows.put("competence_profile", sink.rows());
+            }
+
+            try (RowSink sink = RowSink.open(connection, postgres, "availability",
+                    "availability_id", "person_id", "from_date", "to_date")) {
+                for (ImportedApplicant applicant : applicants) {
+                    for (LocalDate[] period : applicant.periods) {
+                        sink.add(availabilityIds.next(), personIds.get(applicant.email), period[0], period[1]);
+                    }
+                }
+                rows.put("availability", sink.rows());
+            }
+
+            LocalDateTime now = LocalDateTime.now().withNano(0);
+            try (RowSink sink = RowSink.open(connection, postgres, "application",
+                    "person_id", "status", "created_at", "updated_at", "version")) {
+                for (ImportedApplicant applicant : applicants) {
+                    if (!applicant.competences.isEmpty()) {
+                        sink.add(personIds.get(applicant.email), ApplicationStatus.UNHANDLED.name(), now, now, 0);
+                    }
+                }
+                rows.put("application", sink.rows());
+            }
+            return rows;
+        }
+
+        /**
+         * Reads back the database-generated person ids by email, which is unique.
+         */
+        private Map<String, Integer> findPersonIds(Collection<ImportedApplicant> applicants) throws SQLException {
+            Map<String, Integer> ids = new HashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT person_id, email FROM person WHERE email IN (" + placeholders(applicants.size()) + ")")) {
+                int index = 1;
+                for (ImportedApplicant applicant : applicants) {
+                    statement.setString(index++, applicant.email);
+                }
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        ids.put(result.getString(2), result.getInt(1));
+                    }
+                }
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * Hands out ids in the blocks a pooled Hibernate generator takes for each sequence value,
+     * so the import and running application instances can draw from the same sequence.
+     */
+    private static final class PooledIds {
+
+        private final Connection connection;
+        private final String sequence;
+        private int next = 1;
+        private int last;
+
+        private PooledIds(Connection connection, String sequence) {
+            this.connection = connection;
+            this.sequence = sequence;
+        }
+
+        private int next() throws SQLException {
+            if (next > last) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet result = statement.executeQuery("SELECT nextval('" + sequence + "')")) {
+                    result.next();
+                    last = result.getInt(1);
+                }
+                next = Math.max(1, last - SEQUENCE_INCREMENT + 1);
+            }
+            return next++;
+        }
+    }
+
+    /**
+     * Accepted rows waiting to be loaded, with their line numbers and original fields.
+     */
+    private static final class Chunk {
+
+        private final List<ImportedApplicant> applicants = new ArrayList<>();
+        private final List<Long> lines = new ArrayList<>();
+        private final List<List<String>> rows = new ArrayList<>();
+        private final Set<String> pnrs = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+
+        private void add(long line, List<String> row, ImportedApplicant applicant) {
+            if (!pnrs.add(applicant.pnr)) {
+                throw new IllegalArgumentException("pnr: appears earlier in the file");
+            }
+            if (!emails.add(applicant.email)) {
+                pnrs.remove(applicant.pnr);
+                throw new IllegalArgumentException("email: appears earlier in the file");
+            }
+            applicants.add(applicant);
+            lines.add(line);
+            rows.add(row);
+        }
+
+        private int size() {
+            return applicants.size();
+        }
+    }
+
+    /**
+     * Column positions by lower-case header name.
+     */
+    private static final class Columns {
+
+        private final Map<String, Integer> positions = new HashMap<>();
+
+        private Columns(List<String> header) {
+            for (int i = 0; i < header.size(); i++) {
+                positions.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : REQUIRED_COLUMNS) {
+                if (!positions.containsKey(column)) {
+                    throw new IllegalArgumentException("The import file has no '" + column + "' column");
+                }
+            }
+        }
+
+        /**
+         * Gets the trimmed value of a column, or null if the row or header lacks it.
+         */
+        private String get(List<String> row, String column) {
+            Integer position = positions.get(column);
+            return position == null || position >= row.size() ? null : row.get(position).trim();
+        }
+    }
+
+    /**
+     * One validated row.
+     */
+    private static final class ImportedApplicant {
+
+        private final String name;
+        private final String surname;
+        private final String pnr;
+        private final String email;
+        private final List<CompetenceForm> competences = new ArrayList<>();
+        private final List<LocalDate[]> periods = new ArrayList<>();
+
+        private ImportedApplicant(RegistrationForm form) {
+            this.name = form.getName();
+            this.surname = form.getSurname();
+            this.pnr = form.getPnr();
+            this.email = form.getEmail();
+        }
+    }
+}
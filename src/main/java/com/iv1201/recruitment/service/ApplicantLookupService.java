@@ -0,0 +1,130 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.dto.ApplicantLookupDTO;
+import com.iv1201.recruitment.domain.dto.ApplicantLookupResult;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.repository.PersonRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.iv1201.recruitment.repository.ApplicantLookupSpecifications.containsTerm;
+import static com.iv1201.recruitment.repository.ApplicantLookupSpecifications.isApplicant;
+import static com.iv1201.recruitment.repository.ApplicantLookupSpecifications.prefixMatchesFirst;
+
+/**
+ * Finds applicants by name, surname, email or personal number while a recruiter types.
+ *
+ * Every whitespace-separated term must occur in one of those columns. Terms shorter than
+ * {@link #MIN_TERM_LENGTH} characters are ignored, since a trigram index cannot answer them;
+ * a query without a longer term returns nothing instead of scanning the person table.
+ * At most {@link #MAX_RESULTS} applicants are returned, ranked by the database with applicants
+ * whose name or surname starts with a term first. The trigram indexes are only read by bitmap
+ * scans, which collect every match before the limit applies, so ranking in the query costs one
+ * sort of the matches and makes the returned applicants the best ones rather than the first found.
+ * Lookups are timed as {@code recruitment.applicant.lookup}.
+ */
+@Service
+public class ApplicantLookupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicantLookupService.class);
+
+    /** Shortest term matched; trigram indexes need at least three characters. */
+    public static final int MIN_TERM_LENGTH = 3;
+    /** Largest number of applicants returned for one query. */
+    public static final int MAX_RESULTS = 10;
+    private static final int MAX_TERMS = 4;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final PersonRepository personRepository;
+    private final ApplicationRepository applicationRepository;
+
+    /**
+     * Constructs an ApplicantLookupService with required dependencies.
+     *
+     * @param personRepository repository for person entities
+     * @param applicationRepository repository for application entities
+     */
+    public ApplicantLookupService(PersonRepository personRepository,
+                                  ApplicationRepository applicationRepository) {
+        this.personRepository = personRepository;
+        this.applicationRepository = applicationRepository;
+    }
+
+    /**
+     * Looks up applicants matching every term of the query.
+     *
+     * @param query the text typed so far
+     * @return up to {@link #MAX_RESULTS} matches, with their applications
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "recruitment.applicant.lookup", histogram = true)
+    public ApplicantLookupResult lookup(String query) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return new ApplicantLookupResult(query, List.of(), false);
+        }
+
+        Specification<Person> spec = isApplicant();
+        for (String term : terms) {
+            spec = spec.and(containsTerm(term));
+        }
+        spec = spec.and(prefixMatchesFirst(terms));
+        List<Person> persons = personRepository.findBy(spec, q -> q.limit(MAX_RESULTS + 1).all());
+        boolean truncated = persons.size() > MAX_RESULTS;
+        if (truncated) {
+            persons = persons.subList(0, MAX_RESULTS);
+        }
+
+        Map<Integer, Application> applications = new HashMap<>();
+        if (!persons.isEmpty()) {
+            for (Application application : applicationRepository.findByPersonIds(
+                    persons.stream().map(Person::getPersonId).toList())) {
+                applications.put(application.getPerson().getPersonId(), application);
+            }
+        }
+
+        List<ApplicantLookupDTO> matches = new ArrayList<>();
+        for (Person person : persons) {
+            Application application = applications.get(person.getPersonId());
+            matches.add(new ApplicantLookupDTO(person.getPersonId(), person.getName(), person.getSurname(),
+                    person.getEmail(), person.getPnr(),
+                    application == null ? null : application.getApplicationId(),
+                    application == null ? null : application.getStatus()));
+        }
+        logger.debug("Applicant lookup with {} terms: {} matches{}", terms.size(), matches.size(),
+                truncated ? " (capped)" : "");
+        return new ApplicantLookupResult(query, matches, truncated);
+    }
+
+    /**
+     * Splits the query into the lower-case terms long enough to look up.
+     */
+    private static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        String trimmed = query.strip();
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            trimmed = trimmed.substring(0, MAX_QUERY_LENGTH);
+        }
+        for (String term : trimmed.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (term.length() >= MIN_TERM_LENGTH && !terms.contains(term) && terms.size() < MAX_TERMS) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,274 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.dto.ApplicationChange;
+import com.iv1201.recruitment.util.AfterCommit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes committed application changes to open recruiter dashboards as server-sent events.
+ *
+ * Subscribers are held in memory as {@link SseEmitter}s on async requests, so an open dashboard
+ * costs no thread and no database connection. Changes are announced after their transaction
+ * commits, as one {@code created} or {@code status} event per transaction carrying a list of
+ * {@link ApplicationChange}s. A single dispatch thread hands each event to every subscriber's
+ * bounded queue, so the committing request never waits for a client. A subscriber's queue is
+ * written by a pooled thread only while it holds events, so one stalled client blocks no one
+ * else; a client that falls a full queue behind is dropped, and its browser reconnects.
+ * The dispatch thread also queues a comment every heartbeat interval, which keeps proxies from
+ * closing idle streams and drops clients that went away. Subscriptions end after the timeout
+ * and the browser then reconnects.
+ *
+ * The number of open streams is published
+ * as the {@code recruitment.dashboard.subscribers} gauge and sent events as the
+ * {@code recruitment.dashboard.events} counter.
+ */
+public class ApplicationEventBroadcaster implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationEventBroadcaster.class);
+
+    /** Event name for newly submitted applications. */
+    public static final String CREATED = "created";
+    /** Event name for status changes. */
+    public static final String STATUS = "status";
+
+    private static final long RECONNECT_MILLIS = 5000;
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final ScheduledExecutorService dispatcher;
+    // Platform threads: the emitter writes while holding its monitor, which would pin a virtual thread
+    private final ExecutorService writers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-events-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final LongAdder sent = new LongAdder();
+
+    /**
+     * Constructs a broadcaster and starts its dispatch thread.
+     *
+     * @param timeout how long one subscription stays open
+     * @param heartbeat how often idle streams get a keep-alive comment
+     * @param queueCapacity how many events a subscriber may fall behind before it is dropped
+     */
+    public ApplicationEventBroadcaster(Duration timeout, Duration heartbeat, int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be at least 1");
+        }
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = queueCapacity;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleAtFixedRate(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream for one dashboard.
+     *
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * Registers an emitter created by the caller, as {@link #subscribe()} does with its own.
+     */
+    SseEmitter subscribe(SseEmitter emitter) {
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(emitter));
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscribers.put(emitter, new Subscriber(emitter));
+        logger.debug("Dashboard subscribed, {} open", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Announces a newly submitted application once the current transaction commits.
+     *
+     * @param change the new application
+     */
+    public void applicationCreated(ApplicationChange change) {
+        AfterCommit.run(() -> dispatch(CREATED, List.of(change)));
+    }
+
+    /**
+     * Announces status changes made in one transaction once it commits.
+     *
+     * @param changes the changed applications
+     */
+    public void statusChanged(List<ApplicationChange> changes) {
+        if (!changes.isEmpty()) {
+            List<ApplicationChange> committed = List.copyOf(changes);
+            AfterCommit.run(() -> dispatch(STATUS, committed));
+        }
+    }
+
+    /**
+     * Gets the number of open dashboard streams.
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Stops the dispatch thread and closes every open stream.
+     */
+    public void stop() {
+        dispatcher.shutdownNow();
+        writers.shutdownNow();
+        subscribers.keySet().forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("recruitment.dashboard.subscribers", subscribers, Map::size)
+                .description("Open recruiter dashboard event streams")
+                .register(registry);
+        FunctionCounter.builder("recruitment.dashboard.events", sent, LongAdder::sum)
+                .description("Events written to recruiter dashboard streams")
+                .register(registry);
+    }
+
+    private void dispatch(String name, List<ApplicationChange> changes) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> {
+                // Built once and queued for every stream
+                int queued = send(SseEmitter.event().name(name)
+                        .data(changes, MediaType.APPLICATION_JSON).build());
+                logger.debug("Queued {} event with {} changes for {} dashboards", name, changes.size(), queued);
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Dashboard events stopped, {} event dropped", name);
+        }
+    }
+
+    private void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            send(SseEmitter.event().comment("heartbeat").build());
+        }
+    }
+
+    private int send(Set<DataWithMediaType> event) {
+        int queued = 0;
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.offer(event)) {
+                queued++;
+            } else {
+                subscribers.remove(subscriber.emitter);
+                subscriber.close();
+                logger.debug("Dropped dashboard stream {} events behind", queueCapacity);
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * One open stream and the events queued for it. At most one writer drains the queue at a time,
+     * so events reach the client in order.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // Only touched by the draining writer
+        private boolean completed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private boolean offer(Set<DataWithMediaType> event) {
+            if (closed || !queue.offer(event)) {
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        /**
+         * Ends the stream once the writer is free; a write that is stuck keeps it until it fails.
+         */
+        private void close() {
+            closed = true;
+            queue.clear();
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                    sent.increment();
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | RuntimeException e) {
+                // The client went away; the container completes the request
+                closed = true;
+                subscribers.remove(emitter);
+                logger.debug("Dropped dashboard stream: {}", e.getMessage());
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.dto.ApplicationExportRow;
+import com.iv1201.recruitment.domain.dto.AvailabilityPeriod;
+import com.iv1201.recruitment.domain.dto.CompetenceExperience;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.repository.AvailabilityRepository;
+import com.iv1201.recruitment.repository.CompetenceProfileRepository;
+import com.iv1201.recruitment.util.CsvWriter;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes applications as CSV for recruiters.
+ *
+ * Applications, competences and availability periods are read as three projection streams ordered
+ * by person ID and merged row by row, so an export runs three queries however many applications
+ * there are, and memory use does not grow with the number of rows. The export is timed as
+ * {@code recruitment.application.export}.
+ */
+@Service
+public class ApplicationExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationExportService.class);
+
+    static final String[] HEADER = {
+        "application_id", "name", "surname", "email", "status", "submitted", "competences", "availability"
+    };
+
+    private static final DateTimeFormatter SUBMITTED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ApplicationRepository applicationRepository;
+    private final CompetenceProfileRepository competenceProfileRepository;
+    private final AvailabilityRepository availabilityRepository;
+
+    /**
+     * Constructs an ApplicationExportService with required dependencies.
+     *
+     * @param applicationRepository repository for application entities
+     * @param competenceProfileRepository repository for competence profile entities
+     * @param availabilityRepository repository for availability entities
+     */
+    public ApplicationExportService(ApplicationRepository applicationRepository,
+                                    CompetenceProfileRepository competenceProfileRepository,
+                                    AvailabilityRepository availabilityRepository) {
+        this.applicationRepository = applicationRepository;
+        this.competenceProfileRepository = competenceProfileRepository;
+        this.availabilityRepository = availabilityRepository;
+    }
+
+    /**
+     * Writes a header and one row per application to the writer, flushing after the header so
+     * the first bytes reach the client before the whole export has been read.
+     * Competences are written as {@code name: years} and availability periods as
+     * {@code from/to}, both separated by {@code "; "}.
+     *
+     * @param status only export applications with this status, or null for all
+     * @param writer the destination; flushed but not closed
+     * @return number of applications written
+     * @throws IOException if the destination cannot be written, for example when the client disconnects
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "recruitment.application.export", histogram = true)
+    public long exportCsv(ApplicationStatus status, Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRow(HEADER);
+        writer.flush();
+
+        long rows = 0;
+        try (Stream<ApplicationExportRow> applications = status == null
+                     ? applicationRepository.streamExportRows()
+                     : applicationRepository.streamExportRowsByStatus(status);
+             Stream<CompetenceExperience> competences = status == null
+                     ? competenceProfileRepository.streamExportRows()
+                     : competenceProfileRepository.streamExportRowsByStatus(status);
+             Stream<AvailabilityPeriod> availabilities = status == null
+                     ? availabilityRepository.streamExportRows()
+                     : availabilityRepository.streamExportRowsByStatus(status)) {
+
+            PersonGroups<CompetenceExperience> competencesByPerson =
+                    new PersonGroups<>(competences.iterator(), CompetenceExperience::getPersonId);
+            PersonGroups<AvailabilityPeriod> availabilitiesByPerson =
+                    new PersonGroups<>(availabilities.iterator(), AvailabilityPeriod::getPersonId);
+
+            Iterator<ApplicationExportRow> iterator = applications.iterator();
+            while (iterator.hasNext()) {
+                ApplicationExportRow row = iterator.next();
+                csv.writeRow(
+                        String.valueOf(row.getApplicationId()),
+                        row.getName(),
+                        row.getSurname(),
+                        row.getEmail(),
+                        row.getStatus().name(),
+                        row.getCreatedAt() == null ? null : row.getCreatedAt().format(SUBMITTED_FORMAT),
+                        formatCompetences(competencesByPerson.next(row.getPersonId())),
+                        formatAvailabilities(availabilitiesByPerson.next(row.getPersonId())));
+                rows++;
+            }
+        }
+        writer.flush();
+        logger.info("Exported {} applications as CSV, status filter {}", rows, status);
+        return rows;
+    }
+
+    private static String formatCompetences(List<CompetenceExperience> competences) {
+        StringJoiner joiner = new StringJoiner("; ");
+        for (CompetenceExperience competence : competences) {
+            String years = competence.getYearsOfExperience() == null
+                    ? "" : competence.getYearsOfExperience().stripTrailingZeros().toPlainString();
+            joiner.add(competence.getCompetenceName() + ": " + years);
+        }
+        return joiner.toString();
+    }
+
+    private static String formatAvailabilities(List<AvailabilityPeriod> periods) {
+        StringJoiner joiner = new StringJoiner("; ");
+        for (AvailabilityPeriod period : periods) {
+            joiner.add(format(period.getFromDate()) + "/" + format(period.getToDate()));
+        }
+        return joiner.toString();
+    }
+
+    private static String format(LocalDate date) {
+        return date == null ? "" : date.toString();
+    }
+
+    /**
+     * Hands out consecutive runs of rows with the same person ID from a stream ordered by person ID.
+     */
+    private static final class PersonGroups<T> {
+
+        private final Iterator<T> rows;
+        private final Function<T, Integer> personId;
+        private T pending;
+
+        private PersonGroups(Iterator<T> rows, Function<T, Integer> personId) {
+            this.rows = rows;
+            this.personId = personId;
+            this.pending = rows.hasNext() ? rows.next() : null;
+        }
+
+        /**
+         * Returns the rows of the given person, skipping rows of any person before it.
+         * Persons must be requested in ascending order.
+         */
+        private List<T> next(Integer wanted) {
+            while (pending != null && personId.apply(pending) < wanted) {
+                advance();
+            }
+            List<T> group = new ArrayList<>();
+            while (pending != null && personId.apply(pending).equals(wanted)) {
+                group.add(pending);
+                advance();
+            }
+            return group;
+        }
+
+        private void advance() {
+            pending = rows.hasNext() ? rows.next() : null;
+        }
+    }
+}
@@ -3,60 +3,93 @@ package com.iv1201.recruitment.service;
 import com.iv1201.recruitment.domain.*;
 import com.iv1201.recruitment.domain.dto.*;
 import com.iv1201.recruitment.repository.*;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Service for managing job applications.
  * Handles application lifecycle: creation, retrieval, and status updates.
  * All methods are transactional for data consistency.
+ * Submissions, detail lookups and status updates are timed as {@code recruitment.application.*}
+ * timers; status updates rejected because the application changed in between are counted as
+ * {@code recruitment.application.conflicts}. Committed submissions and status changes are pushed
+ * to open recruiter dashboards through the {@link ApplicationEventBroadcaster}.
  */
 @Service
-public class ApplicationService {
+public class ApplicationService implements MeterBinder {
 
     private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
 
+    /** Largest number of applications a single bulk status update may change. */
+    public static final int MAX_BULK_SIZE = 1000;
+
     private final ApplicationRepository applicationRepository;
-    private final CompetenceRepository competenceRepository;
+    private final CompetenceCatalog competenceCatalog;
     private final CompetenceProfileRepository competenceProfileRepository;
     private final AvailabilityRepository availabilityRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final ApplicationStatusCounters statusCounters;
+    private final ApplicationEventBroadcaster eventBroadcaster;
+
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder bulkConflicts = new LongAdder();
 
     /**
      * Constructs an ApplicationService with required dependencies.
      *
      * @param applicationRepository repository for application entities
-     * @param competenceRepository repository for competence entities
+     * @param competenceCatalog cached competence catalog
      * @param competenceProfileRepository repository for competence profile entities
      * @param availabilityRepository repository for availability entities
+     * @param availabilityIndex in-memory availability index kept in sync with submissions
+     * @param statusCounters per-status application counters kept in sync with status changes
+     * @param eventBroadcaster pushes committed changes to open recruiter dashboards
      */
     public ApplicationService(ApplicationRepository applicationRepository,
-                              CompetenceRepository competenceRepository,
+                              CompetenceCatalog competenceCatalog,
                               CompetenceProfileRepository competenceProfileRepository,
-                              AvailabilityRepository availabilityRepository) {
+                              AvailabilityRepository availabilityRepository,
+                              AvailabilityIndex availabilityIndex,
+                              ApplicationStatusCounters statusCounters,
+                              ApplicationEventBroadcaster eventBroadcaster) {
         this.applicationRepository = applicationRepository;
-        this.competenceRepository = competenceRepository;
+        this.competenceCatalog = competenceCatalog;
         this.competenceProfileRepository = competenceProfileRepository;
         this.availabilityRepository = availabilityRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.statusCounters = statusCounters;
+        this.eventBroadcaster = eventBroadcaster;
     }
 
     /**
-     * Retrieves all available competences.
+     * Retrieves all available competences from the cached catalog.
      *
      * @return list of all competences
      */
-    @Transactional(readOnly = true)
     public List<Competence> getAllCompetences() {
-        return competenceRepository.findAll();
+        return competenceCatalog.getAll();
     }
 
     /**
@@ -64,14 +97,15 @@ public class ApplicationService {
      * If the person already has an application, their competences and availabilities
      * are replaced with the new ones.
      *
-     * @param person the applicant
+     * @param person the applicant, may be a reference obtained by ID
      * @param form the application form with competences and availabilities
      * @return the created or updated application
      */
     @Transactional
+    @Timed(value = "recruitment.application.submit", histogram = true)
     public Application submitApplication(Person person, ApplicationFormDTO form) {
-        logger.info("Submitting application for person: personId={}, username={}", 
-            person.getPersonId(), person.getUsername());
+        // Only the ID is logged: the person may be an uninitialized reference
+        logger.info("Submitting application for person: personId={}", person.getPersonId());
         
         // Delete existing competence profiles and availabilities
         competenceProfileRepository.deleteByPersonPersonId(person.getPersonId());
@@ -83,7 +117,7 @@ public class ApplicationService {
         if (form.getCompetences() != null) {
             for (CompetenceForm cf : form.getCompetences()) {
                 if (cf.getCompetenceId() != null && cf.getYearsOfExperience() != null) {
-                    Competence competence = competenceRepository.findById(cf.getCompetenceId())
+                    Competence competence = competenceCatalog.findById(cf.getCompetenceId())
                             .orElseThrow(() -> {
                                 logger.warn("Invalid competence ID attempted: {}", cf.getCompetenceId());
                                 return new IllegalArgumentException("Invalid competence ID: " + cf.getCompetenceId());
@@ -101,7 +135,7 @@ public class ApplicationService {
         logger.info("Created {} competence profiles for personId={}", competenceCount, person.getPersonId());
 
         // Create new availabilities
-        int availabilityCount = 0;
+        List<AvailabilityPeriod> periods = new ArrayList<>();
         if (form.getAvailabilities() != null) {
             for (AvailabilityForm af : form.getAvailabilities()) {
                 if (af.getFromDate() != null && af.getToDate() != null) {
@@ -116,19 +150,30 @@ public class ApplicationService {
                     availability.setFromDate(af.getFromDate());
                     availability.setToDate(af.getToDate());
                     availabilityRepository.save(availability);
-                    availabilityCount++;
+                    periods.add(new AvailabilityPeriod(person.getPersonId(), af.getFromDate(), af.getToDate()));
                 }
             }
         }
-        logger.info("Created {} availabilities for personId={}", availabilityCount, person.getPersonId());
+        logger.info("Created {} availabilities for personId={}", periods.size(), person.getPersonId());
+        availabilityIndex.replacePeriods(person.getPersonId(), periods);
 
         // Create or update application
         Application application = applicationRepository.findByPerson(person)
                 .orElse(new Application(person));
+        boolean created = application.getApplicationId() == null;
+        if (!created) {
+            // Competences and availabilities were replaced; a new version invalidates cached pages
+            application.setUpdatedAt(LocalDateTime.now());
+        }
         
         Application savedApplication = applicationRepository.save(application);
-        logger.info("Application saved successfully: applicationId={}, personId={}, username={}", 
-            savedApplication.getApplicationId(), person.getPersonId(), person.getUsername());
+        if (created) {
+            statusCounters.recordTransition(null, savedApplication.getStatus());
+            eventBroadcaster.applicationCreated(new ApplicationChange(savedApplication.getApplicationId(),
+                null, savedApplication.getStatus(), savedApplication.getVersion()));
+        }
+        logger.info("Application saved successfully: applicationId={}, personId={}", 
+            savedApplication.getApplicationId(), person.getPersonId());
         
         return savedApplication;
     }
@@ -144,6 +189,28 @@ public class ApplicationService {
         return applicationRepository.findById(applicationId);
     }
 
+    /**
+     * Reads the status and version of an application without loading the applicant or details.
+     *
+     * @param applicationId the application ID
+     * @return the status and version if the application exists
+     */
+    @Transactional(readOnly = true)
+    public Optional<ApplicationVersion> getApplicationVersion(Integer applicationId) {
+        return applicationRepository.findVersionById(applicationId);
+    }
+
+    /**
+     * Reads the status and version of a person's application without loading the person or details.
+     *
+     * @param personId the applicant's person ID
+     * @return the status and version if the person has applied
+     */
+    @Transactional(readOnly = true)
+    public Optional<ApplicationVersion> getApplicationVersionByPerson(Integer personId) {
+        return applicationRepository.findVersionByPersonId(personId);
+    }
+
     /**
      * Finds an application by the associated person.
      *
@@ -157,14 +224,17 @@ public class ApplicationService {
 
     /**
      * Gets full application details including competences and availabilities.
+     * Runs a fixed number of queries regardless of how many competences or periods
+     * the applicant has: one for the application and person, one per collection.
      *
      * @param applicationId the application ID
      * @return the application details DTO if found
      */
     @Transactional(readOnly = true)
+    @Timed(value = "recruitment.application.details", histogram = true)
     public Optional<ApplicationDetailsDTO> getApplicationDetails(Integer applicationId) {
         logger.info("Getting application details for id={}", applicationId);
-        Optional<Application> appOpt = applicationRepository.findById(applicationId);
+        Optional<Application> appOpt = applicationRepository.findWithPersonById(applicationId);
         
         if (appOpt.isEmpty()) {
             logger.warn("Application not found for id={}", applicationId);
@@ -172,44 +242,29 @@ public class ApplicationService {
         }
         
         Application app = appOpt.get();
-        // Force eager loading of all fields within the transaction
-        Integer appId = app.getApplicationId();
         Person person = app.getPerson();
         String personName = person.getName() + " " + person.getSurname();
-        String email = person.getEmail();
-        String pnr = person.getPnr();
-        Integer personId = person.getPersonId();
-        ApplicationStatus status = app.getStatus();
-        LocalDateTime createdAt = app.getCreatedAt();
-        LocalDateTime updatedAt = app.getUpdatedAt();
-        Integer version = app.getVersion();
         
-        logger.info("Application loaded: id={}, personName={}, status={}", appId, personName, status);
+        logger.info("Application loaded: id={}, personName={}, status={}",
+            app.getApplicationId(), personName, app.getStatus());
         
-        // Build DTO within transaction
         ApplicationDetailsDTO dto = new ApplicationDetailsDTO();
-        dto.setApplicationId(appId);
+        dto.setApplicationId(app.getApplicationId());
         dto.setPersonName(personName);
-        dto.setPersonEmail(email);
-        dto.setPersonPnr(pnr);
-        dto.setStatus(status);
-        dto.setCreatedAt(createdAt);
-        dto.setUpdatedAt(updatedAt);
-        dto.setVersion(version);
-
-        // Get competence profiles
-        List<CompetenceProfile> profiles = competenceProfileRepository.findByPersonPersonId(personId);
-        logger.info("Found {} competence profiles", profiles.size());
-        dto.setCompetences(profiles.stream()
-                .map(p -> new CompetenceDetailDTO(p.getCompetence().getName(), p.getYearsOfExperience()))
-                .collect(Collectors.toList()));
-
-        // Get availabilities
-        List<Availability> availabilities = availabilityRepository.findByPersonPersonId(personId);
+        dto.setPersonEmail(person.getEmail());
+        dto.setPersonPnr(person.getPnr());
+        dto.setStatus(app.getStatus());
+        dto.setCreatedAt(app.getCreatedAt());
+        dto.setUpdatedAt(app.getUpdatedAt());
+        dto.setVersion(app.getVersion());
+
+        List<CompetenceDetailDTO> competences = competenceProfileRepository.findDetailsByPersonId(person.getPersonId());
+        logger.info("Found {} competence profiles", competences.size());
+        dto.setCompetences(competences);
+
+        List<AvailabilityDetailDTO> availabilities = availabilityRepository.findDetailsByPersonId(person.getPersonId());
         logger.info("Found {} availabilities", availabilities.size());
-        dto.setAvailabilities(availabilities.stream()
-                .map(a -> new AvailabilityDetailDTO(a.getFromDate(), a.getToDate()))
-                .collect(Collectors.toList()));
+        dto.setAvailabilities(availabilities);
 
         return Optional.of(dto);
     }
@@ -221,21 +276,20 @@ public class ApplicationService {
      */
     @Transactional(readOnly = true)
     public List<ApplicationListDTO> getAllApplications() {
-        return applicationRepository.findAllByOrderByCreatedAtDesc().stream()
-                .map(this::toListDTO)
-                .collect(Collectors.toList());
+        return applicationRepository.findListOrderByCreatedAtDesc();
     }
 
     /**
      * Retrieves all applications as page of DTOs with pagination.
+     * The total comes from the status counters instead of a COUNT query.
      *
      * @param pageable pagination information
      * @return page of application list DTOs
      */
     @Transactional(readOnly = true)
     public Page<ApplicationListDTO> getAllApplications(Pageable pageable) {
-        return applicationRepository.findAllByOrderByCreatedAtDesc(pageable)
-                .map(this::toListDTO);
+        return new PageImpl<>(applicationRepository.findListNewestFirst(pageable),
+                pageable, statusCounters.getCount(null));
     }
 
     /**
@@ -246,13 +300,12 @@ public class ApplicationService {
      */
     @Transactional(readOnly = true)
     public List<ApplicationListDTO> getApplicationsByStatus(ApplicationStatus status) {
-        return applicationRepository.findByStatus(status).stream()
-                .map(this::toListDTO)
-                .collect(Collectors.toList());
+        return applicationRepository.findListByStatus(status);
     }
 
     /**
      * Retrieves applications filtered by status with pagination.
+     * The total comes from the status counters instead of a COUNT query.
      *
      * @param status the status filter
      * @param pageable pagination information
@@ -260,8 +313,71 @@ public class ApplicationService {
      */
     @Transactional(readOnly = true)
     public Page<ApplicationListDTO> getApplicationsByStatus(ApplicationStatus status, Pageable pageable) {
-        return applicationRepository.findByStatus(status, pageable)
-                .map(this::toListDTO);
+        return new PageImpl<>(applicationRepository.findListNewestFirstByStatus(status, pageable),
+                pageable, statusCounters.getCount(status));
+    }
+
+    /**
+     * Gets the number of applications for every status, served from the maintained counters.
+     *
+     * @return counts keyed by status
+     */
+    public Map<ApplicationStatus, Long> getStatusCounts() {
+        return statusCounters.getCounts();
+    }
+
+    /**
+     * Retrieves one dashboard page using keyset (cursor) pagination.
+     * Each page is a bounded index range scan on (created_at, application_id), so
+     * deep pages cost the same as the first one. At most one of the cursors may be set;
+     * with neither set the newest page is returned.
+     *
+     * @param status optional status filter, or null for all applications
+     * @param after cursor of the last row seen, to fetch the next (older) page
+     * @param before cursor of the first row seen, to fetch the previous (newer) page
+     * @param size page size
+     * @return the keyset page, with the total taken from the status counters
+     */
+    @Transactional(readOnly = true)
+    public ApplicationKeysetPage getApplicationsKeyset(ApplicationStatus status, ApplicationCursor after,
+                                                       ApplicationCursor before, int size) {
+        // Fetch one extra row to learn whether another page exists without counting
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ApplicationListDTO> rows;
+        boolean backward = before != null;
+
+        if (backward) {
+            rows = status == null
+                    ? applicationRepository.findListPageBefore(before.getCreatedAt(), before.getApplicationId(), limit)
+                    : applicationRepository.findListPageBeforeByStatus(status, before.getCreatedAt(),
+                            before.getApplicationId(), limit);
+        } else if (after != null) {
+            rows = status == null
+                    ? applicationRepository.findListPageAfter(after.getCreatedAt(), after.getApplicationId(), limit)
+                    : applicationRepository.findListPageAfterByStatus(status, after.getCreatedAt(),
+                            after.getApplicationId(), limit);
+        } else {
+            rows = status == null
+                    ? applicationRepository.findListNewestFirst(limit)
+                    : applicationRepository.findListNewestFirstByStatus(status, limit);
+        }
+
+        boolean moreRows = rows.size() > size;
+        List<ApplicationListDTO> content = new ArrayList<>(rows.subList(0, Math.min(size, rows.size())));
+        if (backward) {
+            Collections.reverse(content);
+        }
+
+        boolean hasNext = backward || moreRows;
+        boolean hasPrevious = backward ? moreRows : after != null;
+        String nextCursor = hasNext && !content.isEmpty()
+                ? ApplicationCursor.of(content.get(content.size() - 1)).encode() : null;
+        String previousCursor = hasPrevious && !content.isEmpty()
+                ? ApplicationCursor.of(content.get(0)).encode() : null;
+
+        ApplicationKeysetPage page = new ApplicationKeysetPage(content, nextCursor, previousCursor);
+        page.setTotalElements(statusCounters.getCount(status));
+        return page;
     }
 
     /**
@@ -275,16 +391,100 @@ public class ApplicationService {
      * @throws ObjectOptimisticLockingFailureException if version mismatch
      */
     @Transactional
+    @Timed(value = "recruitment.application.status.update", histogram = true)
     public Application updateApplicationStatus(Integer applicationId, ApplicationStatus newStatus, Integer expectedVersion) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
         
         if (expectedVersion != null && !expectedVersion.equals(application.getVersion())) {
+            conflicts.increment();
             throw new ObjectOptimisticLockingFailureException(Application.class, applicationId);
         }
         
+        ApplicationStatus oldStatus = application.getStatus();
         application.setStatus(newStatus);
-        return applicationRepository.save(application);
+        Application saved;
+        try {
+            saved = applicationRepository.save(application);
+            // Flush here rather than at commit, so a concurrent change is seen and counted
+            applicationRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            conflicts.increment();
+            throw e;
+        }
+        statusCounters.recordTransition(oldStatus, newStatus);
+        if (oldStatus != newStatus) {
+            eventBroadcaster.statusChanged(List.of(
+                new ApplicationChange(applicationId, oldStatus, newStatus, saved.getVersion())));
+        }
+        return saved;
+    }
+
+    /**
+     * Sets the status of several applications in one transaction with set-based statements.
+     * The selected rows are read and locked with one query; every application that still has
+     * the version the recruiter saw is updated by one UPDATE per distinct version, which is a
+     * single statement in the usual case where all selected rows have the same version.
+     * Applications that are gone or were changed since they were selected are reported as
+     * conflicts and left untouched, without failing the rest of the selection.
+     *
+     * @param expectedVersions the selected application IDs mapped to the version the recruiter saw
+     * @param newStatus the new status
+     * @return which applications were updated, already had the status, or conflicted
+     * @throws IllegalArgumentException if the selection is empty or larger than {@link #MAX_BULK_SIZE}
+     */
+    @Transactional
+    @Timed(value = "recruitment.application.status.bulk-update", histogram = true)
+    public BulkStatusUpdateResult updateApplicationStatuses(Map<Integer, Integer> expectedVersions,
+                                                           ApplicationStatus newStatus) {
+        if (expectedVersions.isEmpty()) {
+            throw new IllegalArgumentException("No applications selected");
+        }
+        if (expectedVersions.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " applications can be updated at once");
+        }
+
+        Map<Integer, ApplicationVersion> current = new HashMap<>();
+        applicationRepository.findVersionsForUpdate(expectedVersions.keySet())
+                .forEach(row -> current.put(row.getApplicationId(), row));
+
+        BulkStatusUpdateResult result = new BulkStatusUpdateResult();
+        Map<Integer, List<Integer>> idsByVersion = new LinkedHashMap<>();
+        Map<ApplicationStatus, Integer> fromCounts = new EnumMap<>(ApplicationStatus.class);
+        List<ApplicationChange> changes = new ArrayList<>();
+        expectedVersions.forEach((applicationId, expectedVersion) -> {
+            ApplicationVersion row = current.get(applicationId);
+            if (row == null) {
+                result.addConflict(applicationId, BulkStatusUpdateResult.Conflict.NOT_FOUND);
+            } else if (!row.getVersion().equals(expectedVersion)) {
+                bulkConflicts.increment();
+                result.addConflict(applicationId, BulkStatusUpdateResult.Conflict.MODIFIED);
+            } else if (row.getStatus() == newStatus) {
+                result.addUnchanged(applicationId);
+            } else {
+                idsByVersion.computeIfAbsent(row.getVersion(), v -> new ArrayList<>()).add(applicationId);
+                fromCounts.merge(row.getStatus(), 1, Integer::sum);
+                // The bulk UPDATE increments the version by one
+                changes.add(new ApplicationChange(applicationId, row.getStatus(), newStatus, row.getVersion() + 1));
+                result.addUpdated(applicationId);
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        idsByVersion.forEach((version, ids) -> {
+            int updated = applicationRepository.updateStatusWhereVersion(ids, version, newStatus, now);
+            // The rows are locked, so a mismatch means the lock did not hold; undo everything
+            if (updated != ids.size()) {
+                throw new ObjectOptimisticLockingFailureException(Application.class, ids);
+            }
+        });
+        statusCounters.recordTransitions(fromCounts, newStatus);
+        eventBroadcaster.statusChanged(changes);
+
+        logger.info("Bulk status update to {}: {} updated, {} unchanged, {} conflicts in {} statements",
+            newStatus, result.getUpdated().size(), result.getUnchanged().size(),
+            result.getConflicts().size(), idsByVersion.size());
+        return result;
     }
 
     /**
@@ -298,15 +498,15 @@ public class ApplicationService {
         return applicationRepository.existsByPerson(person);
     }
 
-    /**
-     * Converts an Application to ApplicationListDTO.
-     */
-    private ApplicationListDTO toListDTO(Application app) {
-        return new ApplicationListDTO(
-                app.getApplicationId(),
-                app.getPerson().getName() + " " + app.getPerson().getSurname(),
-                app.getStatus(),
-                app.getCreatedAt()
-        );
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("recruitment.application.conflicts", conflicts, LongAdder::sum)
+                .tags("operation", "update")
+                .description("Status updates rejected because the application was changed concurrently")
+                .register(registry);
+        FunctionCounter.builder("recruitment.application.conflicts", bulkConflicts, LongAdder::sum)
+                .tags("operation", "bulk-update")
+                .description("Applications skipped by bulk updates because they were changed concurrently")
+                .register(registry);
     }
 }
@@ -0,0 +1,231 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.dto.ApplicationStatusCount;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.util.AfterCommit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory number of applications per status, so dashboard totals and filter counts
+ * do not need a COUNT(*) over the application table on every page load.
+ *
+ * The counters are seeded from one grouped query at startup and then adjusted after each
+ * committed submission or status change. Until seeded, counts are read from the database.
+ * Changes committed while the seed query runs are held back and applied on top of its result,
+ * so the seed cannot overwrite them; only a transaction that commits just before the query
+ * starts, but reports after, can be counted twice.
+ * Counts are published as the {@code recruitment.applications} gauge and committed transitions
+ * as the {@code recruitment.application.transitions} counter, tagged {@code from} and {@code to};
+ * new submissions have {@code from=NONE}.
+ */
+@Service
+public class ApplicationStatusCounters implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStatusCounters.class);
+
+    private final ApplicationRepository applicationRepository;
+
+    private final Map<ApplicationStatus, AtomicLong> counters = new EnumMap<>(ApplicationStatus.class);
+    private final Map<ApplicationStatus, LongAdder> submitted = new EnumMap<>(ApplicationStatus.class);
+    private final Map<ApplicationStatus, Map<ApplicationStatus, LongAdder>> transitions =
+        new EnumMap<>(ApplicationStatus.class);
+    // A lock rather than synchronized: the load queries the database, which would pin a virtual thread
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // Changes reported while a load runs; null otherwise. Guarded by this
+    private List<Runnable> heldBack;
+    private volatile boolean loaded;
+
+    /**
+     * Constructs ApplicationStatusCounters with required dependencies.
+     *
+     * @param applicationRepository repository for application entities
+     */
+    public ApplicationStatusCounters(ApplicationRepository applicationRepository) {
+        this.applicationRepository = applicationRepository;
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counters.put(status, new AtomicLong());
+            submitted.put(status, new LongAdder());
+            Map<ApplicationStatus, LongAdder> to = new EnumMap<>(ApplicationStatus.class);
+            for (ApplicationStatus other : ApplicationStatus.values()) {
+                if (other != status) {
+                    to.put(other, new LongAdder());
+                }
+            }
+            transitions.put(status, to);
+        }
+    }
+
+    /**
+     * Seeds the counters from the database once the application has started.
+     * If the database is unavailable, counts are read from the database until a later load succeeds.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loadLock.lock();
+        try {
+            synchronized (this) {
+                heldBack = new ArrayList<>();
+            }
+            List<ApplicationStatusCount> rows = applicationRepository.countGroupedByStatus();
+            synchronized (this) {
+                counters.values().forEach(c -> c.set(0));
+                rows.forEach(row -> counters.get(row.getStatus()).set(row.getCount()));
+                releaseHeldBack();
+                loaded = true;
+            }
+            logger.info("Application status counters loaded: {}", getCounts());
+        } catch (DataAccessException e) {
+            synchronized (this) {
+                releaseHeldBack();
+            }
+            logger.error("Could not load application status counters, falling back to database counts: {}",
+                e.getMessage());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the counters have been seeded from the database.
+     *
+     * @return true if counts are served from memory
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Gets the number of applications with a status.
+     *
+     * @param status the status, or null for all applications
+     * @return the number of matching applications
+     */
+    public long getCount(ApplicationStatus status) {
+        if (!loaded) {
+            return status == null ? applicationRepository.count() : applicationRepository.countByStatus(status);
+        }
+        if (status == null) {
+            return counters.values().stream().mapToLong(AtomicLong::get).sum();
+        }
+        return counters.get(status).get();
+    }
+
+    /**
+     * Gets the number of applications for every status, in declaration order.
+     *
+     * @return counts keyed by status
+     */
+    public Map<ApplicationStatus, Long> getCounts() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        if (!loaded) {
+            applicationRepository.countGroupedByStatus().forEach(row -> counts.put(row.getStatus(), row.getCount()));
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                counts.putIfAbsent(status, 0L);
+            }
+            return counts;
+        }
+        counters.forEach((status, counter) -> counts.put(status, counter.get()));
+        return counts;
+    }
+
+    /**
+     * Records that an application moved between statuses. When called inside a transaction
+     * the change is applied after commit, so rolled-back updates never reach the counters.
+     *
+     * @param from the previous status, or null for a newly created application
+     * @param to the new status
+     */
+    public void recordTransition(ApplicationStatus from, ApplicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        AfterCommit.run(() -> apply(() -> applyTransition(from, to)));
+    }
+
+    /**
+     * Records that several applications moved to the same status, with one after-commit
+     * callback for the whole batch.
+     *
+     * @param fromCounts number of moved applications per previous status
+     * @param to the new status
+     */
+    public void recordTransitions(Map<ApplicationStatus, Integer> fromCounts, ApplicationStatus to) {
+        if (fromCounts.isEmpty()) {
+            return;
+        }
+        Map<ApplicationStatus, Integer> moved = new EnumMap<>(fromCounts);
+        AfterCommit.run(() -> apply(() -> applyTransitions(moved, to)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counters.forEach((status, counter) -> Gauge.builder("recruitment.applications", counter, AtomicLong::get)
+                .tags("status", status.name())
+                .description("Applications per status")
+                .register(registry));
+        submitted.forEach((to, counter) -> registerTransitions(registry, "NONE", to, counter));
+        transitions.forEach((from, byTarget) ->
+                byTarget.forEach((to, counter) -> registerTransitions(registry, from.name(), to, counter)));
+    }
+
+    private void registerTransitions(MeterRegistry registry, String from, ApplicationStatus to, LongAdder counter) {
+        FunctionCounter.builder("recruitment.application.transitions", counter, LongAdder::sum)
+                .tags("from", from, "to", to.name())
+                .description("Committed application status changes")
+                .register(registry);
+    }
+
+    /**
+     * Applies a change now, or after the seed if a load is running.
+     */
+    private synchronized void apply(Runnable change) {
+        if (heldBack != null) {
+            heldBack.add(change);
+        } else {
+            change.run();
+        }
+    }
+
+    private void releaseHeldBack() {
+        heldBack.forEach(Runnable::run);
+        heldBack = null;
+    }
+
+    private void applyTransitions(Map<ApplicationStatus, Integer> fromCounts, ApplicationStatus to) {
+        fromCounts.forEach((from, count) -> {
+            if (from != to) {
+                counters.get(from).addAndGet(-count);
+                counters.get(to).addAndGet(count);
+                transitions.get(from).get(to).add(count);
+            }
+        });
+    }
+
+    private void applyTransition(ApplicationStatus from, ApplicationStatus to) {
+        if (from != null) {
+            counters.get(from).decrementAndGet();
+            transitions.get(from).get(to).increment();
+        } else {
+            submitted.get(to).increment();
+        }
+        counters.get(to).incrementAndGet();
+    }
+}
@@ -1,18 +1,33 @@
 package com.iv1201.recruitment.service;
 
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.iv1201.recruitment.domain.Person;
 import com.iv1201.recruitment.exception.DatabaseUnavailableException;
+import com.iv1201.recruitment.exception.PasswordHashingBusyException;
+import com.iv1201.recruitment.security.PersonPrincipal;
 import com.iv1201.recruitment.repository.PersonRepository;
 import org.springframework.dao.DataAccessException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.transaction.annotation.Transactional;
 
 
@@ -21,30 +36,41 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Business logic layer - loads user from database for authentication.
+ * Only called on a cache miss; see {@link UserDetailsCache}.
  * All methods are transactional for data consistency.
+ * Also stores password hashes that the authentication provider upgraded to a higher BCrypt cost.
+ * Database lookups are timed as {@code recruitment.auth.user.load}, and every login attempt is
+ * counted as {@code recruitment.logins}, tagged with its outcome.
  */
 @Service
-public class AuthService implements UserDetailsService {
+public class AuthService implements UserDetailsService, UserDetailsPasswordService, MeterBinder {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
     private final PersonRepository personRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public AuthService(PersonRepository personRepository) {
+    private final Map<String, LongAdder> logins = Map.of(
+        "success", new LongAdder(), "bad_credentials", new LongAdder(),
+        "account_disabled", new LongAdder(), "busy", new LongAdder(), "error", new LongAdder());
+
+    public AuthService(PersonRepository personRepository, UserDetailsCache userDetailsCache) {
         this.personRepository = personRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
      * Loads user details for authentication.
      *
      * @param username the username to look up
-     * @return UserDetails for Spring Security
+     * @return a PersonPrincipal carrying the person's ID and display name
      * @throws UsernameNotFoundException if user not found
      * @throws DatabaseUnavailableException if the database cannot be reached
      */
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = "recruitment.auth.user.load", histogram = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        logger.info("Authentication attempt for username: {}", username);
+        logger.debug("Loading user for authentication: {}", username);
 
     try {
         Person person = personRepository.findByUsername(username)
@@ -53,14 +79,16 @@ public class AuthService implements UserDetailsService {
             return new UsernameNotFoundException("User not found: " + username);
             });
         
-        logger.info("User loaded for authentication: username={}, role={}",person.getUsername(), person.getRole().getName()); 
+        logger.debug("User loaded for authentication: username={}, role={}", person.getUsername(), person.getRole().getName());
 
-        return new User(
+        return new PersonPrincipal(
             person.getUsername(),
             person.getPassword(),  // BCrypt hash from database
             Collections.singletonList(
                 new SimpleGrantedAuthority("ROLE_" + person.getRole().getName().toUpperCase())
-            )
+            ),
+            person.getPersonId(),
+            person.getName() + " " + person.getSurname()
         );
 
     } catch (UsernameNotFoundException e) {
@@ -76,5 +104,77 @@ public class AuthService implements UserDetailsService {
         throw e;
     }
     }
+
+    /**
+     * Stores a password re-hashed at a higher BCrypt cost after a successful login.
+     * The hash is only replaced if it has not changed since the user was loaded. A failed
+     * update is logged and the login goes ahead, since the old hash still verifies.
+     *
+     * @param user the authenticated user, still carrying the old hash
+     * @param newPassword the new hash
+     * @return the user carrying the new hash, or the user unchanged if it was not stored
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        int updated;
+        try {
+            updated = personRepository.updatePasswordWhere(user.getUsername(), user.getPassword(), newPassword);
+        } catch (DataAccessException e) {
+            logger.warn("Could not upgrade password hash for username '{}': {}", user.getUsername(), e.getMessage());
+            return user;
+        }
+        if (updated == 0) {
+            logger.debug("Password of username '{}' changed during login, hash not upgraded", user.getUsername());
+            return user;
+        }
+        userDetailsCache.removeUserFromCache(user.getUsername());
+        logger.info("Upgraded password hash for username '{}'", user.getUsername());
+        if (user instanceof PersonPrincipal principal) {
+            return new PersonPrincipal(principal.getUsername(), newPassword, principal.getAuthorities(),
+                principal.getPersonId(), principal.getDisplayName());
+        }
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
+    /**
+     * Counts a successful login.
+     *
+     * @param event the event published by the authentication manager
+     */
+    @EventListener
+    public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+        logins.get("success").increment();
+    }
+
+    /**
+     * Counts a failed login by cause: wrong username or password, a disabled or locked account,
+     * a login rejected because password hashing was saturated, or an error such as the database
+     * being unavailable.
+     *
+     * @param event the event published by the authentication manager
+     */
+    @EventListener
+    public void onAuthenticationFailure(AbstractAuthenticationFailureEvent event) {
+        AuthenticationException exception = event.getException();
+        String outcome;
+        if (exception instanceof AccountStatusException) {
+            outcome = "account_disabled";
+        } else if (exception instanceof PasswordHashingBusyException) {
+            outcome = "busy";
+        } else if (exception instanceof AuthenticationServiceException) {
+            outcome = "error";
+        } else {
+            outcome = "bad_credentials";
+        }
+        logins.get(outcome).increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        logins.forEach((outcome, counter) ->
+            FunctionCounter.builder("recruitment.logins", counter, LongAdder::sum)
+                .tags("outcome", outcome)
+                .description("Login attempts")
+                .register(registry));
+    }
 }
-    
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.dto.AvailabilityPeriod;
+import com.iv1201.recruitment.repository.AvailabilityRepository;
+import com.iv1201.recruitment.util.IntervalTree;
+import com.iv1201.recruitment.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory index of all availability periods, answering "who is available during [from, to]"
+ * without touching the database.
+ *
+ * The index is an immutable interval tree loaded at startup plus a small overlay of persons
+ * whose periods were replaced since then. Readers always see a consistent snapshot; the overlay
+ * is folded into a new tree once it grows past {@link #REBUILD_THRESHOLD} persons.
+ */
+@Service
+public class AvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    static final int REBUILD_THRESHOLD = 1024;
+
+    private final AvailabilityRepository availabilityRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(new IntervalTree(List.of()), Map.of());
+    private volatile boolean loaded;
+
+    /**
+     * Constructs an AvailabilityIndex with required dependencies.
+     *
+     * @param availabilityRepository repository for availability entities
+     */
+    public AvailabilityIndex(AvailabilityRepository availabilityRepository) {
+        this.availabilityRepository = availabilityRepository;
+    }
+
+    /**
+     * Loads all availability periods from the database once the application has started.
+     * If the database is unavailable, queries fall back to the database until a later reload succeeds.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        try {
+            List<AvailabilityPeriod> periods = availabilityRepository.findAllPeriods();
+            synchronized (this) {
+                // Keep overrides recorded while loading; they are newer than the loaded rows
+                snapshot = new Snapshot(new IntervalTree(periods), snapshot.overrides);
+                loaded = true;
+            }
+            logger.info("Availability index loaded: {} periods in {} ms",
+                periods.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            logger.error("Could not load availability index, falling back to database queries: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether the index has been loaded from the database.
+     *
+     * @return true if queries are served from memory
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Finds the IDs of all persons with an availability period overlapping [from, to].
+     *
+     * @param from start of the range
+     * @param to end of the range
+     * @return IDs of available persons
+     * @throws IllegalArgumentException if the range is reversed
+     */
+    public Set<Integer> findAvailablePersonIds(LocalDate from, LocalDate to) {
+        return findAvailablePersonIds(from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the IDs of persons with an availability period overlapping [from, to], stopping
+     * as soon as more than {@code limit} persons have been found.
+     *
+     * @param from start of the range
+     * @param to end of the range
+     * @param limit the number of persons the caller can use
+     * @return IDs of available persons; more than {@code limit} IDs means the result is incomplete
+     * @throws IllegalArgumentException if the range is reversed
+     */
+    public Set<Integer> findAvailablePersonIds(LocalDate from, LocalDate to, int limit) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid date range: toDate must be after fromDate");
+        }
+
+        Set<Integer> personIds = new HashSet<>();
+        if (!loaded) {
+            logger.debug("Availability index not loaded, querying database for {}..{}", from, to);
+            for (AvailabilityPeriod p : availabilityRepository.findPeriodsOverlapping(from, to)) {
+                personIds.add(p.getPersonId());
+                if (personIds.size() > limit) {
+                    break;
+                }
+            }
+            return personIds;
+        }
+
+        Snapshot current = snapshot;
+        boolean complete = current.tree.queryWhile(from, to, p -> {
+            if (!current.overrides.containsKey(p.getPersonId())) {
+                personIds.add(p.getPersonId());
+            }
+            return personIds.size() <= limit;
+        });
+        if (!complete) {
+            return personIds;
+        }
+        for (Map.Entry<Integer, List<AvailabilityPeriod>> entry : current.overrides.entrySet()) {
+            if (entry.getValue().stream().anyMatch(p -> p.overlaps(from, to))) {
+                personIds.add(entry.getKey());
+                if (personIds.size() > limit) {
+                    break;
+                }
+            }
+        }
+        return personIds;
+    }
+
+    /**
+     * Replaces the indexed periods of a person. When called inside a transaction the change
+     * is applied after commit, so rolled-back submissions never reach the index.
+     *
+     * @param personId the person whose periods were replaced
+     * @param periods the person's new periods (may be empty)
+     */
+    public void replacePeriods(Integer personId, List<AvailabilityPeriod> periods) {
+        AfterCommit.run(() -> applyReplacement(personId, periods));
+    }
+
+    private synchronized void applyReplacement(Integer personId, List<AvailabilityPeriod> periods) {
+        Map<Integer, List<AvailabilityPeriod>> overrides = new HashMap<>(snapshot.overrides);
+        overrides.put(personId, List.copyOf(periods));
+
+        if (overrides.size() < REBUILD_THRESHOLD) {
+            snapshot = new Snapshot(snapshot.tree, Collections.unmodifiableMap(overrides));
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<AvailabilityPeriod> merged = new ArrayList<>(snapshot.tree.size() + overrides.size());
+        for (AvailabilityPeriod p : snapshot.tree.getPeriods()) {
+            if (!overrides.containsKey(p.getPersonId())) {
+                merged.add(p);
+            }
+        }
+        overrides.values().forEach(merged::addAll);
+        snapshot = new Snapshot(new IntervalTree(merged), Map.of());
+        logger.info("Availability index rebuilt: {} periods in {} ms",
+            merged.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Immutable view of the index: the tree plus persons whose periods replaced those in the tree.
+     */
+    private static final class Snapshot {
+        private final IntervalTree tree;
+        private final Map<Integer, List<AvailabilityPeriod>> overrides;
+
+        private Snapshot(IntervalTree tree, Map<Integer, List<AvailabilityPeriod>> overrides) {
+            this.tree = tree;
+            this.overrides = overrides;
+        }
+    }
+}
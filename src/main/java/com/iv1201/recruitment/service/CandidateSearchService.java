@@ -0,0 +1,100 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.dto.ApplicationListDTO;
+import com.iv1201.recruitment.domain.dto.CandidateSearchForm;
+import com.iv1201.recruitment.domain.dto.CompetenceForm;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+import static com.iv1201.recruitment.repository.CandidateSpecifications.*;
+
+/**
+ * Service for searching candidates by competences, experience and availability.
+ * All criteria are combined into one query so recruiters no longer have to open
+ * applications one by one to find matching candidates.
+ *
+ * A closed availability window is answered from the in-memory {@link AvailabilityIndex}: the
+ * query then only matches the persons found there, and an empty result skips the database.
+ * The index lookup stops once a window matches more than {@link #MAX_INDEXED_PERSONS} persons,
+ * where an IN list would cost more than it saves; such windows and open-ended windows are left
+ * to an EXISTS subquery.
+ */
+@Service
+public class CandidateSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateSearchService.class);
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("applicationId"));
+
+    static final int MAX_INDEXED_PERSONS = 1000;
+
+    private final ApplicationRepository applicationRepository;
+    private final AvailabilityIndex availabilityIndex;
+
+    /**
+     * Constructs a CandidateSearchService with required dependencies.
+     *
+     * @param applicationRepository repository for application entities
+     * @param availabilityIndex in-memory index answering availability windows
+     */
+    public CandidateSearchService(ApplicationRepository applicationRepository, AvailabilityIndex availabilityIndex) {
+        this.applicationRepository = applicationRepository;
+        this.availabilityIndex = availabilityIndex;
+    }
+
+    /**
+     * Searches applications whose applicant matches every criterion in the form.
+     *
+     * @param form the search criteria
+     * @param pageable pagination information (sorting is fixed to newest first)
+     * @return page of matching application list DTOs
+     * @throws IllegalArgumentException if the date window is reversed
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationListDTO> search(CandidateSearchForm form, Pageable pageable) {
+        if (form.getFromDate() != null && form.getToDate() != null
+                && form.getToDate().isBefore(form.getFromDate())) {
+            logger.warn("Invalid search window: fromDate={}, toDate={}", form.getFromDate(), form.getToDate());
+            throw new IllegalArgumentException("Invalid date range: toDate must be after fromDate");
+        }
+
+        Specification<Application> spec = fetchApplicant();
+        int competenceCriteria = 0;
+        for (CompetenceForm cf : form.getCompetences()) {
+            if (cf.getCompetenceId() != null) {
+                spec = spec.and(hasCompetence(cf.getCompetenceId(), cf.getYearsOfExperience()));
+                competenceCriteria++;
+            }
+        }
+        Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), NEWEST_FIRST);
+        if (form.getFromDate() != null && form.getToDate() != null) {
+            Set<Integer> available = availabilityIndex.findAvailablePersonIds(
+                    form.getFromDate(), form.getToDate(), MAX_INDEXED_PERSONS);
+            if (available.isEmpty()) {
+                logger.info("Candidate search: nobody available during {}..{}", form.getFromDate(), form.getToDate());
+                return Page.empty(sorted);
+            }
+            spec = spec.and(available.size() <= MAX_INDEXED_PERSONS
+                    ? personIn(available)
+                    : availableDuring(form.getFromDate(), form.getToDate()));
+        } else if (form.getFromDate() != null || form.getToDate() != null) {
+            spec = spec.and(availableDuring(form.getFromDate(), form.getToDate()));
+        }
+
+        Page<ApplicationListDTO> result = applicationRepository.findAll(spec, sorted).map(ApplicationListDTO::of);
+        logger.info("Candidate search: {} competence criteria, window={}..{}, {} matches",
+            competenceCriteria, form.getFromDate(), form.getToDate(), result.getTotalElements());
+        return result;
+    }
+}
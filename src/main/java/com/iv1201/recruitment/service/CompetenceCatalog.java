@@ -0,0 +1,180 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.repository.CompetenceRepository;
+import com.iv1201.recruitment.util.AfterCommit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-mostly in-process cache of the competence catalog.
+ *
+ * The whole table is loaded on first use and kept as an ordered list plus an id lookup.
+ * Code that changes the competence table must call {@link #invalidate()}; a lookup of an
+ * id that is not cached also drops the cache, so rows added behind our back are picked up.
+ * A lookup on an empty cache loads the whole catalog, so a form with several competences
+ * costs one query rather than one per competence.
+ * Catalogs larger than {@link #MAX_ENTRIES} are not cached at all.
+ * Cached competences are shared between requests and must be treated as read-only.
+ * Hits and misses are published as the {@code cache.gets} meter with {@code cache=competences}.
+ */
+@Service
+public class CompetenceCatalog implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompetenceCatalog.class);
+
+    static final int MAX_ENTRIES = 1000;
+    private static final String CACHE_NAME = "competences";
+
+    private final CompetenceRepository competenceRepository;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // A lock rather than synchronized: the load queries the database, which would pin a virtual thread
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private volatile boolean oversized;
+
+    /**
+     * Constructs a CompetenceCatalog with required dependencies.
+     *
+     * @param competenceRepository repository for competence entities
+     */
+    public CompetenceCatalog(CompetenceRepository competenceRepository) {
+        this.competenceRepository = competenceRepository;
+    }
+
+    /**
+     * Gets all competences ordered by ID.
+     *
+     * @return unmodifiable list of all competences
+     */
+    public List<Competence> getAll() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            hits.increment();
+            return current.ordered;
+        }
+        misses.increment();
+        return load().ordered;
+    }
+
+    /**
+     * Finds a competence by ID.
+     *
+     * @param competenceId the competence ID
+     * @return the competence if it exists
+     */
+    public Optional<Competence> findById(Integer competenceId) {
+        Snapshot current = snapshot;
+        if (current != null && current.byId.containsKey(competenceId)) {
+            hits.increment();
+            return Optional.of(current.byId.get(competenceId));
+        }
+        misses.increment();
+        if (current == null && !oversized) {
+            // Cold cache: load the whole catalog once rather than one query per looked-up id
+            return Optional.ofNullable(load().byId.get(competenceId));
+        }
+        Optional<Competence> competence = competenceRepository.findById(competenceId);
+        if (current != null && competence.isPresent()) {
+            logger.info("Competence {} missing from catalog cache, invalidating", competenceId);
+            invalidate();
+        }
+        return competence;
+    }
+
+    /**
+     * Drops the cached catalog so the next access reloads it. When called inside a transaction
+     * the cache is dropped after commit, so the reload sees the committed change.
+     */
+    public void invalidate() {
+        snapshot = null;
+        // Drop again after commit: a concurrent reader may reload the old rows before then
+        AfterCommit.run(() -> snapshot = null);
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return cache hits since startup
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to query the database.
+     *
+     * @return cache misses since startup
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("Competence catalog lookups served from memory")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("Competence catalog lookups that queried the database")
+                .register(registry);
+        Gauge.builder("cache.size", this, c -> c.snapshot == null ? 0 : c.snapshot.ordered.size())
+                .tags("cache", CACHE_NAME)
+                .register(registry);
+    }
+
+    private Snapshot load() {
+        loadLock.lock();
+        try {
+            if (snapshot != null) {
+                return snapshot;
+            }
+            List<Competence> competences = competenceRepository.findAll(Sort.by("competenceId"));
+            Map<Integer, Competence> byId = new HashMap<>();
+            competences.forEach(c -> byId.put(c.getCompetenceId(), c));
+            Snapshot loaded = new Snapshot(List.copyOf(competences), Map.copyOf(byId));
+
+            oversized = competences.size() > MAX_ENTRIES;
+            if (oversized) {
+                logger.warn("Competence catalog has {} entries, above the cache limit of {}; not caching",
+                    competences.size(), MAX_ENTRIES);
+                return loaded;
+            }
+            snapshot = loaded;
+            logger.info("Competence catalog cached: {} competences", competences.size());
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Immutable view of the catalog: ordered list and lookup by ID.
+     */
+    private static final class Snapshot {
+        private final List<Competence> ordered;
+        private final Map<Integer, Competence> byId;
+
+        private Snapshot(List<Competence> ordered, Map<Integer, Competence> byId) {
+            this.ordered = ordered;
+            this.byId = byId;
+        }
+    }
+}
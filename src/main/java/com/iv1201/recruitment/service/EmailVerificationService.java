@@ -2,18 +2,32 @@ package com.iv1201.recruitment.service;
 
 import com.iv1201.recruitment.domain.EmailVerification;
 import com.iv1201.recruitment.repository.EmailVerificationRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Issues and checks the email tokens used to claim legacy accounts.
+ * Issued tokens are counted as {@code recruitment.email.tokens.issued} and token checks as
+ * {@code recruitment.email.token.validations}, tagged with the outcome.
+ */
 @Service
-public class EmailVerificationService {
+public class EmailVerificationService implements MeterBinder {
 
     private final EmailVerificationRepository repository;
 
+    private final LongAdder issued = new LongAdder();
+    private final Map<String, LongAdder> validations = Map.of(
+        "valid", new LongAdder(), "used", new LongAdder(), "expired", new LongAdder(), "unknown", new LongAdder());
+
     public EmailVerificationService(EmailVerificationRepository repository) {
         this.repository = repository;
     }
@@ -27,6 +41,7 @@ public class EmailVerificationService {
         
         EmailVerification verification = new EmailVerification(email, token, expiresAt);
         repository.save(verification);
+        issued.increment();
         
         return token;
     }
@@ -38,11 +53,14 @@ public class EmailVerificationService {
         if (verification.isPresent()) {
             EmailVerification v = verification.get();
             if (v.getUsed() || v.isExpired()) {
+                validations.get(v.getUsed() ? "used" : "expired").increment();
                 return Optional.empty();
             }
+            validations.get("valid").increment();
             return verification;
         }
         
+        validations.get("unknown").increment();
         return Optional.empty();
     }
 
@@ -60,4 +78,16 @@ public class EmailVerificationService {
                 .filter(v -> !v.getUsed() && !v.isExpired())
                 .map(EmailVerification::getEmail);
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("recruitment.email.tokens.issued", issued, LongAdder::sum)
+                .description("Email verification tokens issued")
+                .register(registry);
+        validations.forEach((outcome, counter) ->
+                FunctionCounter.builder("recruitment.email.token.validations", counter, LongAdder::sum)
+                        .tags("outcome", outcome)
+                        .description("Email verification token checks")
+                        .register(registry));
+    }
 }
@@ -7,6 +7,7 @@ import com.iv1201.recruitment.exception.EmailAlreadyTakenException;
 import com.iv1201.recruitment.exception.UsernameAlreadyTakenException;
 import com.iv1201.recruitment.repository.PersonRepository;
 import com.iv1201.recruitment.repository.RoleRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,8 @@ import org.slf4j.LoggerFactory;
 /**
  * Service for handling user registration.
  * Creates new applicant accounts with hashed passwords.
+ * Registrations are timed as {@code recruitment.registration}; the {@code exception} tag tells
+ * a taken username or email apart from a successful registration.
  */
 @Service
 public class RegistrationService {
@@ -29,6 +32,7 @@ public class RegistrationService {
     private final PersonRepository personRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
     
     /**
      * Constructs a RegistrationService with required dependencies.
@@ -36,13 +40,16 @@ public class RegistrationService {
      * @param personRepository repository for person entities
      * @param roleRepository repository for role entities
      * @param passwordEncoder encoder for hashing passwords
+     * @param userDetailsCache login cache to evict when credentials change
      */
     public RegistrationService(PersonRepository personRepository,
                                RoleRepository roleRepository,
-                               PasswordEncoder passwordEncoder) {
+                               PasswordEncoder passwordEncoder,
+                               UserDetailsCache userDetailsCache) {
         this.personRepository = personRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
     }
     
     /**
@@ -54,6 +61,7 @@ public class RegistrationService {
      * @throws IllegalStateException if applicant role is not found
      */
     @Transactional
+    @Timed(value = "recruitment.registration", histogram = true)
     public Person registerApplicant(RegistrationForm form) {
 
         logger.info("Registration attempt for username: {}, email: {}", form.getUsername(), form.getEmail());    
@@ -93,6 +101,7 @@ public class RegistrationService {
         person.setRole(applicantRole);
         
         Person savedPerson = personRepository.save(person);
+        userDetailsCache.removeUserFromCache(savedPerson.getUsername());
         logger.info("Successfully registered new applicant: username={}, personId={}", 
                 savedPerson.getUsername(), savedPerson.getPersonId());
         return savedPerson;
@@ -159,10 +168,15 @@ public class RegistrationService {
         }
         
         Person person = personOpt.get();
+        String previousUsername = person.getUsername();
         person.setUsername(username);
         person.setPassword(passwordEncoder.encode(password));
         
         personRepository.save(person);
+        if (previousUsername != null) {
+            userDetailsCache.removeUserFromCache(previousUsername);
+        }
+        userDetailsCache.removeUserFromCache(username);
     }
 
 }
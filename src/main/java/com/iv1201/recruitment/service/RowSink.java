@@ -0,0 +1,156 @@
+package com.iv1201.recruitment.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Destination for the rows of one table during a bulk load.
+ *
+ * On PostgreSQL rows are streamed with {@code COPY}; other databases get batched inserts.
+ * Columns left out of the column list get their database default, such as an identity id.
+ */
+interface RowSink extends AutoCloseable {
+
+    int BATCH_SIZE = 1000;
+
+    /**
+     * Opens a sink for the given table and columns on the connection's current transaction.
+     *
+     * @param connection the connection to load through
+     * @param postgres whether the connection is to PostgreSQL and supports {@code COPY}
+     * @param table the table name
+     * @param columns the columns each row supplies, in order
+     * @return the sink
+     * @throws SQLException if the load cannot be started
+     */
+    static RowSink open(Connection connection, boolean postgres, String table, String... columns)
+            throws SQLException {
+        return postgres ? new CopySink(connection, table, columns) : new BatchSink(connection, table, columns);
+    }
+
+    void add(Object... values) throws SQLException;
+
+    long rows();
+
+    @Override
+    void close() throws SQLException;
+
+    /**
+     * Streams rows to PostgreSQL with {@code COPY ... FROM STDIN} in text format.
+     */
+    final class CopySink implements RowSink {
+
+        private static final int BUFFER_CHARS = 1 << 16;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(BUFFER_CHARS + 1024);
+        private long rows;
+
+        private CopySink(Connection connection, String table, String... columns) throws SQLException {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN");
+        }
+
+        @Override
+        public void add(Object... values) throws SQLException {
+            for (int k = 0; k < values.length; k++) {
+                if (k > 0) {
+                    buffer.append('\t');
+                }
+                if (values[k] == null) {
+                    buffer.append("\\N");
+                } else {
+                    appendEscaped(values[k].toString());
+                }
+            }
+            buffer.append('\n');
+            rows++;
+            if (buffer.length() >= BUFFER_CHARS) {
+                flush();
+            }
+        }
+
+        @Override
+        public long rows() {
+            return rows;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!copyIn.isActive()) {
+                return;
+            }
+            try {
+                flush();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+
+        private void appendEscaped(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> buffer.append("\\\\");
+                    case '\t' -> buffer.append("\\t");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    default -> buffer.append(c);
+                }
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Inserts rows with JDBC batches, for databases without {@code COPY}.
+     */
+    final class BatchSink implements RowSink {
+
+        private final PreparedStatement statement;
+        private long rows;
+
+        private BatchSink(Connection connection, String table, String... columns) throws SQLException {
+            this.statement = connection.prepareStatement("INSERT INTO " + table + " ("
+                + String.join(", ", columns) + ") VALUES (" + "?, ".repeat(columns.length - 1) + "?)");
+        }
+
+        @Override
+        public void add(Object... values) throws SQLException {
+            for (int k = 0; k < values.length; k++) {
+                statement.setObject(k + 1, values[k]);
+            }
+            statement.addBatch();
+            if (++rows % BATCH_SIZE == 0) {
+                statement.executeBatch();
+            }
+        }
+
+        @Override
+        public long rows() {
+            return rows;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                statement.executeBatch();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
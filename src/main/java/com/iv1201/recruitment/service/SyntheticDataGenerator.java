@@ -0,0 +1,388 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Bulk-loads a synthetic dataset of applicants for scale and performance testing.
+ *
+ * Every generated person is an applicant named {@code <prefix><n>}. A share of them have
+ * applied: they get one to three competence profiles, one to three availability windows
+ * and an application. Competence popularity follows a Zipf distribution over the existing
+ * catalog, availability windows cluster around the summer season so they overlap, and
+ * application dates lean towards the recent past.
+ *
+ * On PostgreSQL rows are streamed with {@code COPY}; other databases get batched inserts.
+ * The whole dataset is written in one transaction. The same seed produces the same data,
+ * apart from dates, which are relative to today.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final String COMPETENCE_PROFILE_SEQUENCE = "competence_profile_competence_profile_id_seq";
+    static final String AVAILABILITY_SEQUENCE = "availability_availability_id_seq";
+    // Must match the allocation size of the pooled id generators on the entities
+    private static final int SEQUENCE_INCREMENT = 50;
+    private static final int BATCH_SIZE = 1000;
+    private static final double COMPETENCE_SKEW = 1.2;
+
+    private static final String[] NAMES = {"Anna", "Erik", "Maria", "Lars", "Karin", "Johan", "Sara",
+        "Anders", "Emma", "Per", "Elin", "Nils", "Lina", "Oskar", "Ida", "Jonas", "Maja", "Viktor",
+        "Hanna", "Mohammed", "Fatima", "Ali", "Sofia", "Leo"};
+    private static final String[] SURNAMES = {"Andersson", "Johansson", "Karlsson", "Nilsson", "Eriksson",
+        "Larsson", "Olsson", "Persson", "Svensson", "Gustafsson", "Pettersson", "Jonsson", "Jansson",
+        "Hansson", "Bengtsson", "Lindberg", "Lindqvist", "Berg", "Holm", "Ahmed"};
+
+    private final DataSource dataSource;
+    private final String passwordHash;
+
+    /**
+     * Constructs a SyntheticDataGenerator.
+     *
+     * @param dataSource the database to load into
+     * @param passwordHash encoded password given to every generated person
+     */
+    public SyntheticDataGenerator(DataSource dataSource, String passwordHash) {
+        this.dataSource = dataSource;
+        this.passwordHash = passwordHash;
+    }
+
+    /**
+     * Checks whether persons with the given username prefix already exist.
+     *
+     * @param prefix the username prefix
+     * @return true if a dataset with this prefix has been generated before
+     * @throws SQLException if the database cannot be queried
+     */
+    public boolean exists(String prefix) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT username FROM person WHERE username LIKE ?")) {
+            statement.setString(1, prefix + "%");
+            statement.setFetchSize(BATCH_SIZE);
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    if (generatedNumber(result.getString(1), prefix) >= 0) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Generates and loads the dataset. Roles and competences must already exist.
+     *
+     * @param prefix username prefix of the generated persons, letters, digits and dashes only
+     * @param persons number of persons to generate
+     * @param applicationRatio share of persons who have applied, between 0 and 1
+     * @param seed random seed
+     * @return number of rows inserted per table, in insertion order
+     * @throws SQLException if loading fails; nothing is committed in that case
+     */
+    public Map<String, Long> generate(String prefix, int persons, double applicationRatio, long seed)
+            throws SQLException {
+        if (!prefix.matches("[A-Za-z0-9-]+")) {
+            throw new IllegalArgumentException("Prefix must contain only letters, digits and dashes: " + prefix);
+        }
+        long start = System.nanoTime();
+        Map<String, Long> rows = new LinkedHashMap<>();
+        boolean postgres;
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                postgres = connection.isWrapperFor(PGConnection.class);
+                int roleId = findApplicantRoleId(connection);
+                int[] competenceIds = findCompetenceIds(connection);
+
+                rows.put("person", insertPersons(connection, postgres, prefix, persons, roleId, seed));
+                int[] personIds = findPersonIds(connection, prefix, persons);
+
+                BitSet applied = new BitSet(persons);
+                Random random = new Random(seed);
+                for (int i = 0; i < persons; i++) {
+                    if (random.nextDouble() < applicationRatio) {
+                        applied.set(i);
+                    }
+                }
+                rows.put("competence_profile", insertCompetenceProfiles(
+                    connection, postgres, personIds, applied, competenceIds, seed + 1));
+                rows.put("availability", insertAvailabilities(connection, postgres, personIds, applied, seed + 2));
+                rows.put("application", insertApplications(connection, postgres, personIds, applied, seed + 3));
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            if (postgres) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ANALYZE person, competence_profile, availability, application");
+                }
+            }
+        }
+        logger.info("Synthetic dataset '{}' loaded with {} in {} ms: {}", prefix,
+            postgres ? "COPY" : "batched inserts", (System.nanoTime() - start) / 1_000_000, rows);
+        return rows;
+    }
+
+    private long insertPersons(Connection connection, boolean postgres, String prefix, int persons,
+                               int roleId, long seed) throws SQLException {
+        Random random = new Random(seed - 1);
+        try (RowSink sink = RowSink.open(connection, postgres, "person",
+                "name", "surname", "pnr", "email", "password", "role_id", "username")) {
+            for (int i = 0; i < persons; i++) {
+                String username = prefix + i;
+                LocalDate birthDate = LocalDate.of(1960, 1, 1).plusDays(random.nextInt(47 * 365));
+                String pnr = String.format("%04d%02d%02d-%04d", birthDate.getYear(),
+                    birthDate.getMonthValue(), birthDate.getDayOfMonth(), random.nextInt(10000));
+                sink.add(NAMES[random.nextInt(NAMES.length)], SURNAMES[random.nextInt(SURNAMES.length)],
+                    pnr, username + "@example.com", passwordHash, roleId, username);
+            }
+            return sink.rows();
+        }
+    }
+
+    private long insertCompetenceProfiles(Connection connection, boolean postgres, int[] personIds, BitSet applied,
+                                          int[] competenceIds, long seed) throws SQLException {
+        Random random = new Random(seed);
+        double[] popularity = zipfCumulative(competenceIds.length);
+        int[] chosen = new int[3];
+        int nextId = reserveIds(connection, COMPETENCE_PROFILE_SEQUENCE);
+        long rows;
+
+        try (RowSink sink = RowSink.open(connection, postgres, "competence_profile",
+                "competence_profile_id", "person_id", "competence_id", "years_of_experience")) {
+            for (int i = applied.nextSetBit(0); i >= 0; i = applied.nextSetBit(i + 1)) {
+                int count = Math.min(competenceIds.length, weighted(random, 50, 35, 15) + 1);
+                for (int c = 0; c < count; c++) {
+                    int competence;
+                    do {
+                        competence = sample(random, popularity);
+                    } while (contains(chosen, c, competence));
+                    chosen[c] = competence;
+                    // Mostly a few years, with a long tail of veterans; column is numeric(4,2)
+                    double years = Math.min(40, -2.5 * Math.log(1 - random.nextDouble()));
+                    sink.add(nextId++, personIds[i], competenceIds[competence],
+                        BigDecimal.valueOf(Math.round(years * 4) / 4.0).setScale(2));
+                }
+            }
+            rows = sink.rows();
+        }
+        advanceSequence(connection, postgres, COMPETENCE_PROFILE_SEQUENCE, nextId - 1);
+        return rows;
+    }
+
+    private long insertAvailabilities(Connection connection, boolean postgres, int[] personIds, BitSet applied,
+                                      long seed) throws SQLException {
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+        LocalDate summer = LocalDate.of(today.getYear() + 1, 6, 1);
+        int nextId = reserveIds(connection, AVAILABILITY_SEQUENCE);
+        long rows;
+
+        try (RowSink sink = RowSink.open(connection, postgres, "availability",
+                "availability_id", "person_id", "from_date", "to_date")) {
+            for (int i = applied.nextSetBit(0); i >= 0; i = applied.nextSetBit(i + 1)) {
+                int count = weighted(random, 60, 30, 10) + 1;
+                for (int a = 0; a < count; a++) {
+                    // Two thirds of the windows start in the summer season, the rest any time in the coming year
+                    LocalDate from = random.nextInt(3) < 2
+                        ? summer.plusDays(random.nextInt(92))
+                        : today.plusDays(random.nextInt(365));
+                    LocalDate to = from.plusDays(7 + random.nextInt(84));
+                    sink.add(nextId++, personIds[i], from, to);
+                }
+            }
+            rows = sink.rows();
+        }
+        advanceSequence(connection, postgres, AVAILABILITY_SEQUENCE, nextId - 1);
+        return rows;
+    }
+
+    private long insertApplications(Connection connection, boolean postgres, int[] personIds, BitSet applied,
+                                    long seed) throws SQLException {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        ApplicationStatus[] statuses = {ApplicationStatus.UNHANDLED, ApplicationStatus.REJECTED,
+            ApplicationStatus.ACCEPTED};
+
+        try (RowSink sink = RowSink.open(connection, postgres, "application",
+                "person_id", "status", "created_at", "updated_at", "version")) {
+            for (int i = applied.nextSetBit(0); i >= 0; i = applied.nextSetBit(i + 1)) {
+                double age = random.nextDouble();
+                LocalDateTime createdAt = now.minusSeconds((long) (age * age * 365 * 24 * 3600));
+                ApplicationStatus status = statuses[weighted(random, 70, 20, 10)];
+                boolean handled = status != ApplicationStatus.UNHANDLED;
+                LocalDateTime updatedAt = handled
+                    ? createdAt.plusSeconds(random.nextInt((int) Math.max(1,
+                        Duration.between(createdAt, now).getSeconds())))
+                    : createdAt;
+                sink.add(personIds[i], status.name(), createdAt, updatedAt, handled ? 1 : 0);
+            }
+            return sink.rows();
+        }
+    }
+
+    private int findApplicantRoleId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT role_id FROM role WHERE name = 'applicant'")) {
+            if (!result.next()) {
+                throw new IllegalStateException("Role 'applicant' does not exist");
+            }
+            return result.getInt(1);
+        }
+    }
+
+    private int[] findCompetenceIds(Connection connection) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                 "SELECT competence_id FROM competence ORDER BY competence_id")) {
+            while (result.next()) {
+                ids.add(result.getInt(1));
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No competences exist");
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Reads back the database-generated person ids, indexed by the number in the username.
+     */
+    private int[] findPersonIds(Connection connection, String prefix, int persons) throws SQLException {
+        int[] ids = new int[persons];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT person_id, username FROM person WHERE username LIKE ?")) {
+            statement.setString(1, prefix + "%");
+            statement.setFetchSize(BATCH_SIZE);
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    int number = generatedNumber(result.getString(2), prefix);
+                    if (number >= 0 && number < persons) {
+                        ids[number] = result.getInt(1);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Gets n from a generated username {@code <prefix><n>}. LIKE on the prefix also matches
+     * other users, such as {@code load-recruiter-0} for prefix {@code load-}, or a dataset
+     * generated as {@code ab} for prefix {@code a}; those are not generated by this prefix.
+     *
+     * @return the number, or -1 if the username was not generated with this prefix
+     */
+    static int generatedNumber(String username, String prefix) {
+        if (username == null || !username.startsWith(prefix)) {
+            return -1;
+        }
+        String number = username.substring(prefix.length());
+        if (number.isEmpty() || number.length() > 9 || !number.chars().allMatch(c -> c >= '0' && c <= '9')
+                || (number.length() > 1 && number.charAt(0) == '0')) {
+            return -1;
+        }
+        return Integer.parseInt(number);
+    }
+
+    /**
+     * Returns the first id of a block that no pooled Hibernate generator can hand out.
+     * The generator owns the {@link #SEQUENCE_INCREMENT} ids up to each sequence value it reads.
+     */
+    private int reserveIds(Connection connection, String sequence) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT nextval('" + sequence + "')")) {
+            result.next();
+            return result.getInt(1) + 1;
+        }
+    }
+
+    /**
+     * Moves the sequence past the ids used, so the next pooled block starts after them.
+     */
+    private void advanceSequence(Connection connection, boolean postgres, String sequence, int lastId)
+            throws SQLException {
+        int next = lastId + SEQUENCE_INCREMENT;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(postgres
+                ? "SELECT setval('" + sequence + "', " + next + ", false)"
+                : "ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+        }
+    }
+
+    private static double[] zipfCumulative(int n) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, COMPETENCE_SKEW);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int sample(Random random, double[] cumulative) {
+        double r = random.nextDouble();
+        for (int k = 0; k < cumulative.length - 1; k++) {
+            if (r < cumulative[k]) {
+                return k;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    private static int weighted(Random random, int... weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int r = random.nextInt(total);
+        for (int k = 0; k < weights.length; k++) {
+            r -= weights[k];
+            if (r < 0) {
+                return k;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int k = 0; k < length; k++) {
+            if (values[k] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,131 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.security.PersonPrincipal;
+import com.iv1201.recruitment.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size- and TTL-bounded cache of loaded users, so repeated logins do not hit the database.
+ *
+ * Plugged into the authentication provider as its {@link UserCache}. If a cached password no
+ * longer matches, the provider reloads the user itself, so a stale entry can at most cost one
+ * extra query. Entries are copied on the way in and out because Spring Security erases the
+ * password of the returned user after authentication.
+ * Code that changes a person's username or password must call {@link #removeUserFromCache(String)}.
+ */
+@Service
+public class UserDetailsCache implements UserCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDetailsCache.class);
+
+    static final int MAX_ENTRIES = 10_000;
+    static final Duration TTL = Duration.ofMinutes(5);
+
+    private final Clock clock;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Map<String, Entry> entries;
+
+    /**
+     * Constructs a UserDetailsCache with the default bounds.
+     */
+    public UserDetailsCache() {
+        this(Clock.systemUTC(), MAX_ENTRIES, TTL);
+    }
+
+    UserDetailsCache(Clock clock, int maxEntries, Duration ttl) {
+        this.clock = clock;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        // Access order, so the least recently used user is dropped first
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserDetailsCache.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(username);
+            if (entry != null && !clock.instant().isBefore(entry.expiresAt)) {
+                entries.remove(username);
+                entry = null;
+            }
+        }
+        return entry == null ? null : copy(entry.user);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        Entry entry = new Entry(copy(user), clock.instant().plus(ttl));
+        synchronized (entries) {
+            entries.put(user.getUsername(), entry);
+        }
+    }
+
+    /**
+     * Removes a user from the cache. When called inside a transaction the user is removed
+     * again after commit, so a login racing the change cannot re-cache the old credentials.
+     *
+     * @param username the username to evict
+     */
+    @Override
+    public void removeUserFromCache(String username) {
+        evict(username);
+        // Evict again after commit: a login may re-cache the old credentials before then
+        AfterCommit.run(() -> evict(username));
+    }
+
+    /**
+     * Gets the number of cached users, including expired entries not yet removed.
+     *
+     * @return cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evict(String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+        logger.debug("Evicted user from cache: {}", username);
+    }
+
+    private static UserDetails copy(UserDetails user) {
+        if (user instanceof PersonPrincipal principal) {
+            return principal.copy();
+        }
+        return User.withUserDetails(user).build();
+    }
+
+    /**
+     * A cached user with its expiry time.
+     */
+    private static final class Entry {
+        private final UserDetails user;
+        private final Instant expiresAt;
+
+        private Entry(UserDetails user, Instant expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
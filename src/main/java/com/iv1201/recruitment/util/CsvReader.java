@@ -0,0 +1,120 @@
+package com.iv1201.recruitment.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV records from a character stream, one record at a time.
+ *
+ * Quoted fields may contain separators, doubled quotes and line breaks. Both CRLF and LF line
+ * endings are accepted and a leading byte order mark is skipped, so files saved by spreadsheets
+ * and files written by {@link CsvWriter} read the same. Only the current record is held in memory.
+ */
+public class CsvReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private int pending = -1;
+    private boolean started;
+    private long line = 1;
+    private long recordLine;
+
+    /**
+     * Creates a CSV reader on top of the given reader.
+     *
+     * @param reader the source, ideally buffered
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields of the record, or null at the end of the input
+     * @throws IOException if the source cannot be read
+     * @throws IllegalArgumentException if a quoted field is not closed before the end of the input
+     */
+    public List<String> readRow() throws IOException {
+        int c = next();
+        if (!started) {
+            started = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = next();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int following = next();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = next();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = next();
+        }
+    }
+
+    /**
+     * Gets the line on which the record last returned by {@link #readRow()} starts.
+     *
+     * @return the 1-based line number
+     */
+    public long getLineNumber() { return recordLine; }
+
+    private int next() throws IOException {
+        if (pending >= 0) {
+            int c = pending;
+            pending = -1;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,74 @@
+package com.iv1201.recruitment.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes RFC 4180 CSV rows to a character stream.
+ *
+ * Fields containing a separator, quote or line break are quoted. Fields starting with a character
+ * that spreadsheets treat as a formula are prefixed with an apostrophe, so applicant-supplied text
+ * is never evaluated when a recruiter opens the file.
+ * The writer is not buffered or closed here; callers own the underlying stream.
+ */
+public class CsvWriter {
+
+    private static final char SEPARATOR = ',';
+    private static final String LINE_END = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Creates a CSV writer on top of the given writer.
+     *
+     * @param writer the destination, ideally buffered
+     */
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes one row. Null values are written as empty fields.
+     *
+     * @param values the field values
+     * @throws IOException if the destination cannot be written
+     */
+    public void writeRow(String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(values[i]);
+        }
+        writer.write(LINE_END);
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String field = isFormula(value) ? "'" + value : value;
+        if (needsQuoting(field)) {
+            writer.write('"');
+            writer.write(field.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(field);
+        }
+    }
+
+    private static boolean isFormula(String value) {
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
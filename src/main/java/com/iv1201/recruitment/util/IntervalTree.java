@@ -0,0 +1,168 @@
+package com.iv1201.recruitment.util;
+
+import com.iv1201.recruitment.domain.dto.AvailabilityPeriod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable centered interval tree over availability periods.
+ * Each node holds the periods containing its center point, sorted once by start and
+ * once by end, so an overlap query visits O(log n) nodes and only scans matching periods.
+ * Dates are stored as epoch days to keep comparisons primitive.
+ */
+public final class IntervalTree {
+
+    private final Node root;
+    private final List<AvailabilityPeriod> periods;
+
+    /**
+     * Builds a tree from the given periods. Periods with a missing or reversed date range are ignored.
+     *
+     * @param periods the periods to index
+     */
+    public IntervalTree(List<AvailabilityPeriod> periods) {
+        List<AvailabilityPeriod> valid = new ArrayList<>(periods.size());
+        for (AvailabilityPeriod p : periods) {
+            if (p.getFromDate() != null && p.getToDate() != null && !p.getToDate().isBefore(p.getFromDate())) {
+                valid.add(p);
+            }
+        }
+        this.periods = Collections.unmodifiableList(valid);
+        this.root = build(valid);
+    }
+
+    /**
+     * Returns all indexed periods.
+     * @return unmodifiable list of periods
+     */
+    public List<AvailabilityPeriod> getPeriods() {
+        return periods;
+    }
+
+    /**
+     * Returns the number of indexed periods.
+     * @return the size
+     */
+    public int size() {
+        return periods.size();
+    }
+
+    /**
+     * Reports every period overlapping the closed range [from, to].
+     *
+     * @param from start of the range
+     * @param to end of the range
+     * @param out receives each overlapping period
+     */
+    public void query(LocalDate from, LocalDate to, Consumer<AvailabilityPeriod> out) {
+        queryWhile(from, to, p -> {
+            out.accept(p);
+            return true;
+        });
+    }
+
+    /**
+     * Reports periods overlapping the closed range [from, to] until the receiver asks to stop.
+     *
+     * @param from start of the range
+     * @param to end of the range
+     * @param out receives each overlapping period and returns false to end the query
+     * @return false if the receiver ended the query early
+     */
+    public boolean queryWhile(LocalDate from, LocalDate to, Predicate<AvailabilityPeriod> out) {
+        return query(root, from.toEpochDay(), to.toEpochDay(), out);
+    }
+
+    private static boolean query(Node node, long lo, long hi, Predicate<AvailabilityPeriod> out) {
+        while (node != null) {
+            if (hi < node.center) {
+                // Every period here ends after the center, so only the start bound matters
+                for (int i = 0; i < node.byStart.length && node.starts[i] <= hi; i++) {
+                    if (!out.test(node.byStart[i])) {
+                        return false;
+                    }
+                }
+                node = node.left;
+            } else if (lo > node.center) {
+                // Every period here starts before the center, so only the end bound matters
+                for (int i = 0; i < node.byEnd.length && node.ends[i] >= lo; i++) {
+                    if (!out.test(node.byEnd[i])) {
+                        return false;
+                    }
+                }
+                node = node.right;
+            } else {
+                // The range covers the center: every period here overlaps
+                for (AvailabilityPeriod p : node.byStart) {
+                    if (!out.test(p)) {
+                        return false;
+                    }
+                }
+                if (!query(node.left, lo, hi, out)) {
+                    return false;
+                }
+                node = node.right;
+            }
+        }
+        return true;
+    }
+
+    private static Node build(List<AvailabilityPeriod> periods) {
+        if (periods.isEmpty()) {
+            return null;
+        }
+
+        long[] endpoints = new long[periods.size() * 2];
+        for (int i = 0; i < periods.size(); i++) {
+            endpoints[2 * i] = periods.get(i).getFromDate().toEpochDay();
+            endpoints[2 * i + 1] = periods.get(i).getToDate().toEpochDay();
+        }
+        Arrays.sort(endpoints);
+        long center = endpoints[periods.size()];
+
+        List<AvailabilityPeriod> left = new ArrayList<>();
+        List<AvailabilityPeriod> right = new ArrayList<>();
+        List<AvailabilityPeriod> here = new ArrayList<>();
+        for (AvailabilityPeriod p : periods) {
+            if (p.getToDate().toEpochDay() < center) {
+                left.add(p);
+            } else if (p.getFromDate().toEpochDay() > center) {
+                right.add(p);
+            } else {
+                here.add(p);
+            }
+        }
+        return new Node(center, here, build(left), build(right));
+    }
+
+    private static final class Node {
+        private final long center;
+        private final AvailabilityPeriod[] byStart;
+        private final long[] starts;
+        private final AvailabilityPeriod[] byEnd;
+        private final long[] ends;
+        private final Node left;
+        private final Node right;
+
+        private Node(long center, List<AvailabilityPeriod> here, Node left, Node right) {
+            this.center = center;
+            this.left = left;
+            this.right = right;
+
+            this.byStart = here.toArray(new AvailabilityPeriod[0]);
+            Arrays.sort(byStart, Comparator.comparing(AvailabilityPeriod::getFromDate));
+            this.starts = Arrays.stream(byStart).mapToLong(p -> p.getFromDate().toEpochDay()).toArray();
+
+            this.byEnd = here.toArray(new AvailabilityPeriod[0]);
+            Arrays.sort(byEnd, Comparator.comparing(AvailabilityPeriod::getToDate).reversed());
+            this.ends = Arrays.stream(byEnd).mapToLong(p -> p.getToDate().toEpochDay()).toArray();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- Migration: Index on person(pnr)
+-- The applicant import rejects rows whose personal number is already registered
+-- and checks each chunk of rows against this column.
+-- Not unique: the legacy data is not guaranteed to have distinct personal numbers.
+CREATE INDEX IF NOT EXISTS idx_person_pnr ON person(pnr);
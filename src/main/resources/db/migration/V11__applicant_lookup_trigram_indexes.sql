@@ -0,0 +1,11 @@
+-- Migration: Trigram indexes for the recruiter applicant lookup
+-- The type-ahead matches each typed term anywhere in name, surname, email or pnr with
+-- lower(column) LIKE '%term%'. A B-tree cannot answer a leading wildcard; these GIN
+-- trigram indexes can, for terms of three characters or more (shorter terms are not sent).
+-- Each term becomes a BitmapOr over the four indexes, and several terms a BitmapAnd.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_person_name_trgm ON person USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_person_surname_trgm ON person USING gin (lower(surname) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_person_email_trgm ON person USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_person_pnr_trgm ON person USING gin (lower(pnr) gin_trgm_ops);
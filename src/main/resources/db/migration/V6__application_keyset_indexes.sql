@@ -0,0 +1,10 @@
+-- Migration: Indexes for keyset (cursor) pagination on the recruiter dashboard
+-- Pages are read as "rows after/before (created_at, application_id)", so each
+-- page is a bounded range scan on these indexes instead of an OFFSET scan.
+
+CREATE INDEX IF NOT EXISTS idx_application_created_at_id
+    ON application(created_at DESC, application_id DESC);
+
+-- Same ordering, used when the dashboard is filtered by status
+CREATE INDEX IF NOT EXISTS idx_application_status_created_at_id
+    ON application(status, created_at DESC, application_id DESC);
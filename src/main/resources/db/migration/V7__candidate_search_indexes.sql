@@ -0,0 +1,11 @@
+-- Migration: Indexes supporting the recruiter candidate search
+-- The search runs one EXISTS subquery per competence criterion and one for the
+-- availability window, each correlated on person_id.
+
+-- "has competence X with at least N years": range on years within a competence
+CREATE INDEX IF NOT EXISTS idx_competence_profile_competence_years
+    ON competence_profile(competence_id, years_of_experience, person_id);
+
+-- "available during [from, to]": per-person periods, checked from the index alone
+CREATE INDEX IF NOT EXISTS idx_availability_person_dates
+    ON availability(person_id, from_date, to_date);
@@ -0,0 +1,11 @@
+-- Migration: Pooled sequence ids for competence_profile and availability
+-- IDENTITY ids force Hibernate to insert each row on its own to read the id back,
+-- which disables JDBC batching. The entities now draw ids from the existing identity
+-- sequences with a pooled optimizer (allocation size 50), so the sequences must
+-- accept explicit ids and step by the same increment.
+
+ALTER TABLE public.competence_profile ALTER COLUMN competence_profile_id SET GENERATED BY DEFAULT;
+ALTER TABLE public.competence_profile ALTER COLUMN competence_profile_id SET INCREMENT BY 50;
+
+ALTER TABLE public.availability ALTER COLUMN availability_id SET GENERATED BY DEFAULT;
+ALTER TABLE public.availability ALTER COLUMN availability_id SET INCREMENT BY 50;
@@ -0,0 +1,18 @@
+-- Migration: Indexes for the hot lookup paths
+-- V1 imported the legacy schema with primary keys only. Login, registration and
+-- the application pages look people and their rows up by these columns.
+-- application(created_at) and application(status, created_at) are covered by V6,
+-- availability(person_id) by V7.
+
+-- Login (findByUsername) and registration (existsByUsername); one account per username.
+-- Legacy rows without a username are NULL and do not conflict.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_person_username ON person(username);
+
+-- Registration (existsByEmail) and account claiming (findByEmail); one account per email
+CREATE UNIQUE INDEX IF NOT EXISTS uq_person_email ON person(email);
+
+-- Application details and resubmission (per-person competences)
+CREATE INDEX IF NOT EXISTS idx_competence_profile_person ON competence_profile(person_id);
+
+-- Superseded by idx_application_status_created_at_id from V6, which has status as its leading column
+DROP INDEX IF EXISTS idx_application_status;
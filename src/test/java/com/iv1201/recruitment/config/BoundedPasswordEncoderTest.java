@@ -0,0 +1,104 @@
+package com.iv1201.recruitment.config;
+
+import com.iv1201.recruitment.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BoundedPasswordEncoder.
+ */
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    /**
+     * Verifies that hashes are made at the target strength, that older hashes still match,
+     * and that queue and hashing times are recorded per operation.
+     */
+    @Test
+    void testEncodeAndMatch() {
+        encoder = new BoundedPasswordEncoder(5, 2, 4, registry);
+
+        String hash = encoder.encode("password");
+
+        assertTrue(hash.startsWith("$2a$05$"), hash);
+        assertTrue(encoder.matches("password", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertTrue(encoder.matches("password", new BCryptPasswordEncoder(4).encode("password")));
+        assertEquals(1, registry.get("recruitment.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(3, registry.get("recruitment.password.queue").tag("operation", "matches").timer().count());
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode(null));
+    }
+
+    /**
+     * Verifies that weaker hashes are reported for upgrade and hashes at the target strength are not.
+     */
+    @Test
+    void testUpgradeEncoding() {
+        encoder = new BoundedPasswordEncoder(5, 1, 1, registry);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+    }
+
+    /**
+     * Verifies that calls beyond the busy threads and the full queue are rejected at once and counted,
+     * that upgrades are skipped while hashes are queued, and that queued calls still complete.
+     */
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        encoder = new BoundedPasswordEncoder(12, 1, 1, registry);
+        String weakHash = new BCryptPasswordEncoder(4).encode("password");
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        awaitTrue(() -> registry.get("recruitment.password.queue").tag("operation", "encode").timer().count() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitTrue(() -> encoder.getQueuedCount() == 1);
+
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("password", weakHash));
+        assertFalse(encoder.upgradeEncoding(weakHash));
+        assertEquals(1, registry.get("recruitment.password.rejected").tag("operation", "matches").counter().count());
+
+        assertTrue(new BCryptPasswordEncoder().matches("first", running.get(30, TimeUnit.SECONDS)));
+        assertTrue(new BCryptPasswordEncoder().matches("second", queued.get(30, TimeUnit.SECONDS)));
+        assertEquals(0, encoder.getQueuedCount());
+        assertTrue(encoder.upgradeEncoding(weakHash));
+    }
+
+    /**
+     * Verifies that the benchmark stays within its bounds.
+     */
+    @Test
+    void testBenchmarkStrength() {
+        assertEquals(4, BoundedPasswordEncoder.benchmarkStrength(Duration.ZERO, 4, 8));
+        assertEquals(8, BoundedPasswordEncoder.benchmarkStrength(Duration.ofMinutes(1), 4, 8));
+        int strength = BoundedPasswordEncoder.benchmarkStrength(Duration.ofMillis(50), 4, 31);
+        assertTrue(strength >= 4 && strength < 31, String.valueOf(strength));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
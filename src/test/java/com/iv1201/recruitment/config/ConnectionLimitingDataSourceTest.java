@@ -0,0 +1,136 @@
+package com.iv1201.recruitment.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ConnectionLimitingDataSource.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection pooledConnection;
+
+    /**
+     * Verifies that callers over the limit time out and closing a connection frees its permit once.
+     */
+    @Test
+    void testLimitAndRelease() throws SQLException {
+        when(pool.getConnection()).thenReturn(pooledConnection);
+        ConnectionLimitingDataSource dataSource =
+                new ConnectionLimitingDataSource(pool, 1, Duration.ofMillis(50));
+
+        Connection first = dataSource.getConnection();
+        assertEquals(1, dataSource.getActiveCount());
+        assertThrows(SQLTransientConnectionException.class, () -> connectFromOtherThread(dataSource));
+
+        first.close();
+        first.close();
+        verify(pooledConnection, times(2)).close();
+        assertEquals(0, dataSource.getActiveCount());
+
+        dataSource.getConnection().close();
+        assertEquals(0, dataSource.getActiveCount());
+    }
+
+    /**
+     * Verifies that a thread holding a connection gets a second one without waiting for a permit,
+     * while other threads still wait.
+     */
+    @Test
+    void testNestedAcquisitionBypassesLimit() throws Exception {
+        when(pool.getConnection()).thenReturn(pooledConnection);
+        ConnectionLimitingDataSource dataSource =
+                new ConnectionLimitingDataSource(pool, 1, Duration.ofMillis(50));
+
+        Connection outer = dataSource.getConnection();
+        Connection nested = dataSource.getConnection();
+        assertEquals(1, dataSource.getActiveCount());
+        assertThrows(SQLTransientConnectionException.class, () -> connectFromOtherThread(dataSource));
+
+        nested.close();
+        assertEquals(1, dataSource.getActiveCount());
+        assertThrows(SQLTransientConnectionException.class, () -> connectFromOtherThread(dataSource));
+
+        outer.close();
+        assertEquals(0, dataSource.getActiveCount());
+        connectFromOtherThread(dataSource);
+        dataSource.getConnection().close();
+        assertEquals(0, dataSource.getActiveCount());
+    }
+
+    /**
+     * Verifies that a failing pool does not leak permits.
+     */
+    @Test
+    void testPoolFailureReleasesPermit() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool down"));
+        ConnectionLimitingDataSource dataSource =
+                new ConnectionLimitingDataSource(pool, 1, Duration.ofMillis(50));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getActiveCount());
+    }
+
+    /**
+     * Verifies that many virtual threads queue for a small pool and all eventually get a connection.
+     */
+    @Test
+    void testVirtualThreadsQueueForConnections() throws Exception {
+        when(pool.getConnection()).thenReturn(pooledConnection);
+        ConnectionLimitingDataSource dataSource =
+                new ConnectionLimitingDataSource(pool, 2, Duration.ofSeconds(10));
+
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        assertTrue(dataSource.getActiveCount() <= 2);
+                        TimeUnit.MILLISECONDS.sleep(1);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        }
+        verify(pool, times(200)).getConnection();
+        assertEquals(0, dataSource.getActiveCount());
+    }
+
+    private static void connectFromOtherThread(DataSource dataSource) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                dataSource.getConnection().close();
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.iv1201.recruitment.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for VirtualThreadPinningMonitor.
+ */
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+
+    /**
+     * Verifies that a virtual thread blocking inside a synchronized block is reported at its site.
+     */
+    @Test
+    void testReportsPinnedVirtualThread() throws Exception {
+        VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+        pinningMonitor.start();
+        try {
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (pinningMonitor.report().isEmpty() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+            assertTrue(pinningMonitor.report().keySet().stream()
+                            .anyMatch(site -> site.contains("VirtualThreadPinningMonitorTest.sleepWhileHoldingMonitor")),
+                    "pinning site not reported: " + pinningMonitor.report());
+        } finally {
+            pinningMonitor.stop();
+        }
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.iv1201.recruitment.controller;
+
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.security.PersonPrincipal;
+import com.iv1201.recruitment.service.ApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests for ApplicantController.
+ */
+@WebMvcTest(ApplicantController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ApplicantControllerTest {
+
+    private static final PersonPrincipal KALLE = new PersonPrincipal("kalle", "",
+            List.of(new SimpleGrantedAuthority("ROLE_APPLICANT")), 7, "Kalle Anka");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PersonRepository personRepository;
+
+    @MockBean
+    private ApplicationService applicationService;
+
+    /**
+     * Verifies that the dashboard identifies the applicant from the principal without a username lookup.
+     */
+    @Test
+    void testDashboardUsesPrincipal() throws Exception {
+        Person reference = new Person();
+        reference.setPersonId(7);
+        when(personRepository.getReferenceById(7)).thenReturn(reference);
+        when(applicationService.getApplicationByPerson(reference)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/applicant/dashboard")
+                        .principal(new UsernamePasswordAuthenticationToken(KALLE, null, KALLE.getAuthorities())))
+                .andExpect(status().isOk())
+                .andExpect(view().name("applicant/dashboard"))
+                .andExpect(model().attribute("person", KALLE))
+                .andExpect(content().string(containsString("Kalle Anka")));
+
+        verify(personRepository, never()).findByUsername(anyString());
+    }
+
+    /**
+     * Verifies that a request without a person principal is sent to the login page.
+     */
+    @Test
+    void testRedirectWithoutPersonPrincipal() throws Exception {
+        mockMvc.perform(get("/applicant/status")
+                        .principal(new TestingAuthenticationToken("kalle", null, "ROLE_APPLICANT")))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login"));
+
+        verify(applicationService, never()).getApplicationByPerson(any());
+    }
+}
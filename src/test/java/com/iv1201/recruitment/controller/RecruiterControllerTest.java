@@ -0,0 +1,315 @@
+package com.iv1201.recruitment.controller;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.dto.ApplicantLookupDTO;
+import com.iv1201.recruitment.domain.dto.ApplicantLookupResult;
+import com.iv1201.recruitment.domain.dto.ApplicationCursor;
+import com.iv1201.recruitment.domain.dto.ApplicationKeysetPage;
+import com.iv1201.recruitment.domain.dto.ApplicationListDTO;
+import com.iv1201.recruitment.domain.dto.BulkStatusUpdateResult;
+import com.iv1201.recruitment.domain.dto.CandidateSearchForm;
+import com.iv1201.recruitment.service.ApplicantLookupService;
+import com.iv1201.recruitment.service.ApplicationEventBroadcaster;
+import com.iv1201.recruitment.service.ApplicationExportService;
+import com.iv1201.recruitment.service.ApplicationService;
+import com.iv1201.recruitment.service.CandidateSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests for RecruiterController.
+ */
+@WebMvcTest(RecruiterController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class RecruiterControllerTest {
+
+    private static final TestingAuthenticationToken RECRUITER =
+            new TestingAuthenticationToken("recruiter", null, "ROLE_RECRUITER");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ApplicationService applicationService;
+
+    @MockBean
+    private CandidateSearchService candidateSearchService;
+
+    @MockBean
+    private ApplicationExportService applicationExportService;
+
+    @MockBean
+    private ApplicantLookupService applicantLookupService;
+
+    @MockBean
+    private ApplicationEventBroadcaster eventBroadcaster;
+
+    private final ApplicationListDTO row = new ApplicationListDTO(
+            7, "Kalle Anka", ApplicationStatus.UNHANDLED, LocalDateTime.of(2025, 1, 1, 12, 0));
+
+    /**
+     * Verifies that the dashboard uses cursor pagination by default and links to the next page.
+     */
+    @Test
+    void testDashboardCursorMode() throws Exception {
+        String next = ApplicationCursor.of(row).encode();
+        when(applicationService.getApplicationsKeyset(isNull(), isNull(), isNull(), eq(10)))
+                .thenReturn(new ApplicationKeysetPage(List.of(row), next, null));
+
+        mockMvc.perform(get("/recruiter/applications").principal(RECRUITER))
+                .andExpect(status().isOk())
+                .andExpect(view().name("recruiter/dashboard"))
+                .andExpect(model().attribute("pagingMode", "cursor"))
+                .andExpect(model().attribute("nextCursor", next))
+                .andExpect(content().string(containsString("after=" + next)));
+
+        verify(applicationService, never()).getAllApplications(any(Pageable.class));
+    }
+
+    /**
+     * Verifies that a cursor in the URL is decoded and passed to the service.
+     */
+    @Test
+    void testDashboardWithCursor() throws Exception {
+        String cursor = ApplicationCursor.of(row).encode();
+        when(applicationService.getApplicationsKeyset(eq(ApplicationStatus.UNHANDLED), any(), isNull(), eq(10)))
+                .thenReturn(new ApplicationKeysetPage(List.of(), null, cursor));
+
+        mockMvc.perform(get("/recruiter/applications")
+                        .param("after", cursor)
+                        .param("status", "unhandled")
+                        .principal(RECRUITER))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("hasPrevious", true));
+
+        verify(applicationService).getApplicationsKeyset(eq(ApplicationStatus.UNHANDLED),
+                argThat(c -> c.getApplicationId() == 7), isNull(), eq(10));
+    }
+
+    /**
+     * Verifies that the status filter links show the maintained per-status counts.
+     */
+    @Test
+    void testDashboardStatusCounts() throws Exception {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        counts.put(ApplicationStatus.UNHANDLED, 4L);
+        counts.put(ApplicationStatus.ACCEPTED, 2L);
+        counts.put(ApplicationStatus.REJECTED, 1L);
+        when(applicationService.getStatusCounts()).thenReturn(counts);
+        when(applicationService.getApplicationsKeyset(isNull(), isNull(), isNull(), eq(10)))
+                .thenReturn(new ApplicationKeysetPage(List.of(row), null, null));
+
+        mockMvc.perform(get("/recruiter/applications").principal(RECRUITER))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("allCount", 7L))
+                .andExpect(content().string(containsString("UNHANDLED (4)")))
+                .andExpect(content().string(containsString("ACCEPTED (2)")));
+    }
+
+    /**
+     * Verifies that an explicit page number falls back to offset pagination.
+     */
+    @Test
+    void testDashboardOffsetMode() throws Exception {
+        when(applicationService.getAllApplications(PageRequest.of(1, 10)))
+                .thenReturn(new PageImpl<>(List.of(row), PageRequest.of(1, 10), 11));
+
+        mockMvc.perform(get("/recruiter/applications").param("page", "1").principal(RECRUITER))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("pagingMode", "offset"))
+                .andExpect(model().attribute("totalElements", 11L));
+    }
+
+    /**
+     * Verifies that the search page shows only the form when no criteria are given.
+     */
+    @Test
+    void testSearchFormWithoutCriteria() throws Exception {
+        mockMvc.perform(get("/recruiter/search").principal(RECRUITER))
+                .andExpect(status().isOk())
+                .andExpect(view().name("recruiter/search"))
+                .andExpect(model().attributeDoesNotExist("applications"));
+
+        verifyNoInteractions(candidateSearchService);
+    }
+
+    /**
+     * Verifies that search criteria are bound and results rendered with page links.
+     */
+    @Test
+    void testSearchWithCriteria() throws Exception {
+        when(candidateSearchService.search(any(CandidateSearchForm.class), eq(PageRequest.of(0, 10))))
+                .thenReturn(new PageImpl<>(List.of(row), PageRequest.of(0, 10), 11));
+
+        mockMvc.perform(get("/recruiter/search")
+                        .param("competences[0].competenceId", "1")
+                        .param("competences[0].yearsOfExperience", "2")
+                        .param("fromDate", "2025-06-01")
+                        .principal(RECRUITER))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("totalElements", 11L))
+                .andExpect(model().attributeExists("nextPageUrl"))
+                .andExpect(content().string(containsString("Kalle Anka")));
+
+        verify(candidateSearchService).search(argThat(f -> f.getCompetences().get(0).getCompetenceId() == 1
+                && f.getFromDate() != null), any());
+    }
+
+    /**
+     * Verifies that the dashboard selection is parsed into expected versions and the outcome is flashed.
+     */
+    @Test
+    void testBulkStatusUpdate() throws Exception {
+        BulkStatusUpdateResult result = new BulkStatusUpdateResult();
+        result.addUpdated(7);
+        result.addConflict(8, BulkStatusUpdateResult.Conflict.MODIFIED);
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        expected.put(7, 0);
+        expected.put(8, 3);
+        when(applicationService.updateApplicationStatuses(expected, ApplicationStatus.REJECTED)).thenReturn(result);
+
+        mockMvc.perform(post("/recruiter/applications/status").principal(RECRUITER)
+                        .param("selected", "7:0", "8:3")
+                        .param("status", "rejected")
+                        .param("filter", "UNHANDLED"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/recruiter/applications?status=UNHANDLED"))
+                .andExpect(flash().attribute("bulkResult", result));
+    }
+
+    /**
+     * Verifies that the dashboard renders row selections with versions and the flashed bulk outcome.
+     */
+    @Test
+    void testDashboardShowsBulkResult() throws Exception {
+        row.setVersion(2);
+        BulkStatusUpdateResult result = new BulkStatusUpdateResult();
+        result.addUpdated(7);
+        result.addConflict(1234, BulkStatusUpdateResult.Conflict.NOT_FOUND);
+        when(applicationService.getApplicationsKeyset(isNull(), isNull(), isNull(), eq(10)))
+                .thenReturn(new ApplicationKeysetPage(List.of(row), null, null));
+
+        mockMvc.perform(get("/recruiter/applications").principal(RECRUITER).flashAttr("bulkResult", result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("value=\"7:2\"")))
+                .andExpect(content().string(containsString("1 applications updated, 0 already had that status.")))
+                .andExpect(content().string(containsString("Application 1234 no longer exists")));
+    }
+
+    /**
+     * Verifies that a malformed selection is reported without calling the service.
+     */
+    @Test
+    void testBulkStatusUpdateInvalidSelection() throws Exception {
+        mockMvc.perform(post("/recruiter/applications/status").principal(RECRUITER)
+                        .param("selected", "7")
+                        .param("status", "REJECTED"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/recruiter/applications"))
+                .andExpect(flash().attribute("error", "Invalid application selection"));
+
+        verify(applicationService, never()).updateApplicationStatuses(any(), any());
+    }
+
+    /**
+     * Verifies that the export streams the service output as a CSV attachment named after the filter.
+     */
+    @Test
+    void testExportApplications() throws Exception {
+        when(applicationExportService.exportCsv(eq(ApplicationStatus.ACCEPTED), any(Writer.class)))
+                .thenAnswer(invocation -> {
+                    Writer writer = invocation.getArgument(1);
+                    writer.write("application_id\r\n7\r\n");
+                    writer.flush();
+                    return 1L;
+                });
+
+        MvcResult result = mockMvc.perform(get("/recruiter/applications/export")
+                        .param("status", "accepted")
+                        .principal(RECRUITER))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"applications-accepted.csv\""))
+                .andExpect(content().string("application_id\r\n7\r\n"));
+    }
+
+    /**
+     * Verifies that an unknown status is rejected instead of exporting everything.
+     */
+    @Test
+    void testExportApplicationsInvalidStatus() throws Exception {
+        mockMvc.perform(get("/recruiter/applications/export")
+                        .param("status", "hired")
+                        .principal(RECRUITER))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(applicationExportService);
+    }
+
+    /**
+     * Verifies that the lookup returns the matches as JSON and echoes the query.
+     */
+    @Test
+    void testLookupApplicants() throws Exception {
+        when(applicantLookupService.lookup("kalle an")).thenReturn(new ApplicantLookupResult("kalle an",
+                List.of(new ApplicantLookupDTO(3, "Kalle", "Anka", "kalle@example.com", "19900101-1234",
+                        7, ApplicationStatus.UNHANDLED)), false));
+
+        mockMvc.perform(get("/recruiter/applicants/lookup")
+                        .param("q", "kalle an")
+                        .principal(RECRUITER))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.query").value("kalle an"))
+                .andExpect(jsonPath("$.truncated").value(false))
+                .andExpect(jsonPath("$.matches[0].surname").value("Anka"))
+                .andExpect(jsonPath("$.matches[0].applicationId").value(7))
+                .andExpect(jsonPath("$.matches[0].status").value("UNHANDLED"));
+    }
+
+    /**
+     * Verifies that the events endpoint hands the request over to the broadcaster's stream.
+     */
+    @Test
+    void testApplicationEvents() throws Exception {
+        when(eventBroadcaster.subscribe()).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/recruiter/applications/events").principal(RECRUITER))
+                .andExpect(request().asyncStarted());
+
+        verify(eventBroadcaster).subscribe();
+        verifyNoInteractions(applicationService);
+    }
+}
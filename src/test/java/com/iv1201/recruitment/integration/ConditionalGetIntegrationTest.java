@@ -0,0 +1,192 @@
+package com.iv1201.recruitment.integration;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.domain.CompetenceProfile;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.repository.CompetenceProfileRepository;
+import com.iv1201.recruitment.repository.CompetenceRepository;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.repository.RoleRepository;
+import com.iv1201.recruitment.security.PersonPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that application pages answer a repeated visit with 304 Not Modified from the
+ * application's version alone, and render again once the application or session changes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private CompetenceProfileRepository competenceProfileRepository;
+
+    private PersonPrincipal applicantPrincipal;
+    private PersonPrincipal recruiterPrincipal;
+    private Application application;
+    private Competence competence;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Person applicant = personRepository.save(person("etagapplicant", roleRepository.save(new Role("applicant"))));
+        Person recruiter = personRepository.save(person("etagrecruiter", roleRepository.save(new Role("recruiter"))));
+        competence = competenceRepository.save(new Competence("ticket sales"));
+        competenceProfileRepository.save(new CompetenceProfile(applicant, competence, BigDecimal.ONE));
+        application = applicationRepository.save(new Application(applicant));
+
+        applicantPrincipal = new PersonPrincipal(applicant.getUsername(), "",
+            List.of(new SimpleGrantedAuthority("ROLE_APPLICANT")), applicant.getPersonId(), "Kalle Anka");
+        recruiterPrincipal = new PersonPrincipal(recruiter.getUsername(), "",
+            List.of(new SimpleGrantedAuthority("ROLE_RECRUITER")), recruiter.getPersonId(), "Rita Recruiter");
+        session = new MockHttpSession();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        competenceProfileRepository.deleteAll();
+        applicationRepository.deleteAll();
+        personRepository.deleteAll();
+        competenceRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    /**
+     * Verifies that the application detail page is tagged, marked private, and answered with 304
+     * after a single version read when it has not changed.
+     */
+    @Test
+    void testApplicationDetailsNotModified() throws Exception {
+        String etag = mockMvc.perform(get(detailsUrl()).session(session).with(user(recruiterPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\""), etag);
+
+        mockMvc.perform(get(detailsUrl()).session(session).with(user(recruiterPrincipal))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""))
+                .andExpect(SqlStatements.count(1));
+
+        mockMvc.perform(get(detailsUrl()).session(new MockHttpSession()).with(user(recruiterPrincipal))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Verifies that a status change gives the detail page a new tag.
+     */
+    @Test
+    void testApplicationDetailsModifiedByStatusChange() throws Exception {
+        String etag = mockMvc.perform(get(detailsUrl()).session(session).with(user(recruiterPrincipal)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post(detailsUrl() + "/status").session(session).with(csrf()).with(user(recruiterPrincipal))
+                        .param("status", "ACCEPTED")
+                        .param("version", application.getVersion().toString()))
+                .andExpect(status().is3xxRedirection());
+
+        // The redirected page carries a flash message and is rendered without a tag
+        mockMvc.perform(get(detailsUrl()).session(session).with(user(recruiterPrincipal))
+                        .flashAttr("success", true)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        String changed = mockMvc.perform(get(detailsUrl()).session(session).with(user(recruiterPrincipal))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+    }
+
+    /**
+     * Verifies that the applicant status page is answered with 304 after one query, and that
+     * resubmitting the application, which replaces its competences, changes the tag.
+     */
+    @Test
+    void testApplicantStatusNotModifiedUntilResubmitted() throws Exception {
+        String etag = mockMvc.perform(get("/applicant/status").session(session).with(user(applicantPrincipal)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/applicant/status").session(session).with(user(applicantPrincipal))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(SqlStatements.count(1));
+
+        mockMvc.perform(post("/applicant/apply").session(session).with(csrf()).with(user(applicantPrincipal))
+                        .param("competences[0].competenceId", competence.getCompetenceId().toString())
+                        .param("competences[0].yearsOfExperience", "3"))
+                .andExpect(redirectedUrl("/applicant/status"));
+
+        // The first visit shows the submission's flash message and is not tagged
+        mockMvc.perform(get("/applicant/status").session(session).with(user(applicantPrincipal))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("success", true))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        String resubmitted = mockMvc.perform(get("/applicant/status").session(session).with(user(applicantPrincipal))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(resubmitted);
+        assertNotEquals(etag, resubmitted);
+    }
+
+    private String detailsUrl() {
+        return "/recruiter/applications/" + application.getApplicationId();
+    }
+
+    private Person person(String username, Role role) {
+        Person person = new Person();
+        person.setUsername(username);
+        person.setPassword("password");
+        person.setName("Kalle");
+        person.setSurname("Anka");
+        person.setRole(role);
+        return person;
+    }
+}
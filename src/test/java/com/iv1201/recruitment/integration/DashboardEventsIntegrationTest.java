@@ -0,0 +1,122 @@
+package com.iv1201.recruitment.integration;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.repository.RoleRepository;
+import com.iv1201.recruitment.security.PersonPrincipal;
+import com.iv1201.recruitment.service.ApplicationEventBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that an open recruiter dashboard stream receives committed status changes
+ * made by another recruiter, and that keeping the stream open costs no database work.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DashboardEventsIntegrationTest {
+
+    private static final long WAIT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationEventBroadcaster eventBroadcaster;
+
+    private PersonPrincipal recruiterPrincipal;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Person applicant = personRepository.save(person("eventsapplicant", roleRepository.save(new Role("applicant"))));
+        Person recruiter = personRepository.save(person("eventsrecruiter", roleRepository.save(new Role("recruiter"))));
+        application = applicationRepository.save(new Application(applicant));
+        recruiterPrincipal = new PersonPrincipal(recruiter.getUsername(), "",
+            List.of(new SimpleGrantedAuthority("ROLE_RECRUITER")), recruiter.getPersonId(), "Rita Recruiter");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAll();
+        personRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    /**
+     * Verifies that a status change is pushed to an open stream with the new version,
+     * and that subscribing runs no SQL statements.
+     */
+    @Test
+    void testStatusChangeIsPushed() throws Exception {
+        int subscribers = eventBroadcaster.getSubscriberCount();
+        MvcResult stream = mockMvc.perform(get("/recruiter/applications/events").with(user(recruiterPrincipal)))
+                .andExpect(request().asyncStarted())
+                .andExpect(SqlStatements.count(0))
+                .andReturn();
+        assertEquals(subscribers + 1, eventBroadcaster.getSubscriberCount());
+
+        try {
+            mockMvc.perform(post("/recruiter/applications/" + application.getApplicationId() + "/status")
+                    .with(csrf()).with(user(recruiterPrincipal))
+                    .param("status", "ACCEPTED")
+                    .param("version", application.getVersion().toString()))
+                    .andExpect(status().is3xxRedirection());
+
+            String expected = "event:status\ndata:[{\"applicationId\":" + application.getApplicationId()
+                    + ",\"previousStatus\":\"UNHANDLED\",\"status\":\"ACCEPTED\",\"version\":"
+                    + (application.getVersion() + 1) + "}]\n\n";
+            long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+            while (!stream.getResponse().getContentAsString().contains(expected)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(stream.getResponse().getContentAsString().contains(expected),
+                    stream.getResponse().getContentAsString());
+        } finally {
+            stream.getRequest().getAsyncContext().complete();
+        }
+        assertEquals(subscribers, eventBroadcaster.getSubscriberCount());
+    }
+
+    private Person person(String username, Role role) {
+        Person person = new Person();
+        person.setUsername(username);
+        person.setPassword("password");
+        person.setName("Kalle");
+        person.setSurname("Anka");
+        person.setRole(role);
+        return person;
+    }
+}
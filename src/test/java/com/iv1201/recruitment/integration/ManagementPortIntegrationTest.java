@@ -0,0 +1,51 @@
+package com.iv1201.recruitment.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that with a separate management port the scrape endpoint is open there,
+ * and is not served on the application port at all.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class ManagementPortIntegrationTest {
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Verifies that the management port serves the scrape endpoint without login.
+     */
+    @Test
+    void testScrapeEndpointOpenOnManagementPort() throws Exception {
+        HttpResponse<String> scrape = get(managementPort, "/actuator/prometheus");
+
+        assertEquals(200, scrape.statusCode());
+        assertTrue(scrape.body().contains("hikaricp_connections_max{"), scrape.body());
+        assertEquals(200, get(managementPort, "/actuator/health").statusCode());
+        assertNotEquals(200, get(serverPort, "/actuator/prometheus").statusCode());
+    }
+
+    private HttpResponse<String> get(int port, String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
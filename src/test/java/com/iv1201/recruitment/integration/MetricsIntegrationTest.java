@@ -0,0 +1,114 @@
+package com.iv1201.recruitment.integration;
+
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * End-to-end tests for the Prometheus scrape endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        savePerson("metricsuser", "applicant");
+        savePerson("metricsrecruiter", "recruiter");
+    }
+
+    /**
+     * Verifies that the scrape endpoint on the application port serves a recruiter over HTTP
+     * basic and reports login outcomes, the user lookup timer histogram and the connection pool.
+     */
+    @Test
+    void testScrapeEndpointReportsLoginsAndPool() throws Exception {
+        mockMvc.perform(post("/login").with(csrf()).param("username", "metricsuser").param("password", "wrong"))
+                .andExpect(redirectedUrl("/login?error"));
+        mockMvc.perform(post("/login").with(csrf()).param("username", "metricsuser").param("password", "password"))
+                .andExpect(redirectedUrl("/"));
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").with(httpBasic("metricsrecruiter", "password")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(sample(scrape, "recruitment_logins_total", "outcome=\"bad_credentials\"") >= 1, scrape);
+        assertTrue(sample(scrape, "recruitment_logins_total", "outcome=\"success\"") >= 1, scrape);
+        assertTrue(scrape.contains("recruitment_auth_user_load_seconds_bucket{"), scrape);
+        assertTrue(scrape.contains("hikaricp_connections_max{"), scrape);
+    }
+
+    /**
+     * Verifies that only health is open on the application port: scraping needs a login, and an
+     * applicant login is not enough.
+     */
+    @Test
+    void testScrapeEndpointRequiresRecruiter() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("metricsrecruiter", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("metricsuser", "password")))
+                .andExpect(status().isForbidden());
+    }
+
+    private void savePerson(String username, String roleName) {
+        if (personRepository.existsByUsername(username)) {
+            return;
+        }
+        Role role = roleRepository.findByName(roleName);
+        if (role == null) {
+            role = roleRepository.save(new Role(roleName));
+        }
+        Person person = new Person();
+        person.setUsername(username);
+        person.setPassword(passwordEncoder.encode("password"));
+        person.setName("Kalle");
+        person.setSurname("Anka");
+        person.setRole(role);
+        personRepository.save(person);
+    }
+
+    private static double sample(String scrape, String name, String label) {
+        return scrape.lines()
+                .filter(line -> line.startsWith(name + "{") && line.contains(label))
+                .mapToDouble(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .findFirst()
+                .orElse(-1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.iv1201.recruitment.integration;
+
+import com.iv1201.recruitment.config.BoundedPasswordEncoder;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.exception.PasswordHashingBusyException;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.repository.RoleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that a successful login upgrades a weaker password hash to the configured strength,
+ * and that logins rejected by saturated password hashing are reported as busy.
+ */
+@SpringBootTest(properties = "recruitment.password.strength=5")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHashingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Person person = new Person();
+        person.setUsername("hashuser");
+        person.setPassword(new BCryptPasswordEncoder(4).encode("password"));
+        person.setName("Kalle");
+        person.setSurname("Anka");
+        person.setRole(roleRepository.save(new Role("applicant")));
+        personRepository.save(person);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        personRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    /**
+     * Verifies that the first successful login stores the password at the target strength,
+     * and that later logins use the new hash without upgrading it again.
+     */
+    @Test
+    void testLoginUpgradesWeakerHash() throws Exception {
+        login("wrong").andExpect(redirectedUrl("/login?error"));
+        assertTrue(storedHash().startsWith("$2a$04$"));
+
+        login("password").andExpect(redirectedUrl("/"));
+        String upgraded = storedHash();
+        assertTrue(upgraded.startsWith("$2a$05$"), upgraded);
+        assertTrue(passwordEncoder.matches("password", upgraded));
+
+        login("password").andExpect(redirectedUrl("/"));
+        assertEquals(upgraded, storedHash());
+    }
+
+    /**
+     * Verifies that a login rejected because password hashing is saturated is sent back to the
+     * login page as busy and counted, and leaves the stored hash alone.
+     */
+    @Test
+    void testSaturatedHashingRejectsLogin() throws Exception {
+        doThrow(new PasswordHashingBusyException("busy")).when(passwordEncoder).matches(any(), anyString());
+        double before = busyLogins();
+
+        login("password").andExpect(redirectedUrl("/login?busy"));
+
+        assertEquals(before + 1, busyLogins());
+        assertTrue(storedHash().startsWith("$2a$04$"));
+    }
+
+    private ResultActions login(String password) throws Exception {
+        return mockMvc.perform(post("/login").with(csrf()).param("username", "hashuser").param("password", password));
+    }
+
+    private String storedHash() {
+        return personRepository.findByUsername("hashuser").orElseThrow().getPassword();
+    }
+
+    private double busyLogins() {
+        return meterRegistry.get("recruitment.logins").tag("outcome", "busy").functionCounter().count();
+    }
+}
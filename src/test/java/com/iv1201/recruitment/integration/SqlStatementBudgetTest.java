@@ -0,0 +1,200 @@
+package com.iv1201.recruitment.integration;
+
+import com.iv1201.recruitment.domain.*;
+import com.iv1201.recruitment.repository.*;
+import com.iv1201.recruitment.security.PersonPrincipal;
+import com.iv1201.recruitment.service.ApplicationStatusCounters;
+import com.iv1201.recruitment.service.AvailabilityIndex;
+import com.iv1201.recruitment.service.CompetenceCatalog;
+import com.iv1201.recruitment.service.UserDetailsCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pins the number of SQL statements the main endpoints run, so an N+1 query or an extra
+ * lookup fails the build. Data is committed, as in production, and removed after each test
+ * together with what the in-memory caches remember of it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetTest {
+
+    private static final int COMPETENCES = 3;
+    private static final String APPLICANT = "budgetapplicant";
+    private static final String RECRUITER = "budgetrecruiter";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private CompetenceProfileRepository competenceProfileRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private CompetenceCatalog competenceCatalog;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private ApplicationStatusCounters statusCounters;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Person applicant;
+    private PersonPrincipal applicantPrincipal;
+    private PersonPrincipal recruiterPrincipal;
+    private List<Competence> competences;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Role applicantRole = roleRepository.save(new Role("applicant"));
+        Role recruiterRole = roleRepository.save(new Role("recruiter"));
+        applicant = personRepository.save(person(APPLICANT, applicantRole));
+        Person recruiter = personRepository.save(person(RECRUITER, recruiterRole));
+        competences = competenceRepository.saveAll(List.of(new Competence("ticket sales"),
+            new Competence("lotteries"), new Competence("roller coaster operation")));
+
+        applicantPrincipal = new PersonPrincipal(applicant.getUsername(), "",
+            List.of(new SimpleGrantedAuthority("ROLE_APPLICANT")), applicant.getPersonId(), "Kalle Anka");
+        recruiterPrincipal = new PersonPrincipal(recruiter.getUsername(), "",
+            List.of(new SimpleGrantedAuthority("ROLE_RECRUITER")), recruiter.getPersonId(), "Rita Recruiter");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (applicant != null) {
+            availabilityIndex.replacePeriods(applicant.getPersonId(), List.of());
+        }
+        competenceProfileRepository.deleteAll();
+        availabilityRepository.deleteAll();
+        applicationRepository.deleteAll();
+        personRepository.deleteAll();
+        competenceRepository.deleteAll();
+        roleRepository.deleteAll();
+
+        // Other tests share the context, so the caches must not keep the deleted rows
+        userDetailsCache.removeUserFromCache(APPLICANT);
+        userDetailsCache.removeUserFromCache(RECRUITER);
+        competenceCatalog.invalidate();
+        statusCounters.load();
+        availabilityIndex.load();
+    }
+
+    /**
+     * Verifies that a login loads the person together with the role.
+     */
+    @Test
+    void testLoginBudget() throws Exception {
+        mockMvc.perform(post("/login").with(csrf())
+                .param("username", applicant.getUsername()).param("password", "password"))
+                .andExpect(redirectedUrl("/"))
+                .andExpect(SqlStatements.count(1));
+    }
+
+    /**
+     * Verifies that the application form checks for an existing application and loads the catalog.
+     */
+    @Test
+    void testApplyFormBudget() throws Exception {
+        mockMvc.perform(get("/applicant/apply").with(user(applicantPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2));
+    }
+
+    /**
+     * Verifies that submitting an application with several competences does not run
+     * one statement per competence: the catalog is loaded once and inserts are batched.
+     */
+    @Test
+    void testSubmitApplicationBudget() throws Exception {
+        var request = post("/applicant/apply").with(csrf()).with(user(applicantPrincipal))
+                .param("availabilities[0].fromDate", "2030-06-01")
+                .param("availabilities[0].toDate", "2030-08-31");
+        for (int i = 0; i < COMPETENCES; i++) {
+            request.param("competences[" + i + "].competenceId", competences.get(i).getCompetenceId().toString())
+                   .param("competences[" + i + "].yearsOfExperience", "2");
+        }
+        mockMvc.perform(request)
+                .andExpect(redirectedUrl("/applicant/status"))
+                .andExpect(SqlStatements.count(10));
+    }
+
+    /**
+     * Verifies that the recruiter dashboard reads a page of applications without loading each applicant.
+     */
+    @Test
+    void testDashboardBudget() throws Exception {
+        applicationRepository.save(new Application(applicant));
+
+        mockMvc.perform(get("/recruiter/dashboard").with(user(recruiterPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(1));
+    }
+
+    /**
+     * Verifies that application details load competences and availabilities without an N+1 query,
+     * after the version read that tags the page for conditional GETs.
+     */
+    @Test
+    void testApplicationDetailsBudget() throws Exception {
+        Application application = applicationRepository.save(new Application(applicant));
+        for (Competence competence : competences) {
+            competenceProfileRepository.save(new CompetenceProfile(applicant, competence, BigDecimal.ONE));
+        }
+        availabilityRepository.save(new Availability(applicant, LocalDate.of(2030, 6, 1), LocalDate.of(2030, 8, 31)));
+
+        mockMvc.perform(get("/recruiter/applications/" + application.getApplicationId())
+                .with(user(recruiterPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(4));
+    }
+
+    private Person person(String username, Role role) {
+        Person person = new Person();
+        person.setUsername(username);
+        person.setPassword(passwordEncoder.encode("password"));
+        person.setName("Kalle");
+        person.setSurname("Anka");
+        person.setRole(role);
+        return person;
+    }
+}
@@ -0,0 +1,47 @@
+package com.iv1201.recruitment.integration;
+
+import com.iv1201.recruitment.config.SqlStatementBudgetFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MockMvc matchers for the number of SQL statements a request ran, as counted by
+ * {@link SqlStatementBudgetFilter}. Usage:
+ * {@code mockMvc.perform(get("/recruiter/dashboard")).andExpect(SqlStatements.count(2))}.
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    /**
+     * Expects the request to have run exactly the given number of statements.
+     *
+     * @param expected the expected statement count
+     * @return the matcher
+     */
+    public static ResultMatcher count(int expected) {
+        return result -> assertEquals(expected, statementCount(result.getRequest().getAttribute(
+            SqlStatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE)), "SQL statements run by the request");
+    }
+
+    /**
+     * Expects the request to have run at most the given number of statements.
+     *
+     * @param budget the largest acceptable statement count
+     * @return the matcher
+     */
+    public static ResultMatcher atMost(int budget) {
+        return result -> {
+            int count = statementCount(result.getRequest().getAttribute(
+                SqlStatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE));
+            assertTrue(count <= budget, "request ran " + count + " SQL statements, budget " + budget);
+        };
+    }
+
+    private static int statementCount(Object attribute) {
+        assertNotNull(attribute, "no SQL statement count recorded; is the statement budget filter registered?");
+        return (Integer) attribute;
+    }
+}
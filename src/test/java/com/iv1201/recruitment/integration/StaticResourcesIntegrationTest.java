@@ -0,0 +1,118 @@
+package com.iv1201.recruitment.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that pages link static resources by content hash, and that those resources are
+ * served with long-lived caching and in their build-time gzip variant, while plain URLs are revalidated.
+ * Static resources pass the security filter chain like any other public page.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StaticResourcesIntegrationTest {
+
+    private static final Pattern STYLESHEET = Pattern.compile("/css/style-[0-9a-f]{32}\\.css");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Verifies that the rendered page links the stylesheet by its content hash.
+     */
+    @Test
+    void testPageLinksHashedStylesheet() throws Exception {
+        String page = mockMvc.perform(get("/login"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(STYLESHEET.matcher(page).find(), page);
+        assertFalse(page.contains("/css/style.css"), page);
+    }
+
+    /**
+     * Verifies that the hashed stylesheet is cacheable for a year without revalidation, is served
+     * to anonymous users with the security headers, and needs no session or database access.
+     */
+    @Test
+    void testHashedStylesheetIsCachedPublicly() throws Exception {
+        MvcResult result = mockMvc.perform(get(stylesheetUrl()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/css"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().string("X-Frame-Options", "DENY"))
+                .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+                .andExpect(SqlStatements.count(0))
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false));
+        assertFalse(result.getResponse().getContentAsString().isEmpty());
+    }
+
+    /**
+     * Verifies that the plain stylesheet URL, whose content changes between releases, must be
+     * revalidated, also in its gzip variant, and that serving it does not change the caching
+     * of the hashed URL.
+     */
+    @Test
+    void testPlainStylesheetIsRevalidated() throws Exception {
+        mockMvc.perform(get("/css/style.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        mockMvc.perform(get("/css/style.css").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        mockMvc.perform(get(stylesheetUrl()).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    /**
+     * Verifies that clients accepting gzip get the precompressed variant, and others the original.
+     */
+    @Test
+    void testGzipVariantIsServed() throws Exception {
+        String url = stylesheetUrl();
+        int plain = mockMvc.perform(get(url))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray().length;
+
+        byte[] gzipped = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(content().contentTypeCompatibleWith("text/css"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // gzip magic number
+        assertEquals((byte) 0x1f, gzipped[0]);
+        assertEquals((byte) 0x8b, gzipped[1]);
+        assertTrue(gzipped.length < plain, gzipped.length + " >= " + plain);
+    }
+
+    private String stylesheetUrl() throws Exception {
+        String page = mockMvc.perform(get("/login")).andReturn().getResponse().getContentAsString();
+        Matcher matcher = STYLESHEET.matcher(page);
+        assertTrue(matcher.find(), page);
+        return matcher.group();
+    }
+}
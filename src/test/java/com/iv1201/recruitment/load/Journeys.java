@@ -0,0 +1,106 @@
+package com.iv1201.recruitment.load;
+
+import com.iv1201.recruitment.load.VirtualUser.JourneyFailure;
+import com.iv1201.recruitment.load.VirtualUser.Page;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * The scripted user flows, driven through the same pages and forms a browser uses.
+ */
+final class Journeys {
+
+    private static final Pattern COMPETENCE_ID = Pattern.compile("\"competenceId\":(\\d+)");
+    private static final Pattern APPLICATION_LINK = Pattern.compile("href=\"/recruiter/applications/(\\d+)\"");
+    private static final Pattern NEXT_PAGE = Pattern.compile("href=\"(/recruiter/applications\\?after=[^\"]+)\"");
+    private static final Pattern VERSION = Pattern.compile("name=\"version\"\\s+value=\"(\\d+)\"");
+
+    private static final int DASHBOARD_PAGES = 3;
+
+    private Journeys() {
+    }
+
+    /**
+     * Registers a new applicant, logs in, opens the application form, submits an
+     * application and logs out.
+     *
+     * @param user a fresh virtual user
+     * @param username an unused username
+     * @param password the password to register with
+     */
+    static void applicant(VirtualUser user, String username, String password) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        user.get("register.form", "/register", "/register");
+        user.post("register.submit", "/register", Map.of(
+                "username", username,
+                "password", password,
+                "name", "Load",
+                "surname", "Tester",
+                "pnr", String.format("%08d-%04d", 19700101 + random.nextInt(300000), random.nextInt(10000)),
+                "email", username + "@example.com"), "/login");
+
+        login(user, username, password, "/applicant");
+
+        Page form = user.get("apply.form", "/applicant/apply", "/applicant/apply");
+        List<String> competenceIds = form.findAll(COMPETENCE_ID);
+        if (competenceIds.isEmpty()) {
+            throw new JourneyFailure("apply.form: no competences offered");
+        }
+        user.post("apply.submit", "/applicant/apply", Map.of(
+                "competences[0].competenceId", competenceIds.get(random.nextInt(competenceIds.size())),
+                "competences[0].yearsOfExperience", String.valueOf(1 + random.nextInt(10)),
+                "availabilities[0].fromDate", "2026-06-01",
+                "availabilities[0].toDate", "2026-08-31"), "/applicant/status");
+
+        logout(user);
+    }
+
+    /**
+     * Logs in as a recruiter, pages through the dashboard, opens one application
+     * from the last page, changes its status and logs out.
+     *
+     * @param user a fresh virtual user
+     * @param username a recruiter's username
+     * @param password the recruiter's password
+     */
+    static void recruiter(VirtualUser user, String username, String password) {
+        Page page = login(user, username, password, "/recruiter/dashboard");
+
+        for (int i = 1; i < DASHBOARD_PAGES; i++) {
+            String next = page.find(NEXT_PAGE);
+            if (next == null) {
+                break;
+            }
+            page = user.get("dashboard.next", next, "/recruiter/applications");
+        }
+
+        List<String> applicationIds = page.findAll(APPLICATION_LINK);
+        if (applicationIds.isEmpty()) {
+            throw new JourneyFailure("dashboard: no applications listed");
+        }
+        String id = applicationIds.get(ThreadLocalRandom.current().nextInt(applicationIds.size()));
+        String detailPath = "/recruiter/applications/" + id;
+        Page detail = user.get("application.detail", detailPath, detailPath);
+
+        String version = detail.find(VERSION);
+        String status = ThreadLocalRandom.current().nextBoolean() ? "ACCEPTED" : "REJECTED";
+        user.post("application.status", detailPath + "/status",
+                version == null ? Map.of("status", status) : Map.of("status", status, "version", version),
+                detailPath);
+
+        logout(user);
+    }
+
+    private static Page login(VirtualUser user, String username, String password, String expectedPath) {
+        user.get("login.form", "/login", "/login");
+        return user.post("login.submit", "/login",
+                Map.of("username", username, "password", password), expectedPath);
+    }
+
+    private static void logout(VirtualUser user) {
+        user.post("logout", "/logout", Map.of(), "/login");
+    }
+}
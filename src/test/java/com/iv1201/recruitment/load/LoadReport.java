@@ -0,0 +1,122 @@
+package com.iv1201.recruitment.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per journey step.
+ * Latencies are recorded in microseconds, up to one minute, with three significant digits.
+ */
+class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, StepStats> steps = new ConcurrentSkipListMap<>();
+
+    /**
+     * Records a completed request.
+     *
+     * @param step the journey step
+     * @param nanos time from sending the request until the last redirect was read
+     * @param error why the step failed, or null if it succeeded
+     */
+    void record(String step, long nanos, String error) {
+        StepStats stats = steps.computeIfAbsent(step, s -> new StepStats());
+        stats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        if (error != null) {
+            stats.errors.increment();
+            stats.errorReasons.computeIfAbsent(error, e -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Gets the share of failed requests over all steps.
+     *
+     * @return failed requests divided by all requests, 0 if there were none
+     */
+    double errorRate() {
+        long total = totalRequests();
+        long errors = steps.values().stream().mapToLong(s -> s.errors.sum()).sum();
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    /**
+     * Gets the number of recorded requests over all steps.
+     *
+     * @return total requests
+     */
+    long totalRequests() {
+        return steps.values().stream().mapToLong(s -> s.latency.getTotalCount()).sum();
+    }
+
+    /**
+     * Gets the 99th percentile latency of a step.
+     *
+     * @param step the journey step
+     * @return p99 in milliseconds, 0 if the step never ran
+     */
+    double p99Millis(String step) {
+        StepStats stats = steps.get(step);
+        return stats == null ? 0 : stats.latency.getValueAtPercentile(99) / 1000.0;
+    }
+
+    /**
+     * Prints a summary table with percentiles and error rates per step, followed by error reasons.
+     *
+     * @param out where to print
+     * @param elapsedSeconds length of the measured run
+     */
+    void print(PrintStream out, double elapsedSeconds) {
+        out.printf("%-22s %8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "step", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        steps.forEach((step, stats) -> {
+            Histogram h = stats.latency;
+            long count = h.getTotalCount();
+            out.printf("%-22s %8d %8.1f %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    step, count, count / elapsedSeconds, 100.0 * stats.errors.sum() / Math.max(count, 1),
+                    millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0);
+        });
+        out.printf("total: %d requests, %.1f req/s, error rate %.2f%%%n",
+                totalRequests(), totalRequests() / elapsedSeconds, 100 * errorRate());
+        steps.forEach((step, stats) -> stats.errorReasons.forEach((reason, count) ->
+                out.printf("  %s: %d x %s%n", step, count.sum(), reason)));
+    }
+
+    /**
+     * Writes the full percentile distribution of every step as an HdrHistogram .hgrm file,
+     * which can be plotted with the HdrHistogram plotter to compare runs.
+     *
+     * @param directory the output directory
+     * @throws IOException if a file cannot be written
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, StepStats> entry : steps.entrySet()) {
+            Path file = directory.resolve(entry.getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                // Values are recorded in microseconds; scale to milliseconds
+                entry.getValue().latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static final class StepStats {
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> errorReasons = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,207 @@
+package com.iv1201.recruitment.load;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.repository.CompetenceRepository;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.repository.RoleRepository;
+import com.iv1201.recruitment.service.ApplicationStatusCounters;
+import com.iv1201.recruitment.service.CompetenceCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HTTP load test of the applicant and recruiter journeys against a locally booted instance.
+ *
+ * Applicants register, log in, submit an application and log out; recruiters log in, page
+ * through the dashboard, open an application and change its status. Each simulated user
+ * runs on its own virtual thread and repeats its journey until the run ends. The database is
+ * the in-memory H2 of the test profile unless overridden with spring.datasource.* properties.
+ *
+ * Excluded from the normal test run. Run with:
+ * {@code ./mvnw test -Dtest=LoadTest -Dload.applicants=100 -Dload.recruiters=20 -Dload.duration=60}
+ * Latency histograms are written to target/load-test.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class LoadTest {
+
+    private static final String RECRUITER_PASSWORD = "load-recruiter";
+    private static final String APPLICANT_PASSWORD = "load-applicant";
+    private static final int EXISTING_APPLICATIONS = 200;
+
+    private final int applicants = Integer.getInteger("load.applicants", 50);
+    private final int recruiters = Integer.getInteger("load.recruiters", 10);
+    private final Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 30));
+    private final Duration thinkTime = Duration.ofMillis(Long.getLong("load.think-time", 0));
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationStatusCounters statusCounters;
+
+    @Autowired
+    private CompetenceCatalog competenceCatalog;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    /**
+     * Runs both journeys concurrently for the configured duration and checks the error rate.
+     */
+    @Test
+    void testUserJourneysUnderLoad() throws Exception {
+        seed();
+        LoadReport report = new LoadReport();
+        URI baseUri = URI.create("http://localhost:" + port);
+        AtomicInteger applicantSequence = new AtomicInteger();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        System.out.printf("Load test: %d applicants, %d recruiters for %d s against %s%n",
+                applicants, recruiters, duration.toSeconds(), baseUri);
+        long start = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .followRedirects(HttpClient.Redirect.NEVER)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .executor(users)
+                     .build()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < applicants; i++) {
+                running.add(users.submit(() -> repeat(deadline, () -> Journeys.applicant(
+                        new VirtualUser(client, baseUri, report),
+                        "load-applicant-" + applicantSequence.incrementAndGet(), APPLICANT_PASSWORD))));
+            }
+            for (int i = 0; i < recruiters; i++) {
+                String username = "load-recruiter-" + i;
+                running.add(users.submit(() -> repeat(deadline, () -> Journeys.recruiter(
+                        new VirtualUser(client, baseUri, report), username, RECRUITER_PASSWORD))));
+            }
+            for (Future<?> user : running) {
+                user.get(duration.toSeconds() + 120, TimeUnit.SECONDS);
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        report.print(System.out, elapsedSeconds);
+        report.writeHistograms(Path.of("target", "load-test"));
+        assertTrue(report.totalRequests() > 0, "no requests were made");
+        assertTrue(report.errorRate() <= maxErrorRate,
+                String.format("error rate %.2f%% above %.2f%%", 100 * report.errorRate(), 100 * maxErrorRate));
+        String maxP99 = System.getProperty("load.max-p99-ms");
+        if (maxP99 != null) {
+            for (String step : List.of("login.submit", "apply.submit", "dashboard.next", "application.detail")) {
+                assertTrue(report.p99Millis(step) <= Double.parseDouble(maxP99),
+                        step + " p99 " + report.p99Millis(step) + " ms above " + maxP99 + " ms");
+            }
+        }
+    }
+
+    /**
+     * Repeats a journey until the deadline. A failed journey is already counted in the report,
+     * so the user simply starts over.
+     */
+    private void repeat(long deadline, Runnable journey) {
+        while (System.nanoTime() < deadline) {
+            try {
+                journey.run();
+            } catch (VirtualUser.JourneyFailure e) {
+                // Recorded by VirtualUser; start the next journey
+            }
+            if (!thinkTime.isZero()) {
+                try {
+                    Thread.sleep(thinkTime);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the roles, competences, recruiter accounts and enough existing applications
+     * for the recruiters to page through.
+     */
+    private void seed() {
+        Role applicantRole = roleRepository.findByName("applicant");
+        if (applicantRole == null) {
+            applicantRole = roleRepository.save(new Role("applicant"));
+        }
+        Role recruiterRole = roleRepository.findByName("recruiter");
+        if (recruiterRole == null) {
+            recruiterRole = roleRepository.save(new Role("recruiter"));
+        }
+        if (competenceRepository.count() == 0) {
+            competenceRepository.saveAll(List.of(new Competence("ticket sales"),
+                    new Competence("lotteries"), new Competence("roller coaster operation")));
+            competenceCatalog.invalidate();
+        }
+
+        String recruiterHash = passwordEncoder.encode(RECRUITER_PASSWORD);
+        for (int i = 0; i < recruiters; i++) {
+            if (!personRepository.existsByUsername("load-recruiter-" + i)) {
+                personRepository.save(person("load-recruiter-" + i, recruiterHash, recruiterRole));
+            }
+        }
+
+        String applicantHash = passwordEncoder.encode(APPLICANT_PASSWORD);
+        for (int i = 0; i < EXISTING_APPLICATIONS; i++) {
+            if (!personRepository.existsByUsername("load-existing-" + i)) {
+                Person person = personRepository.save(person("load-existing-" + i, applicantHash, applicantRole));
+                Application application = new Application(person);
+                application.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+                applicationRepository.save(application);
+            }
+        }
+        statusCounters.load();
+    }
+
+    private static Person person(String username, String passwordHash, Role role) {
+        Person person = new Person();
+        person.setUsername(username);
+        person.setPassword(passwordHash);
+        person.setName("Load");
+        person.setSurname(username);
+        person.setEmail(username + "@example.com");
+        person.setRole(role);
+        return person;
+    }
+}
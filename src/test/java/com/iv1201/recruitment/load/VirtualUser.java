@@ -0,0 +1,187 @@
+package com.iv1201.recruitment.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * One simulated browser: its own session cookies and the CSRF token of the last page it loaded.
+ *
+ * Redirects are followed here rather than by the HTTP client, so cookies set on a redirect
+ * (a new session after login) are kept, and the time of a step includes all its hops.
+ * Every request is recorded in the {@link LoadReport}; a request that fails or does not end
+ * on the expected page throws {@link JourneyFailure}, which ends the user's current journey.
+ */
+class VirtualUser {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern SET_COOKIE = Pattern.compile("^([^=;\\s]+)=([^;]*)");
+    private static final int MAX_REDIRECTS = 5;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final LoadReport report;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private String csrfToken;
+
+    VirtualUser(HttpClient client, URI baseUri, LoadReport report) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.report = report;
+    }
+
+    /**
+     * Loads a page.
+     *
+     * @param step the journey step to record the request under
+     * @param path the path to load
+     * @param expectedPath the path the request must end on after redirects
+     * @return the final page
+     */
+    Page get(String step, String path, String expectedPath) {
+        return send(step, HttpRequest.newBuilder(baseUri.resolve(path)).GET(), expectedPath);
+    }
+
+    /**
+     * Submits a form with the CSRF token of the last loaded page.
+     *
+     * @param step the journey step to record the request under
+     * @param path the form action
+     * @param form the form fields
+     * @param expectedPath the path the request must end on after redirects
+     * @return the final page
+     */
+    Page post(String step, String path, Map<String, String> form, String expectedPath) {
+        Map<String, String> fields = new LinkedHashMap<>(form);
+        if (csrfToken != null) {
+            fields.put("_csrf", csrfToken);
+        }
+        String body = fields.entrySet().stream()
+                .map(e -> encode(e.getKey()) + "=" + encode(e.getValue()))
+                .collect(Collectors.joining("&"));
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        return send(step, request, expectedPath);
+    }
+
+    private Page send(String step, HttpRequest.Builder request, String expectedPath) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(withCookies(request), HttpResponse.BodyHandlers.ofString());
+            storeCookies(response);
+            for (int hop = 0; isRedirect(response.statusCode()) && hop < MAX_REDIRECTS; hop++) {
+                URI location = response.uri().resolve(response.headers().firstValue("Location").orElseThrow());
+                response = client.send(withCookies(HttpRequest.newBuilder(location).GET()),
+                        HttpResponse.BodyHandlers.ofString());
+                storeCookies(response);
+            }
+            Page page = new Page(response.statusCode(), response.uri(), response.body());
+            String error = page.status >= 400 ? "HTTP " + page.status
+                    : !page.path().startsWith(expectedPath) ? "ended on " + page.path() : null;
+            report.record(step, System.nanoTime() - start, error);
+            if (error != null) {
+                throw new JourneyFailure(step + ": " + error);
+            }
+            csrfToken = page.find(CSRF_TOKEN);
+            return page;
+        } catch (IOException e) {
+            report.record(step, System.nanoTime() - start, e.getClass().getSimpleName());
+            throw new JourneyFailure(step + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JourneyFailure(step + ": interrupted");
+        }
+    }
+
+    private HttpRequest withCookies(HttpRequest.Builder request) {
+        request.timeout(REQUEST_TIMEOUT);
+        if (!cookies.isEmpty()) {
+            request.header("Cookie", cookies.entrySet().stream()
+                    .map(e -> e.getKey() + "=" + e.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+        return request.build();
+    }
+
+    private void storeCookies(HttpResponse<?> response) {
+        List<String> setCookies = response.headers().allValues("Set-Cookie");
+        for (String setCookie : setCookies) {
+            Matcher matcher = SET_COOKIE.matcher(setCookie);
+            if (matcher.find()) {
+                cookies.put(matcher.group(1), matcher.group(2));
+            }
+        }
+    }
+
+    private static boolean isRedirect(int status) {
+        return status == 301 || status == 302 || status == 303 || status == 307;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The page a request ended on.
+     */
+    static final class Page {
+        private final int status;
+        private final URI uri;
+        private final String body;
+
+        private Page(int status, URI uri, String body) {
+            this.status = status;
+            this.uri = uri;
+            this.body = body;
+        }
+
+        String path() {
+            return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        }
+
+        String body() { return body; }
+
+        /**
+         * Finds the first group of a pattern in the page, with HTML-escaped ampersands restored.
+         *
+         * @param pattern a pattern with one group
+         * @return the group, or null if the pattern does not occur
+         */
+        String find(Pattern pattern) {
+            Matcher matcher = pattern.matcher(body);
+            return matcher.find() ? matcher.group(1).replace("&amp;", "&") : null;
+        }
+
+        /**
+         * Finds the first group of every occurrence of a pattern in the page.
+         *
+         * @param pattern a pattern with one group
+         * @return the groups in page order
+         */
+        List<String> findAll(Pattern pattern) {
+            return pattern.matcher(body).results().map(r -> r.group(1).replace("&amp;", "&")).toList();
+        }
+    }
+
+    /**
+     * Ends the current journey of a user after a failed or unexpected response.
+     */
+    static final class JourneyFailure extends RuntimeException {
+        JourneyFailure(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
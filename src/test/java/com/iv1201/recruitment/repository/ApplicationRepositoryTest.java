@@ -2,18 +2,31 @@ package com.iv1201.recruitment.repository;
 
 import com.iv1201.recruitment.domain.Application;
 import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.Availability;
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.domain.CompetenceProfile;
 import com.iv1201.recruitment.domain.Person;
 import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.domain.dto.ApplicationListDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.iv1201.recruitment.repository.CandidateSpecifications.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -175,4 +188,175 @@ class ApplicationRepositoryTest {
         Application updated = applicationRepository.findByPerson(testPerson).orElseThrow();
         assertEquals(ApplicationStatus.ACCEPTED, updated.getStatus());
     }
+
+    /**
+     * Verifies that keyset queries page through applications in both directions
+     * without skipping or repeating rows that share a creation time.
+     */
+    @Test
+    void testKeysetPagination() {
+        LocalDateTime sameTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Application newest = persistApplication(testPerson, LocalDateTime.of(2025, 2, 1, 12, 0));
+        Application tieA = persistApplication(createPerson("user2"), sameTime);
+        Application tieB = persistApplication(createPerson("user3"), sameTime);
+        entityManager.flush();
+
+        List<ApplicationListDTO> firstPage = applicationRepository.findListNewestFirst(PageRequest.of(0, 2));
+        assertEquals(List.of(newest.getApplicationId(), tieB.getApplicationId()),
+                firstPage.stream().map(ApplicationListDTO::getApplicationId).toList());
+
+        ApplicationListDTO last = firstPage.get(1);
+        List<ApplicationListDTO> nextPage = applicationRepository
+                .findListPageAfter(last.getCreatedAt(), last.getApplicationId(), PageRequest.of(0, 2));
+        assertEquals(List.of(tieA.getApplicationId()),
+                nextPage.stream().map(ApplicationListDTO::getApplicationId).toList());
+
+        List<ApplicationListDTO> previousPage = applicationRepository
+                .findListPageBefore(tieA.getCreatedAt(), tieA.getApplicationId(), PageRequest.of(0, 2));
+        assertEquals(List.of(tieB.getApplicationId(), newest.getApplicationId()),
+                previousPage.stream().map(ApplicationListDTO::getApplicationId).toList());
+    }
+
+    /**
+     * Verifies that keyset queries respect the status filter.
+     */
+    @Test
+    void testKeysetPaginationByStatus() {
+        Application accepted = persistApplication(testPerson, LocalDateTime.of(2025, 1, 1, 12, 0));
+        accepted.setStatus(ApplicationStatus.ACCEPTED);
+        persistApplication(createPerson("user2"), LocalDateTime.of(2025, 1, 2, 12, 0));
+        entityManager.flush();
+
+        List<ApplicationListDTO> accepted1 = applicationRepository
+                .findListNewestFirstByStatus(ApplicationStatus.ACCEPTED, PageRequest.of(0, 10));
+        List<ApplicationListDTO> afterNewest = applicationRepository.findListPageAfterByStatus(ApplicationStatus.UNHANDLED,
+                LocalDateTime.of(2025, 1, 3, 0, 0), Integer.MAX_VALUE, PageRequest.of(0, 10));
+
+        assertEquals(1, accepted1.size());
+        assertEquals(1, afterNewest.size());
+        assertEquals(1, applicationRepository.countByStatus(ApplicationStatus.ACCEPTED));
+    }
+
+    /**
+     * Verifies that list projections return DTOs without loading Application entities.
+     */
+    @Test
+    void testListProjections() {
+        persistApplication(testPerson, LocalDateTime.of(2025, 1, 1, 12, 0));
+        Application accepted = persistApplication(createPerson("user2"), LocalDateTime.of(2025, 1, 2, 12, 0));
+        accepted.setStatus(ApplicationStatus.ACCEPTED);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ApplicationListDTO> secondPage = applicationRepository.findListNewestFirst(PageRequest.of(1, 1));
+        List<ApplicationListDTO> acceptedPage = applicationRepository
+                .findListNewestFirstByStatus(ApplicationStatus.ACCEPTED, PageRequest.of(0, 10));
+
+        assertEquals(1, secondPage.size());
+        assertNotEquals(accepted.getApplicationId(), secondPage.get(0).getApplicationId());
+        assertEquals(List.of(accepted.getApplicationId()),
+                acceptedPage.stream().map(ApplicationListDTO::getApplicationId).toList());
+        assertEquals("Kalle Anka", applicationRepository.findListByStatus(ApplicationStatus.UNHANDLED)
+                .get(0).getPersonName());
+        assertEquals(2, applicationRepository.findListOrderByCreatedAtDesc().size());
+        assertFalse(entityManager.getEntityManager().contains(accepted));
+    }
+
+    /**
+     * Verifies that the grouped status count returns one row per status in use.
+     */
+    @Test
+    void testCountGroupedByStatus() {
+        persistApplication(testPerson, LocalDateTime.of(2025, 1, 1, 12, 0));
+        persistApplication(createPerson("user2"), LocalDateTime.of(2025, 1, 2, 12, 0))
+                .setStatus(ApplicationStatus.REJECTED);
+        persistApplication(createPerson("user3"), LocalDateTime.of(2025, 1, 3, 12, 0));
+        entityManager.flush();
+
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        applicationRepository.countGroupedByStatus().forEach(c -> counts.put(c.getStatus(), c.getCount()));
+
+        assertEquals(Map.of(ApplicationStatus.UNHANDLED, 2L, ApplicationStatus.REJECTED, 1L), counts);
+    }
+
+    /**
+     * Verifies that the bulk update only changes rows with the expected version and bumps their version.
+     */
+    @Test
+    void testUpdateStatusWhereVersion() {
+        Application first = persistApplication(testPerson, LocalDateTime.of(2025, 1, 1, 12, 0));
+        Application second = persistApplication(createPerson("user2"), LocalDateTime.of(2025, 1, 2, 12, 0));
+        Application changed = persistApplication(createPerson("user3"), LocalDateTime.of(2025, 1, 3, 12, 0));
+        entityManager.flush();
+        changed.setStatus(ApplicationStatus.ACCEPTED);
+        entityManager.flush();
+        List<Integer> ids = List.of(first.getApplicationId(), second.getApplicationId(), changed.getApplicationId());
+
+        Map<Integer, Integer> versions = new HashMap<>();
+        applicationRepository.findVersionsForUpdate(ids)
+                .forEach(row -> versions.put(row.getApplicationId(), row.getVersion()));
+        int updated = applicationRepository.updateStatusWhereVersion(
+                ids, 0, ApplicationStatus.REJECTED, LocalDateTime.now());
+
+        assertEquals(Map.of(first.getApplicationId(), 0, second.getApplicationId(), 0,
+                changed.getApplicationId(), 1), versions);
+        assertEquals(2, updated);
+        Application reloaded = applicationRepository.findById(first.getApplicationId()).orElseThrow();
+        assertEquals(ApplicationStatus.REJECTED, reloaded.getStatus());
+        assertEquals(1, reloaded.getVersion());
+        assertEquals(ApplicationStatus.ACCEPTED,
+                applicationRepository.findById(changed.getApplicationId()).orElseThrow().getStatus());
+    }
+
+    /**
+     * Verifies that candidate specifications combine competence, experience and availability.
+     */
+    @Test
+    void testCandidateSpecifications() {
+        Competence tickets = entityManager.persist(new Competence("ticket sales"));
+        Competence lotteries = entityManager.persist(new Competence("lotteries"));
+
+        Person experienced = createPerson("user2");
+        entityManager.persist(new CompetenceProfile(experienced, tickets, BigDecimal.valueOf(3)));
+        entityManager.persist(new CompetenceProfile(experienced, lotteries, BigDecimal.valueOf(1)));
+        entityManager.persist(new Availability(experienced, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 8, 31)));
+        Application match = persistApplication(experienced, LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        entityManager.persist(new CompetenceProfile(testPerson, tickets, BigDecimal.valueOf(0.5)));
+        entityManager.persist(new Availability(testPerson, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 8, 31)));
+        persistApplication(testPerson, LocalDateTime.of(2025, 1, 2, 12, 0));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Application> found = applicationRepository.findAll(fetchApplicant()
+                .and(hasCompetence(tickets.getCompetenceId(), BigDecimal.valueOf(2)))
+                .and(hasCompetence(lotteries.getCompetenceId(), null))
+                .and(availableDuring(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 15))));
+        List<Application> outsideWindow = applicationRepository.findAll(
+                availableDuring(LocalDate.of(2025, 9, 1), null));
+
+        assertEquals(1, found.size());
+        assertEquals(match.getApplicationId(), found.get(0).getApplicationId());
+        assertEquals("user2", found.get(0).getPerson().getUsername());
+        assertTrue(outsideWindow.isEmpty());
+        List<Application> indexed = applicationRepository.findAll(fetchApplicant()
+                .and(hasCompetence(tickets.getCompetenceId(), null))
+                .and(personIn(Set.of(experienced.getPersonId()))));
+        assertEquals(List.of(match.getApplicationId()),
+                indexed.stream().map(Application::getApplicationId).toList());
+    }
+
+    private Person createPerson(String username) {
+        Person person = new Person();
+        person.setUsername(username);
+        person.setPassword("password");
+        person.setRole(testPerson.getRole());
+        return personRepository.save(person);
+    }
+
+    private Application persistApplication(Person person, LocalDateTime createdAt) {
+        Application application = new Application(person);
+        application.setCreatedAt(createdAt);
+        return entityManager.persist(application);
+    }
 }
@@ -0,0 +1,188 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.domain.CompetenceProfile;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.repository.CompetenceProfileRepository;
+import com.iv1201.recruitment.repository.CompetenceRepository;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.repository.RoleRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Imports small CSV files into H2 through the batched-insert path.
+ * Runs without a test transaction, since the importer commits on its own connection.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicantImporterTest {
+
+    private static final String HEADER = "Name,Surname,pnr,email,agency,competences,availability\n";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private CompetenceProfileRepository competenceProfileRepository;
+
+    private StringWriter rejects;
+
+    @BeforeEach
+    void setUp() {
+        if (roleRepository.findByName("applicant") == null) {
+            roleRepository.save(new Role("applicant"));
+            competenceRepository.saveAll(List.of(new Competence("ticket sales"),
+                new Competence("lotteries"), new Competence("roller coaster operation")));
+        }
+        rejects = new StringWriter();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        String imported = "SELECT person_id FROM person WHERE email LIKE '%@import.example.com'";
+        jdbcTemplate.update("DELETE FROM application WHERE person_id IN (" + imported + ")");
+        jdbcTemplate.update("DELETE FROM competence_profile WHERE person_id IN (" + imported + ")");
+        jdbcTemplate.update("DELETE FROM availability WHERE person_id IN (" + imported + ")");
+        jdbcTemplate.update("DELETE FROM person WHERE email LIKE '%@import.example.com'");
+    }
+
+    /**
+     * Verifies that valid rows become passwordless applicants with competences and availability,
+     * and that invalid rows are reported with their line number and reason.
+     */
+    @Test
+    void testImportsValidRowsAndReportsRejected() throws Exception {
+        String csv = HEADER
+            + "Kalle,Anka,19900101-1234,kalle@import.example.com,Ankeborg,"
+            + "Ticket Sales: 2.5; lotteries: 1,2026-06-01/2026-08-31; 2026-12-20/2026-12-31\n"
+            + "\"Anka, Kajsa\",Anka,19910101-1234,kajsa@import.example.com,,,\n"
+            + "Musse,Pigg,1990-01-01,musse@import.example.com,,,\n"
+            + "Janne,Långben,19920101-1234,janne@import.example.com,,juggling: 3,\n"
+            + "Kalles,Tvilling,19930101-1234,kalle@import.example.com,,,\n"
+            + "Mimmi,Pigg,19940101-1234,mimmi@import.example.com,,,2026-08-31/2026-06-01\n";
+
+        Map<String, Long> counts = importer(500).importCsv(new StringReader(csv), rejects);
+
+        assertEquals(6L, counts.get("read"));
+        assertEquals(4L, counts.get("rejected"));
+        assertEquals(2L, counts.get("person"));
+        assertEquals(2L, counts.get("competence_profile"));
+        assertEquals(2L, counts.get("availability"));
+        assertEquals(1L, counts.get("application"));
+
+        Person kalle = personRepository.findByEmail("kalle@import.example.com").orElseThrow();
+        assertNull(kalle.getUsername());
+        assertNull(kalle.getPassword());
+        assertEquals("applicant", kalle.getRole().getName());
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM application WHERE person_id = ? AND status = 'UNHANDLED'",
+            Integer.class, kalle.getPersonId()));
+        Person kajsa = personRepository.findByEmail("kajsa@import.example.com").orElseThrow();
+        assertEquals("Anka, Kajsa", kajsa.getName());
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM application WHERE person_id = ?", Integer.class, kajsa.getPersonId()));
+
+        String report = rejects.toString();
+        assertTrue(report.startsWith("line,reason,Name,Surname,pnr,email,agency,competences,availability\r\n"));
+        assertTrue(report.contains("\r\n4,pnr: "), report);
+        assertTrue(report.contains("\r\n5,Unknown competence: juggling,"), report);
+        assertTrue(report.contains("\r\n6,email: appears earlier in the file,"), report);
+        assertTrue(report.contains("\r\n7,Availability ends before it starts: 2026-08-31/2026-06-01,"), report);
+    }
+
+    /**
+     * Verifies that importing the same file again, in chunks smaller than the file,
+     * rejects every row as already registered and adds nothing.
+     */
+    @Test
+    void testRejectsRegisteredApplicantsAcrossChunks() throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 5; i++) {
+            csv.append("Applicant,Number").append(i).append(",1980010").append(i).append("-0000,applicant")
+                .append(i).append("@import.example.com,,lotteries: ").append(i).append(",\n");
+        }
+        assertEquals(5L, importer(2).importCsv(new StringReader(csv.toString()), rejects).get("person"));
+
+        StringWriter secondRejects = new StringWriter();
+        Map<String, Long> counts = importer(2).importCsv(new StringReader(csv.toString()), secondRejects);
+
+        assertEquals(5L, counts.get("rejected"));
+        assertEquals(0L, counts.get("person"));
+        assertEquals(5, secondRejects.toString().split("pnr: already registered").length - 1);
+        assertEquals(5, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM application a JOIN person p ON p.person_id = a.person_id "
+                + "WHERE p.email LIKE '%@import.example.com'", Integer.class));
+    }
+
+    /**
+     * Verifies that ids handed out by Hibernate after an import do not collide with imported rows.
+     */
+    @Test
+    void testEntityIdsDoNotCollideWithImportedRows() throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 60; i++) {
+            csv.append("Applicant,Number").append(i).append(",").append(String.format("198002%02d-0000", i))
+                .append(",ids").append(i).append("@import.example.com,,ticket sales: 1,\n");
+        }
+        importer(25).importCsv(new StringReader(csv.toString()), rejects);
+
+        // Saving commits, so an id already taken by an imported row fails here
+        Person person = personRepository.findByEmail("ids0@import.example.com").orElseThrow();
+        Competence competence = competenceRepository.findAll().get(0);
+        for (int i = 0; i < 60; i++) {
+            assertNotNull(competenceProfileRepository.save(
+                new CompetenceProfile(person, competence, BigDecimal.ONE)).getCompetenceProfileId());
+        }
+    }
+
+    /**
+     * Verifies that a file without one of the required columns is refused before anything is loaded.
+     */
+    @Test
+    void testRequiresColumns() {
+        String csv = "name,surname,email\nKalle,Anka,kalle@import.example.com\n";
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> importer(500).importCsv(new StringReader(csv), rejects));
+
+        assertEquals("The import file has no 'pnr' column", e.getMessage());
+        assertTrue(personRepository.findByEmail("kalle@import.example.com").isEmpty());
+    }
+
+    private ApplicantImporter importer(int chunkSize) {
+        return new ApplicantImporter(dataSource,
+            Validation.buildDefaultValidatorFactory().getValidator(), chunkSize);
+    }
+}
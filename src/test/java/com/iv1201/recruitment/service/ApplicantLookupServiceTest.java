@@ -0,0 +1,153 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.domain.dto.ApplicantLookupDTO;
+import com.iv1201.recruitment.domain.dto.ApplicantLookupResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ApplicantLookupService against H2.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ApplicantLookupService.class)
+class ApplicantLookupServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicantLookupService lookupService;
+
+    private Role applicant;
+    private Role recruiter;
+
+    @BeforeEach
+    void setUp() {
+        applicant = entityManager.persist(new Role("applicant"));
+        recruiter = entityManager.persist(new Role("recruiter"));
+    }
+
+    /**
+     * Verifies that every term must match one of the columns, and that the application is attached.
+     */
+    @Test
+    void testLookupMatchesAllTerms() {
+        Person kalle = person("Kalle", "Anka", "19900101-1234", applicant);
+        Application application = new Application(kalle);
+        application.setStatus(ApplicationStatus.ACCEPTED);
+        entityManager.persist(application);
+        person("Kalle", "Pigg", "19910101-1234", applicant);
+        person("Kajsa", "Anka", "19920101-1234", applicant);
+        entityManager.flush();
+
+        ApplicantLookupResult result = lookupService.lookup("  ANKA kal ");
+
+        assertEquals("  ANKA kal ", result.getQuery());
+        assertFalse(result.isTruncated());
+        assertEquals(1, result.getMatches().size());
+        ApplicantLookupDTO match = result.getMatches().get(0);
+        assertEquals(kalle.getPersonId(), match.getPersonId());
+        assertEquals(application.getApplicationId(), match.getApplicationId());
+        assertEquals(ApplicationStatus.ACCEPTED, match.getStatus());
+    }
+
+    /**
+     * Verifies that personal numbers and emails are matched, that recruiters are left out,
+     * and that names starting with the term are ranked first.
+     */
+    @Test
+    void testLookupColumnsAndRanking() {
+        person("Berit", "Olsson", "19900101-1234", applicant);
+        person("Bertil", "Svensson", "19800101-5678", applicant);
+        person("Albert", "Andersson", "19700101-0000", applicant);
+        person("Bertram", "Recruiter", "19600101-0000", recruiter);
+        entityManager.flush();
+
+        assertEquals(List.of("Svensson"), surnames(lookupService.lookup("0101-5678")));
+        assertEquals(List.of("Olsson"), surnames(lookupService.lookup("berit.olsson@")));
+        assertEquals(List.of("Olsson", "Svensson", "Andersson"), surnames(lookupService.lookup("ber")));
+        assertEquals(List.of("Andersson"), surnames(lookupService.lookup("albert ANDERSSON")));
+    }
+
+    /**
+     * Verifies that queries without a term of three characters return nothing,
+     * and that LIKE wildcards in a term are matched literally.
+     */
+    @Test
+    void testLookupIgnoresShortTermsAndWildcards() {
+        person("Kalle", "Anka", "19900101-1234", applicant);
+        entityManager.flush();
+
+        assertTrue(lookupService.lookup("ka an").getMatches().isEmpty());
+        assertTrue(lookupService.lookup("").getMatches().isEmpty());
+        assertTrue(lookupService.lookup(null).getMatches().isEmpty());
+        assertTrue(lookupService.lookup("%%%").getMatches().isEmpty());
+        assertTrue(lookupService.lookup("k_lle").getMatches().isEmpty());
+        assertEquals(1, lookupService.lookup("ka anka").getMatches().size());
+    }
+
+    /**
+     * Verifies that a common term returns at most the capped number of applicants and says so.
+     */
+    @Test
+    void testLookupCapsResults() {
+        for (int i = 0; i < ApplicantLookupService.MAX_RESULTS + 5; i++) {
+            person("Applicant", "Number" + i, String.format("198001%02d-0000", i), applicant);
+        }
+        entityManager.flush();
+
+        ApplicantLookupResult result = lookupService.lookup("applicant");
+
+        assertEquals(ApplicantLookupService.MAX_RESULTS, result.getMatches().size());
+        assertTrue(result.isTruncated());
+        assertNull(result.getMatches().get(0).getApplicationId());
+    }
+
+    /**
+     * Verifies that the cap keeps the best-ranked applicants, not the first ones stored.
+     */
+    @Test
+    void testLookupRanksBeforeCapping() {
+        for (int i = 0; i < ApplicantLookupService.MAX_RESULTS + 5; i++) {
+            person("Anna", "Bergkvist" + i, String.format("198001%02d-0000", i), applicant);
+        }
+        person("Anna", "Kvistberg", "19700101-0000", applicant);
+        entityManager.flush();
+
+        ApplicantLookupResult result = lookupService.lookup("kvist");
+
+        assertTrue(result.isTruncated());
+        assertEquals("Kvistberg", result.getMatches().get(0).getSurname());
+        assertEquals("Bergkvist0", result.getMatches().get(1).getSurname());
+    }
+
+    private List<String> surnames(ApplicantLookupResult result) {
+        return result.getMatches().stream().map(ApplicantLookupDTO::getSurname).toList();
+    }
+
+    private Person person(String name, String surname, String pnr, Role role) {
+        Person person = new Person();
+        person.setUsername((name + surname).toLowerCase());
+        person.setPassword("password");
+        person.setName(name);
+        person.setSurname(surname);
+        person.setPnr(pnr);
+        person.setEmail((name + "." + surname).toLowerCase() + "@example.com");
+        person.setRole(role);
+        return entityManager.persist(person);
+    }
+}
@@ -0,0 +1,100 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.dto.ApplicationChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ApplicationEventBroadcaster.
+ */
+class ApplicationEventBroadcasterTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+
+    private final ApplicationEventBroadcaster broadcaster =
+            new ApplicationEventBroadcaster(Duration.ofMinutes(1), Duration.ofHours(1), QUEUE_CAPACITY);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    /**
+     * Verifies that a subscriber whose writes block does not hold up the others,
+     * and is dropped once its queue is full.
+     */
+    @Test
+    void testStalledSubscriberDoesNotBlockOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter stalled = new BlockingEmitter(release);
+        CountingEmitter healthy = new CountingEmitter();
+        broadcaster.subscribe(stalled);
+        broadcaster.subscribe(healthy);
+
+        broadcaster.statusChanged(List.of(change()));
+        assertTrue(stalled.writing.await(5, TimeUnit.SECONDS));
+        assertTrue(healthy.received.tryAcquire(5, TimeUnit.SECONDS));
+        assertEquals(2, broadcaster.getSubscriberCount());
+
+        // The stalled stream's queue fills up and overflows, the healthy one keeps receiving.
+        // Events are dispatched one at a time, so receiving the last one means the overflow was handled.
+        for (int i = 0; i <= QUEUE_CAPACITY + 1; i++) {
+            broadcaster.statusChanged(List.of(change()));
+            assertTrue(healthy.received.tryAcquire(5, TimeUnit.SECONDS), "healthy stream missed event " + i);
+        }
+        assertEquals(1, broadcaster.getSubscriberCount());
+        release.countDown();
+    }
+
+    private static ApplicationChange change() {
+        return new ApplicationChange(1, ApplicationStatus.UNHANDLED, ApplicationStatus.ACCEPTED, 1);
+    }
+
+    /**
+     * Emitter whose writes block until released, like a client that stopped reading.
+     */
+    private static final class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch writing = new CountDownLatch(1);
+
+        private BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Emitter counting the events written to it.
+     */
+    private static final class CountingEmitter extends SseEmitter {
+        private final Semaphore received = new Semaphore(0);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            received.release();
+        }
+    }
+}
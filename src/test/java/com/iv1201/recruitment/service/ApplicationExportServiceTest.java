@@ -0,0 +1,172 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.Availability;
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.domain.CompetenceProfile;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ApplicationExportService against H2.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(ApplicationExportService.class)
+class ApplicationExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationExportService exportService;
+
+    private Statistics statistics;
+    private Role role;
+    private Competence sales;
+    private Competence lotteries;
+    private int applicants;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        role = new Role();
+        role.setName("applicant");
+        entityManager.persist(role);
+        sales = entityManager.persist(new Competence("ticket sales"));
+        lotteries = entityManager.persist(new Competence("lotteries"));
+    }
+
+    /**
+     * Verifies that each application is written with its competences and availability periods,
+     * and that applicants without an application are left out.
+     */
+    @Test
+    void testExportContent() throws Exception {
+        Person kalle = applicant("Kalle", ApplicationStatus.ACCEPTED);
+        entityManager.persist(new CompetenceProfile(kalle, sales, new BigDecimal("2.50")));
+        entityManager.persist(new CompetenceProfile(kalle, lotteries, new BigDecimal("1.00")));
+        entityManager.persist(new Availability(kalle, LocalDate.of(2026, 6, 1), LocalDate.of(2026, 8, 31)));
+        entityManager.persist(new Availability(kalle, LocalDate.of(2026, 12, 20), LocalDate.of(2026, 12, 31)));
+        Person kajsa = applicant("Kajsa", ApplicationStatus.UNHANDLED);
+        entityManager.persist(new CompetenceProfile(kajsa, lotteries, new BigDecimal("3.00")));
+        Person withoutApplication = person("Musse");
+        entityManager.persist(new CompetenceProfile(withoutApplication, sales, BigDecimal.ONE));
+        entityManager.flush();
+        entityManager.clear();
+
+        StringWriter out = new StringWriter();
+        long rows = exportService.exportCsv(null, out);
+
+        String[] lines = out.toString().split("\r\n");
+        assertEquals(2, rows);
+        assertEquals(3, lines.length);
+        assertEquals(String.join(",", ApplicationExportService.HEADER), lines[0]);
+        assertTrue(lines[1].contains(",Kalle,Anka,kalle@example.com,ACCEPTED,"), lines[1]);
+        assertTrue(lines[1].endsWith(",ticket sales: 2.5; lotteries: 1,2026-06-01/2026-08-31; 2026-12-20/2026-12-31"),
+                lines[1]);
+        assertTrue(lines[2].contains(",Kajsa,") && lines[2].endsWith(",lotteries: 3,"), lines[2]);
+    }
+
+    /**
+     * Verifies that a status filter limits the export to applications with that status.
+     */
+    @Test
+    void testExportByStatus() throws Exception {
+        Person kalle = applicant("Kalle", ApplicationStatus.ACCEPTED);
+        entityManager.persist(new CompetenceProfile(kalle, sales, BigDecimal.ONE));
+        Person kajsa = applicant("Kajsa", ApplicationStatus.REJECTED);
+        entityManager.persist(new CompetenceProfile(kajsa, lotteries, BigDecimal.ONE));
+        entityManager.flush();
+
+        StringWriter out = new StringWriter();
+        long rows = exportService.exportCsv(ApplicationStatus.REJECTED, out);
+
+        assertEquals(1, rows);
+        assertTrue(out.toString().contains(",Kajsa,Anka,kajsa@example.com,REJECTED,"));
+        assertTrue(out.toString().contains("lotteries: 1"));
+        assertFalse(out.toString().contains("Kalle"));
+        assertFalse(out.toString().contains("ticket sales"));
+    }
+
+    /**
+     * Verifies that the export runs three statements whether there are two applications or twenty.
+     */
+    @Test
+    void testExportQueryCountIsConstant() throws Exception {
+        addApplicants(2);
+        assertEquals(3, countStatements());
+
+        addApplicants(20);
+        assertEquals(3, countStatements());
+    }
+
+    /**
+     * Verifies that names with separators are quoted and names that look like formulas are defused.
+     */
+    @Test
+    void testExportEscapesApplicantText() throws Exception {
+        Person person = applicant("Anka, \"Kalle\"", ApplicationStatus.UNHANDLED);
+        person.setSurname("=HYPERLINK(\"http://example.com\")");
+        entityManager.flush();
+
+        StringWriter out = new StringWriter();
+        exportService.exportCsv(null, out);
+
+        assertTrue(out.toString().contains(",\"Anka, \"\"Kalle\"\"\",\"'=HYPERLINK(\"\"http://example.com\"\")\","),
+                out.toString());
+    }
+
+    private long countStatements() throws Exception {
+        entityManager.clear();
+        statistics.clear();
+        exportService.exportCsv(null, new StringWriter());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void addApplicants(int count) {
+        for (int i = 0; i < count; i++) {
+            Person person = applicant("Applicant" + applicants++, ApplicationStatus.UNHANDLED);
+            entityManager.persist(new CompetenceProfile(person, sales, BigDecimal.ONE));
+            entityManager.persist(new Availability(person, LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 30)));
+        }
+        entityManager.flush();
+    }
+
+    private Person applicant(String name, ApplicationStatus status) {
+        Person person = person(name);
+        Application application = new Application(person);
+        application.setStatus(status);
+        entityManager.persist(application);
+        return person;
+    }
+
+    private Person person(String name) {
+        Person person = new Person();
+        person.setUsername(name.toLowerCase());
+        person.setPassword("password");
+        person.setName(name);
+        person.setSurname("Anka");
+        person.setEmail(name.toLowerCase() + "@example.com");
+        person.setRole(role);
+        return entityManager.persist(person);
+    }
+}
@@ -0,0 +1,190 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.Availability;
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.domain.CompetenceProfile;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.domain.dto.ApplicationDetailsDTO;
+import com.iv1201.recruitment.domain.dto.ApplicationFormDTO;
+import com.iv1201.recruitment.domain.dto.AvailabilityForm;
+import com.iv1201.recruitment.domain.dto.CompetenceForm;
+import com.iv1201.recruitment.repository.CompetenceProfileRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that application details loading and submission run a constant number of SQL statements,
+ * independent of how many competences and availability periods an applicant has.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ApplicationService.class, AvailabilityIndex.class, ApplicationStatusCounters.class,
+        CompetenceCatalog.class})
+class ApplicationServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private CompetenceProfileRepository competenceProfileRepository;
+
+    @MockBean
+    private ApplicationEventBroadcaster eventBroadcaster;
+
+    private Statistics statistics;
+    private Person person;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        Role role = new Role();
+        role.setName("applicant");
+        entityManager.persist(role);
+
+        person = new Person();
+        person.setUsername("applicant");
+        person.setPassword("password");
+        person.setName("Kalle");
+        person.setSurname("Anka");
+        person.setRole(role);
+        entityManager.persist(person);
+
+        application = new Application(person);
+        application.setStatus(ApplicationStatus.UNHANDLED);
+        entityManager.persist(application);
+    }
+
+    /**
+     * Verifies that details load in three statements whether the applicant has one or many competences.
+     */
+    @Test
+    void testDetailsQueryCountIsConstant() {
+        addProfiles(1);
+        assertEquals(3, countStatements());
+
+        addProfiles(10);
+        assertEquals(3, countStatements());
+    }
+
+    /**
+     * Verifies that the details contain every competence name and availability period.
+     */
+    @Test
+    void testDetailsContent() {
+        addProfiles(4);
+        entityManager.clear();
+
+        Optional<ApplicationDetailsDTO> details = applicationService.getApplicationDetails(application.getApplicationId());
+
+        assertTrue(details.isPresent());
+        assertEquals("Kalle Anka", details.get().getPersonName());
+        assertEquals(4, details.get().getCompetences().size());
+        assertEquals("competence-0", details.get().getCompetences().get(0).getCompetenceName());
+        assertEquals(4, details.get().getAvailabilities().size());
+        assertEquals(LocalDate.of(2025, 1, 1), details.get().getAvailabilities().get(0).getFromDate());
+    }
+
+    /**
+     * Verifies that a submission runs the same number of statements for two rows as for twenty,
+     * because the inserts are batched and the old rows removed by bulk deletes.
+     */
+    @Test
+    void testSubmissionQueryCountIsConstant() {
+        addProfiles(3);
+        List<Competence> competences = List.of(competence("java"), competence("sql"));
+        entityManager.flush();
+
+        long small = countSubmitStatements(submissionForm(competences, 1));
+        long large = countSubmitStatements(submissionForm(competences, 10));
+
+        assertEquals(small, large);
+        assertTrue(large <= 8, "submission used " + large + " statements");
+        assertEquals(20, competenceProfileRepository.findByPersonPersonId(person.getPersonId()).size());
+    }
+
+    private void addProfiles(int count) {
+        for (int i = 0; i < count; i++) {
+            Competence competence = new Competence();
+            competence.setName("competence-" + i);
+            entityManager.persist(competence);
+            entityManager.persist(new CompetenceProfile(person, competence, BigDecimal.valueOf(i + 1)));
+
+            Availability availability = new Availability();
+            availability.setPerson(person);
+            availability.setFromDate(LocalDate.of(2025, 1, 1).plusMonths(i));
+            availability.setToDate(LocalDate.of(2025, 1, 20).plusMonths(i));
+            entityManager.persist(availability);
+        }
+        entityManager.flush();
+    }
+
+    private Competence competence(String name) {
+        Competence competence = new Competence();
+        competence.setName(name);
+        entityManager.persist(competence);
+        return competence;
+    }
+
+    private ApplicationFormDTO submissionForm(List<Competence> competences, int rowsPerCompetence) {
+        List<CompetenceForm> competenceRows = new ArrayList<>();
+        List<AvailabilityForm> availabilityRows = new ArrayList<>();
+        for (int i = 0; i < rowsPerCompetence; i++) {
+            for (Competence competence : competences) {
+                CompetenceForm row = new CompetenceForm();
+                row.setCompetenceId(competence.getCompetenceId());
+                row.setYearsOfExperience(BigDecimal.valueOf(i + 1));
+                competenceRows.add(row);
+
+                AvailabilityForm period = new AvailabilityForm();
+                period.setFromDate(LocalDate.of(2025, 1, 1).plusDays(i));
+                period.setToDate(LocalDate.of(2025, 2, 1).plusDays(i));
+                availabilityRows.add(period);
+            }
+        }
+        ApplicationFormDTO form = new ApplicationFormDTO();
+        form.setCompetences(competenceRows);
+        form.setAvailabilities(availabilityRows);
+        return form;
+    }
+
+    private long countSubmitStatements(ApplicationFormDTO form) {
+        // Warm the competence catalog so only the submission itself is measured
+        applicationService.getAllCompetences();
+        statistics.clear();
+        applicationService.submitApplication(person, form);
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatements() {
+        entityManager.clear();
+        statistics.clear();
+        applicationService.getApplicationDetails(application.getApplicationId());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -10,13 +10,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,7 +38,7 @@ class ApplicationServiceTest {
     private ApplicationRepository applicationRepository;
 
     @Mock
-    private CompetenceRepository competenceRepository;
+    private CompetenceCatalog competenceCatalog;
 
     @Mock
     private CompetenceProfileRepository competenceProfileRepository;
@@ -37,6 +46,15 @@ class ApplicationServiceTest {
     @Mock
     private AvailabilityRepository availabilityRepository;
 
+    @Mock
+    private AvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ApplicationStatusCounters statusCounters;
+
+    @Mock
+    private ApplicationEventBroadcaster eventBroadcaster;
+
     @InjectMocks
     private ApplicationService applicationService;
 
@@ -68,7 +86,7 @@ class ApplicationServiceTest {
      */
     @Test
     void testGetAllCompetences() {
-        when(competenceRepository.findAll()).thenReturn(List.of(testCompetence));
+        when(competenceCatalog.getAll()).thenReturn(List.of(testCompetence));
 
         List<Competence> result = applicationService.getAllCompetences();
 
@@ -89,7 +107,7 @@ class ApplicationServiceTest {
         ApplicationFormDTO form = new ApplicationFormDTO();
         form.setCompetences(List.of(competenceForm));
 
-        when(competenceRepository.findById(1)).thenReturn(Optional.of(testCompetence));
+        when(competenceCatalog.findById(1)).thenReturn(Optional.of(testCompetence));
         when(applicationRepository.findByPerson(testPerson)).thenReturn(Optional.empty());
         when(applicationRepository.save(any(Application.class))).thenAnswer(inv -> {
             Application app = inv.getArgument(0);
@@ -101,6 +119,20 @@ class ApplicationServiceTest {
 
         assertNotNull(result);
         assertEquals(1, result.getApplicationId());
+        verify(statusCounters).recordTransition(null, ApplicationStatus.UNHANDLED);
+    }
+
+    /**
+     * Verifies that resubmitting an existing application leaves the status counters unchanged.
+     */
+    @Test
+    void testResubmitApplicationKeepsCounters() {
+        when(applicationRepository.findByPerson(testPerson)).thenReturn(Optional.of(testApplication));
+        when(applicationRepository.save(testApplication)).thenReturn(testApplication);
+
+        applicationService.submitApplication(testPerson, new ApplicationFormDTO());
+
+        verifyNoInteractions(statusCounters);
     }
 
     /**
@@ -115,7 +147,7 @@ class ApplicationServiceTest {
         ApplicationFormDTO form = new ApplicationFormDTO();
         form.setCompetences(List.of(competenceForm));
 
-        when(competenceRepository.findById(999)).thenReturn(Optional.empty());
+        when(competenceCatalog.findById(999)).thenReturn(Optional.empty());
 
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
@@ -146,6 +178,8 @@ class ApplicationServiceTest {
         Application result = applicationService.submitApplication(testPerson, form);
 
         assertNotNull(result);
+        verify(availabilityIndex).replacePeriods(eq(1), argThat(periods -> periods.size() == 1
+                && periods.get(0).getFromDate().equals(LocalDate.of(2025, 6, 1))));
     }
 
     /**
@@ -214,19 +248,11 @@ class ApplicationServiceTest {
         app.setApplicationId(1);
         app.setStatus(ApplicationStatus.UNHANDLED);
         
-        CompetenceProfile profile = new CompetenceProfile();
-        profile.setPerson(testPerson);
-        profile.setCompetence(testCompetence);
-        profile.setYearsOfExperience(BigDecimal.valueOf(3.0));
-
-        Availability availability = new Availability();
-        availability.setPerson(testPerson);
-        availability.setFromDate(LocalDate.of(2025, 6, 1));
-        availability.setToDate(LocalDate.of(2025, 8, 31));
-
-        when(applicationRepository.findById(1)).thenReturn(Optional.of(app));
-        when(competenceProfileRepository.findByPersonPersonId(1)).thenReturn(List.of(profile));
-        when(availabilityRepository.findByPersonPersonId(1)).thenReturn(List.of(availability));
+        when(applicationRepository.findWithPersonById(1)).thenReturn(Optional.of(app));
+        when(competenceProfileRepository.findDetailsByPersonId(1)).thenReturn(
+                List.of(new CompetenceDetailDTO("Java Programming", BigDecimal.valueOf(3.0))));
+        when(availabilityRepository.findDetailsByPersonId(1)).thenReturn(
+                List.of(new AvailabilityDetailDTO(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 8, 31))));
 
         Optional<ApplicationDetailsDTO> result = applicationService.getApplicationDetails(1);
 
@@ -241,7 +267,7 @@ class ApplicationServiceTest {
      */
     @Test
     void testGetApplicationDetailsNotFound() {
-        when(applicationRepository.findById(999)).thenReturn(Optional.empty());
+        when(applicationRepository.findWithPersonById(999)).thenReturn(Optional.empty());
 
         Optional<ApplicationDetailsDTO> result = applicationService.getApplicationDetails(999);
 
@@ -256,7 +282,7 @@ class ApplicationServiceTest {
         Application app = new Application(testPerson);
         app.setApplicationId(1);
         
-        when(applicationRepository.findAllByOrderByCreatedAtDesc()).thenReturn(List.of(app));
+        when(applicationRepository.findListOrderByCreatedAtDesc()).thenReturn(List.of(ApplicationListDTO.of(app)));
 
         List<ApplicationListDTO> result = applicationService.getAllApplications();
 
@@ -269,8 +295,8 @@ class ApplicationServiceTest {
      */
     @Test
     void testGetApplicationsByStatus() {
-        when(applicationRepository.findByStatus(ApplicationStatus.UNHANDLED))
-                .thenReturn(List.of(testApplication));
+        when(applicationRepository.findListByStatus(ApplicationStatus.UNHANDLED))
+                .thenReturn(List.of(ApplicationListDTO.of(testApplication)));
 
         List<ApplicationListDTO> result = applicationService.getApplicationsByStatus(ApplicationStatus.UNHANDLED);
 
@@ -279,7 +305,7 @@ class ApplicationServiceTest {
     }
 
     /**
-     * Verifies that application status can be updated.
+     * Verifies that application status can be updated and the change is announced to dashboards.
      */
     @Test
     void testUpdateStatus() {
@@ -289,6 +315,28 @@ class ApplicationServiceTest {
         Application result = applicationService.updateApplicationStatus(1, ApplicationStatus.ACCEPTED, null);
 
         assertEquals(ApplicationStatus.ACCEPTED, result.getStatus());
+        verify(statusCounters).recordTransition(ApplicationStatus.UNHANDLED, ApplicationStatus.ACCEPTED);
+        verify(eventBroadcaster).statusChanged(argThat((List<ApplicationChange> changes) -> changes.size() == 1
+                && changes.get(0).getApplicationId() == 1
+                && changes.get(0).getPreviousStatus() == ApplicationStatus.UNHANDLED
+                && changes.get(0).getStatus() == ApplicationStatus.ACCEPTED));
+    }
+
+    /**
+     * Verifies that offset pages take their total from the status counters instead of a COUNT query.
+     */
+    @Test
+    void testGetApplicationsByStatusPageUsesCounters() {
+        when(applicationRepository.findListNewestFirstByStatus(ApplicationStatus.UNHANDLED, PageRequest.of(1, 1)))
+                .thenReturn(List.of(ApplicationListDTO.of(testApplication)));
+        when(statusCounters.getCount(ApplicationStatus.UNHANDLED)).thenReturn(5L);
+
+        Page<ApplicationListDTO> page = applicationService.getApplicationsByStatus(
+                ApplicationStatus.UNHANDLED, PageRequest.of(1, 1));
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(5, page.getTotalPages());
+        verify(applicationRepository, never()).countByStatus(any());
     }
 
     /**
@@ -305,6 +353,75 @@ class ApplicationServiceTest {
         assertEquals("Application not found", exception.getMessage());
     }
 
+    /**
+     * Verifies that a bulk update writes all matching rows in one statement, reports the rest per row,
+     * and announces only the updated applications, with their new versions.
+     */
+    @Test
+    void testUpdateApplicationStatuses() {
+        Map<Integer, Integer> selected = new LinkedHashMap<>();
+        selected.put(1, 0);
+        selected.put(2, 0);
+        selected.put(3, 0);
+        selected.put(4, 0);
+        selected.put(5, 0);
+        when(applicationRepository.findVersionsForUpdate(selected.keySet())).thenReturn(List.of(
+                new ApplicationVersion(1, ApplicationStatus.UNHANDLED, 0),
+                new ApplicationVersion(2, ApplicationStatus.ACCEPTED, 0),
+                new ApplicationVersion(3, ApplicationStatus.UNHANDLED, 2),
+                new ApplicationVersion(4, ApplicationStatus.REJECTED, 0)));
+        when(applicationRepository.updateStatusWhereVersion(eq(List.of(1, 2)), eq(0),
+                eq(ApplicationStatus.REJECTED), any(LocalDateTime.class))).thenReturn(2);
+
+        BulkStatusUpdateResult result = applicationService.updateApplicationStatuses(
+                selected, ApplicationStatus.REJECTED);
+
+        assertEquals(List.of(1, 2), result.getUpdated());
+        assertEquals(List.of(4), result.getUnchanged());
+        assertEquals(Map.of(3, BulkStatusUpdateResult.Conflict.MODIFIED,
+                5, BulkStatusUpdateResult.Conflict.NOT_FOUND), result.getConflicts());
+        verify(applicationRepository, times(1)).updateStatusWhereVersion(any(), any(), any(), any());
+        verify(statusCounters).recordTransitions(
+                Map.of(ApplicationStatus.UNHANDLED, 1, ApplicationStatus.ACCEPTED, 1), ApplicationStatus.REJECTED);
+        verify(eventBroadcaster).statusChanged(argThat((List<ApplicationChange> changes) ->
+                changes.stream().map(ApplicationChange::toString).toList()
+                        .equals(List.of("1:UNHANDLED->REJECTED", "2:ACCEPTED->REJECTED"))
+                && changes.stream().allMatch(change -> change.getVersion() == 1)));
+        verify(applicationRepository, never()).save(any());
+    }
+
+    /**
+     * Verifies that a bulk update rolls back when the locked rows were changed anyway.
+     */
+    @Test
+    void testUpdateApplicationStatusesCountMismatch() {
+        Map<Integer, Integer> selected = Map.of(1, 0);
+        when(applicationRepository.findVersionsForUpdate(selected.keySet()))
+                .thenReturn(List.of(new ApplicationVersion(1, ApplicationStatus.UNHANDLED, 0)));
+        when(applicationRepository.updateStatusWhereVersion(any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> applicationService.updateApplicationStatuses(selected, ApplicationStatus.ACCEPTED));
+        verify(statusCounters, never()).recordTransitions(any(), any());
+    }
+
+    /**
+     * Verifies that empty and oversized bulk selections are rejected before touching the database.
+     */
+    @Test
+    void testUpdateApplicationStatusesInvalidSelection() {
+        Map<Integer, Integer> tooMany = new HashMap<>();
+        for (int i = 0; i <= ApplicationService.MAX_BULK_SIZE; i++) {
+            tooMany.put(i, 0);
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> applicationService.updateApplicationStatuses(Map.of(), ApplicationStatus.ACCEPTED));
+        assertThrows(IllegalArgumentException.class,
+                () -> applicationService.updateApplicationStatuses(tooMany, ApplicationStatus.ACCEPTED));
+        verifyNoInteractions(applicationRepository);
+    }
+
     /**
      * Verifies that hasApplication returns true when person has an application.
      */
@@ -328,4 +445,64 @@ class ApplicationServiceTest {
 
         assertFalse(result);
     }
+
+    /**
+     * Verifies that the first keyset page reports a next cursor when more rows exist
+     * and takes its total from the status counters.
+     */
+    @Test
+    void testGetApplicationsKeysetFirstPage() {
+        Application older = new Application(testPerson);
+        older.setApplicationId(2);
+        older.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+        testApplication.setCreatedAt(LocalDateTime.of(2025, 2, 1, 12, 0));
+
+        when(applicationRepository.findListNewestFirst(any()))
+                .thenReturn(List.of(ApplicationListDTO.of(testApplication), ApplicationListDTO.of(older)));
+        when(statusCounters.getCount(null)).thenReturn(2L);
+
+        ApplicationKeysetPage page = applicationService.getApplicationsKeyset(null, null, null, 1);
+
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.hasNext());
+        assertFalse(page.hasPrevious());
+        assertEquals(2L, page.getTotalElements());
+        ApplicationCursor next = ApplicationCursor.decode(page.getNextCursor());
+        assertEquals(testApplication.getApplicationId(), next.getApplicationId());
+        assertEquals(testApplication.getCreatedAt(), next.getCreatedAt());
+        verify(applicationRepository, never()).count();
+    }
+
+    /**
+     * Verifies that a backward keyset page is returned newest first with both cursors set.
+     */
+    @Test
+    void testGetApplicationsKeysetBackward() {
+        Application newer = new Application(testPerson);
+        newer.setApplicationId(2);
+        newer.setCreatedAt(LocalDateTime.of(2025, 3, 1, 12, 0));
+        testApplication.setCreatedAt(LocalDateTime.of(2025, 2, 1, 12, 0));
+        ApplicationCursor before = new ApplicationCursor(LocalDateTime.of(2025, 1, 1, 12, 0), 5);
+
+        when(applicationRepository.findListPageBeforeByStatus(eq(ApplicationStatus.UNHANDLED),
+                eq(before.getCreatedAt()), eq(5), any()))
+                .thenReturn(List.of(ApplicationListDTO.of(testApplication), ApplicationListDTO.of(newer)));
+        when(statusCounters.getCount(ApplicationStatus.UNHANDLED)).thenReturn(3L);
+
+        ApplicationKeysetPage page = applicationService.getApplicationsKeyset(
+                ApplicationStatus.UNHANDLED, null, before, 10);
+
+        assertEquals(2, page.getContent().get(0).getApplicationId());
+        assertTrue(page.hasNext());
+        assertFalse(page.hasPrevious());
+        assertEquals(3L, page.getTotalElements());
+    }
+
+    /**
+     * Verifies that malformed cursors are rejected.
+     */
+    @Test
+    void testDecodeInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> ApplicationCursor.decode("not-a-cursor"));
+    }
 }
@@ -0,0 +1,157 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.ApplicationStatus;
+import com.iv1201.recruitment.domain.dto.ApplicationStatusCount;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ApplicationStatusCounters.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationStatusCountersTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @InjectMocks
+    private ApplicationStatusCounters statusCounters;
+
+    /**
+     * Verifies that counters are seeded from the grouped query and missing statuses read as zero.
+     */
+    @Test
+    void testLoad() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of(
+                new ApplicationStatusCount(ApplicationStatus.UNHANDLED, 5),
+                new ApplicationStatusCount(ApplicationStatus.ACCEPTED, 2)));
+        statusCounters.load();
+
+        assertEquals(Map.of(ApplicationStatus.UNHANDLED, 5L, ApplicationStatus.ACCEPTED, 2L,
+                ApplicationStatus.REJECTED, 0L), statusCounters.getCounts());
+        assertEquals(7, statusCounters.getCount(null));
+        verify(applicationRepository, never()).count();
+    }
+
+    /**
+     * Verifies that changes committed while the seed query runs are applied on top of its result.
+     */
+    @Test
+    void testTransitionDuringLoad() {
+        when(applicationRepository.countGroupedByStatus()).thenAnswer(invocation -> {
+            statusCounters.recordTransition(null, ApplicationStatus.UNHANDLED);
+            statusCounters.recordTransitions(Map.of(ApplicationStatus.UNHANDLED, 2), ApplicationStatus.ACCEPTED);
+            return List.of(new ApplicationStatusCount(ApplicationStatus.UNHANDLED, 5));
+        });
+        statusCounters.load();
+
+        assertEquals(Map.of(ApplicationStatus.UNHANDLED, 4L, ApplicationStatus.ACCEPTED, 2L,
+                ApplicationStatus.REJECTED, 0L), statusCounters.getCounts());
+    }
+
+    /**
+     * Verifies that counts are read from the database until the counters are loaded.
+     */
+    @Test
+    void testFallbackBeforeLoad() {
+        when(applicationRepository.countByStatus(ApplicationStatus.REJECTED)).thenReturn(3L);
+        when(applicationRepository.count()).thenReturn(9L);
+
+        assertFalse(statusCounters.isLoaded());
+        assertEquals(3, statusCounters.getCount(ApplicationStatus.REJECTED));
+        assertEquals(9, statusCounters.getCount(null));
+    }
+
+    /**
+     * Verifies that new applications and status changes move the counters.
+     */
+    @Test
+    void testRecordTransition() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of());
+        statusCounters.load();
+
+        statusCounters.recordTransition(null, ApplicationStatus.UNHANDLED);
+        statusCounters.recordTransition(null, ApplicationStatus.UNHANDLED);
+        statusCounters.recordTransition(ApplicationStatus.UNHANDLED, ApplicationStatus.ACCEPTED);
+        statusCounters.recordTransition(ApplicationStatus.ACCEPTED, ApplicationStatus.ACCEPTED);
+
+        assertEquals(1, statusCounters.getCount(ApplicationStatus.UNHANDLED));
+        assertEquals(1, statusCounters.getCount(ApplicationStatus.ACCEPTED));
+        assertEquals(2, statusCounters.getCount(null));
+    }
+
+    /**
+     * Verifies that a batch of transitions moves each previous status by its count.
+     */
+    @Test
+    void testRecordTransitions() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of(
+                new ApplicationStatusCount(ApplicationStatus.UNHANDLED, 5),
+                new ApplicationStatusCount(ApplicationStatus.ACCEPTED, 2)));
+        statusCounters.load();
+
+        statusCounters.recordTransitions(Map.of(ApplicationStatus.UNHANDLED, 4, ApplicationStatus.ACCEPTED, 1,
+                ApplicationStatus.REJECTED, 3), ApplicationStatus.REJECTED);
+
+        assertEquals(1, statusCounters.getCount(ApplicationStatus.UNHANDLED));
+        assertEquals(1, statusCounters.getCount(ApplicationStatus.ACCEPTED));
+        assertEquals(5, statusCounters.getCount(ApplicationStatus.REJECTED));
+        assertEquals(7, statusCounters.getCount(null));
+    }
+
+    /**
+     * Verifies that inside a transaction the change is applied only after commit.
+     */
+    @Test
+    void testTransitionDeferredUntilCommit() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of());
+        statusCounters.load();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statusCounters.recordTransition(null, ApplicationStatus.UNHANDLED);
+            assertEquals(0, statusCounters.getCount(ApplicationStatus.UNHANDLED));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, statusCounters.getCount(ApplicationStatus.UNHANDLED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Verifies that submissions and status changes are published by from and to status.
+     */
+    @Test
+    void testTransitionMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        statusCounters.bindTo(registry);
+
+        statusCounters.recordTransition(null, ApplicationStatus.UNHANDLED);
+        statusCounters.recordTransition(null, ApplicationStatus.UNHANDLED);
+        statusCounters.recordTransition(ApplicationStatus.UNHANDLED, ApplicationStatus.ACCEPTED);
+        statusCounters.recordTransitions(Map.of(ApplicationStatus.UNHANDLED, 1), ApplicationStatus.REJECTED);
+
+        assertEquals(2, registry.get("recruitment.application.transitions")
+                .tags("from", "NONE", "to", "UNHANDLED").functionCounter().count());
+        assertEquals(1, registry.get("recruitment.application.transitions")
+                .tags("from", "UNHANDLED", "to", "ACCEPTED").functionCounter().count());
+        assertEquals(1, registry.get("recruitment.application.transitions")
+                .tags("from", "UNHANDLED", "to", "REJECTED").functionCounter().count());
+        assertEquals(0, registry.get("recruitment.applications").tag("status", "UNHANDLED").gauge().value());
+        assertEquals(1, registry.get("recruitment.applications").tag("status", "ACCEPTED").gauge().value());
+    }
+}
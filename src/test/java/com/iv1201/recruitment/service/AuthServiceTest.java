@@ -3,6 +3,7 @@ package com.iv1201.recruitment.service;
 import com.iv1201.recruitment.domain.Person;
 import com.iv1201.recruitment.domain.Role;
 import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.security.PersonPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +14,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +29,9 @@ class AuthServiceTest {
     @Mock
     private PersonRepository personRepository;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private AuthService authService;
 
@@ -63,6 +68,9 @@ class AuthServiceTest {
         assertEquals(1, userDetails.getAuthorities().size());
         assertTrue(userDetails.getAuthorities().contains(
                 new SimpleGrantedAuthority("ROLE_APPLICANT")));
+        PersonPrincipal principal = assertInstanceOf(PersonPrincipal.class, userDetails);
+        assertEquals(1, principal.getPersonId());
+        assertEquals("Test User", principal.getDisplayName());
     }
 
     /**
@@ -115,4 +123,36 @@ class AuthServiceTest {
         assertTrue(userDetails.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_APPLICANT")));
     }
+
+    /**
+     * Verifies that an upgraded hash replaces the old one, evicts the cached user, and is returned
+     * on the same principal.
+     */
+    @Test
+    void testUpdatePasswordStoresUpgradedHash() {
+        PersonPrincipal user = new PersonPrincipal("testuser", "$2a$04$old",
+                List.of(new SimpleGrantedAuthority("ROLE_APPLICANT")), 1, "Test User");
+        when(personRepository.updatePasswordWhere("testuser", "$2a$04$old", "$2a$10$new")).thenReturn(1);
+
+        UserDetails updated = authService.updatePassword(user, "$2a$10$new");
+
+        assertEquals("$2a$10$new", updated.getPassword());
+        assertEquals(1, assertInstanceOf(PersonPrincipal.class, updated).getPersonId());
+        verify(userDetailsCache).removeUserFromCache("testuser");
+    }
+
+    /**
+     * Verifies that a password changed since the user was loaded is left alone.
+     */
+    @Test
+    void testUpdatePasswordSkipsChangedPassword() {
+        PersonPrincipal user = new PersonPrincipal("testuser", "$2a$04$old",
+                List.of(new SimpleGrantedAuthority("ROLE_APPLICANT")), 1, "Test User");
+        when(personRepository.updatePasswordWhere("testuser", "$2a$04$old", "$2a$10$new")).thenReturn(0);
+
+        UserDetails updated = authService.updatePassword(user, "$2a$10$new");
+
+        assertSame(user, updated);
+        verifyNoInteractions(userDetailsCache);
+    }
 }
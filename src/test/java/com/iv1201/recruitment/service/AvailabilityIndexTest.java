@@ -0,0 +1,154 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.dto.AvailabilityPeriod;
+import com.iv1201.recruitment.repository.AvailabilityRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for AvailabilityIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class AvailabilityIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private AvailabilityRepository availabilityRepository;
+
+    @InjectMocks
+    private AvailabilityIndex availabilityIndex;
+
+    /**
+     * Verifies that the index returns persons whose periods overlap the range, including edges.
+     */
+    @Test
+    void testFindAvailablePersonIds() {
+        when(availabilityRepository.findAllPeriods()).thenReturn(List.of(
+                period(1, 0, 30),
+                period(2, 31, 60),
+                period(3, 100, 120)));
+        availabilityIndex.load();
+
+        assertEquals(Set.of(1, 2), availabilityIndex.findAvailablePersonIds(day(30), day(31)));
+        assertEquals(Set.of(3), availabilityIndex.findAvailablePersonIds(day(110), day(110)));
+        assertTrue(availabilityIndex.findAvailablePersonIds(day(61), day(99)).isEmpty());
+        verify(availabilityRepository, never()).findPeriodsOverlapping(any(), any());
+    }
+
+    /**
+     * Verifies that queries fall back to the database until the index is loaded.
+     */
+    @Test
+    void testFallbackBeforeLoad() {
+        when(availabilityRepository.findPeriodsOverlapping(day(0), day(10)))
+                .thenReturn(List.of(period(5, 0, 3)));
+
+        assertFalse(availabilityIndex.isLoaded());
+        assertEquals(Set.of(5), availabilityIndex.findAvailablePersonIds(day(0), day(10)));
+    }
+
+    /**
+     * Verifies that replaced periods hide the person's old periods.
+     */
+    @Test
+    void testReplacePeriods() {
+        when(availabilityRepository.findAllPeriods()).thenReturn(List.of(period(1, 0, 30)));
+        availabilityIndex.load();
+
+        availabilityIndex.replacePeriods(1, List.of(period(1, 200, 210)));
+        availabilityIndex.replacePeriods(2, List.of(period(2, 5, 6)));
+
+        assertEquals(Set.of(2), availabilityIndex.findAvailablePersonIds(day(0), day(30)));
+        assertEquals(Set.of(1), availabilityIndex.findAvailablePersonIds(day(205), day(300)));
+    }
+
+    /**
+     * Verifies the index against a brute-force scan, across an overlay rebuild.
+     */
+    @Test
+    void testMatchesBruteForceAcrossRebuild() {
+        Random random = new Random(42);
+        List<AvailabilityPeriod> all = new ArrayList<>();
+        for (int personId = 0; personId < 2000; personId++) {
+            all.add(randomPeriod(random, personId));
+        }
+        when(availabilityRepository.findAllPeriods()).thenReturn(List.copyOf(all));
+        availabilityIndex.load();
+
+        for (int personId = 0; personId < AvailabilityIndex.REBUILD_THRESHOLD + 10; personId++) {
+            AvailabilityPeriod replacement = randomPeriod(random, personId);
+            all.set(personId, replacement);
+            availabilityIndex.replacePeriods(personId, List.of(replacement));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = day(random.nextInt(365));
+            LocalDate to = from.plusDays(random.nextInt(60));
+            Set<Integer> expected = all.stream()
+                    .filter(p -> p.overlaps(from, to))
+                    .map(AvailabilityPeriod::getPersonId)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, availabilityIndex.findAvailablePersonIds(from, to));
+        }
+    }
+
+    /**
+     * Verifies that a bounded lookup stops one person past the limit, in the tree and in the overlay,
+     * and returns every person when the window holds fewer.
+     */
+    @Test
+    void testBoundedLookupStopsPastLimit() {
+        List<AvailabilityPeriod> all = new ArrayList<>();
+        for (int personId = 0; personId < 100; personId++) {
+            all.add(period(personId, personId, personId + 10));
+        }
+        when(availabilityRepository.findAllPeriods()).thenReturn(all);
+        availabilityIndex.load();
+
+        Set<Integer> bounded = availabilityIndex.findAvailablePersonIds(day(0), day(200), 10);
+        assertEquals(11, bounded.size());
+        assertTrue(all.stream().map(AvailabilityPeriod::getPersonId).collect(Collectors.toSet()).containsAll(bounded));
+        assertEquals(Set.of(0, 1, 2), availabilityIndex.findAvailablePersonIds(day(0), day(2), 10));
+
+        for (int personId = 0; personId < 20; personId++) {
+            availabilityIndex.replacePeriods(personId, List.of(period(personId, 300, 310)));
+        }
+        assertEquals(11, availabilityIndex.findAvailablePersonIds(day(300), day(300), 10).size());
+    }
+
+    /**
+     * Verifies that a reversed range is rejected.
+     */
+    @Test
+    void testInvalidRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityIndex.findAvailablePersonIds(day(10), day(0)));
+    }
+
+    private static AvailabilityPeriod randomPeriod(Random random, int personId) {
+        int start = random.nextInt(365);
+        return period(personId, start, start + random.nextInt(90));
+    }
+
+    private static AvailabilityPeriod period(int personId, int fromDay, int toDay) {
+        return new AvailabilityPeriod(personId, day(fromDay), day(toDay));
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
@@ -0,0 +1,159 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Application;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.dto.ApplicationListDTO;
+import com.iv1201.recruitment.domain.dto.CandidateSearchForm;
+import com.iv1201.recruitment.domain.dto.CompetenceForm;
+import com.iv1201.recruitment.repository.ApplicationRepository;
+import com.iv1201.recruitment.repository.CandidateSpecifications;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for CandidateSearchService.
+ */
+@ExtendWith(MockitoExtension.class)
+class CandidateSearchServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private AvailabilityIndex availabilityIndex;
+
+    @InjectMocks
+    private CandidateSearchService candidateSearchService;
+
+    /**
+     * Verifies that matches are mapped to list DTOs and sorted newest first.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchMapsResults() {
+        Person person = new Person();
+        person.setName("Kalle");
+        person.setSurname("Anka");
+        Application application = new Application(person);
+        application.setApplicationId(1);
+
+        CandidateSearchForm form = new CandidateSearchForm();
+        form.setCompetences(List.of(new CompetenceForm(1, BigDecimal.valueOf(2))));
+        form.setFromDate(LocalDate.of(2025, 6, 1));
+
+        when(applicationRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(application)));
+
+        Page<ApplicationListDTO> result = candidateSearchService.search(form, PageRequest.of(0, 10));
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Kalle Anka", result.getContent().get(0).getPersonName());
+        verify(applicationRepository).findAll(any(Specification.class),
+                argThat((Pageable p) -> p.getSort().getOrderFor("createdAt").isDescending()));
+    }
+
+    /**
+     * Verifies that a closed window nobody is available in is answered from the index alone.
+     */
+    @Test
+    void testSearchWindowWithoutAvailablePersons() {
+        CandidateSearchForm form = window();
+        when(availabilityIndex.findAvailablePersonIds(form.getFromDate(), form.getToDate(),
+                CandidateSearchService.MAX_INDEXED_PERSONS)).thenReturn(Set.of());
+
+        Page<ApplicationListDTO> result = candidateSearchService.search(form, PageRequest.of(0, 10));
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(applicationRepository);
+    }
+
+    /**
+     * Verifies that the persons of a closed window found in the index are matched by ID.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchWindowMatchesIndexedPersons() {
+        CandidateSearchForm form = window();
+        when(availabilityIndex.findAvailablePersonIds(form.getFromDate(), form.getToDate(),
+                CandidateSearchService.MAX_INDEXED_PERSONS)).thenReturn(Set.of(1, 2));
+        when(applicationRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        try (MockedStatic<CandidateSpecifications> specifications =
+                     mockStatic(CandidateSpecifications.class, CALLS_REAL_METHODS)) {
+            candidateSearchService.search(form, PageRequest.of(0, 10));
+
+            specifications.verify(() -> CandidateSpecifications.personIn(Set.of(1, 2)));
+            specifications.verify(() -> CandidateSpecifications.availableDuring(any(), any()), never());
+        }
+    }
+
+    /**
+     * Verifies that a closed window matching more persons than the index lookup returns
+     * is left to the database.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchWindowFallsBackWhenTooManyPersons() {
+        CandidateSearchForm form = window();
+        Set<Integer> tooMany = IntStream.rangeClosed(1, CandidateSearchService.MAX_INDEXED_PERSONS + 1)
+                .boxed().collect(Collectors.toSet());
+        when(availabilityIndex.findAvailablePersonIds(form.getFromDate(), form.getToDate(),
+                CandidateSearchService.MAX_INDEXED_PERSONS)).thenReturn(tooMany);
+        when(applicationRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        try (MockedStatic<CandidateSpecifications> specifications =
+                     mockStatic(CandidateSpecifications.class, CALLS_REAL_METHODS)) {
+            candidateSearchService.search(form, PageRequest.of(0, 10));
+
+            specifications.verify(() -> CandidateSpecifications.availableDuring(form.getFromDate(), form.getToDate()));
+            specifications.verify(() -> CandidateSpecifications.personIn(any()), never());
+        }
+    }
+
+    /**
+     * Verifies that a reversed date window is rejected before querying.
+     */
+    @Test
+    void testSearchInvalidDateRange() {
+        CandidateSearchForm form = new CandidateSearchForm();
+        form.setFromDate(LocalDate.of(2025, 8, 1));
+        form.setToDate(LocalDate.of(2025, 6, 1));
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> candidateSearchService.search(form, PageRequest.of(0, 10))
+        );
+        assertTrue(exception.getMessage().contains("Invalid date range"));
+        verifyNoInteractions(applicationRepository, availabilityIndex);
+    }
+
+    private static CandidateSearchForm window() {
+        CandidateSearchForm form = new CandidateSearchForm();
+        form.setFromDate(LocalDate.of(2025, 6, 1));
+        form.setToDate(LocalDate.of(2025, 6, 30));
+        return form;
+    }
+}
@@ -0,0 +1,140 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.repository.CompetenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for CompetenceCatalog.
+ */
+@ExtendWith(MockitoExtension.class)
+class CompetenceCatalogTest {
+
+    @Mock
+    private CompetenceRepository competenceRepository;
+
+    @InjectMocks
+    private CompetenceCatalog competenceCatalog;
+
+    /**
+     * Verifies that the catalog is loaded once and then served from memory.
+     */
+    @Test
+    void testGetAllAndFindByIdAreCached() {
+        when(competenceRepository.findAll(any(Sort.class))).thenReturn(List.of(competence(1, "Java"), competence(2, "SQL")));
+
+        assertEquals(2, competenceCatalog.getAll().size());
+        assertEquals(2, competenceCatalog.getAll().size());
+        assertEquals("SQL", competenceCatalog.findById(2).orElseThrow().getName());
+
+        verify(competenceRepository, times(1)).findAll(any(Sort.class));
+        verify(competenceRepository, never()).findById(any());
+        assertEquals(2, competenceCatalog.getHitCount());
+        assertEquals(1, competenceCatalog.getMissCount());
+    }
+
+    /**
+     * Verifies that invalidation forces a reload on the next access.
+     */
+    @Test
+    void testInvalidate() {
+        when(competenceRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(competence(1, "Java")))
+                .thenReturn(List.of(competence(1, "Java"), competence(2, "SQL")));
+
+        competenceCatalog.getAll();
+        competenceCatalog.invalidate();
+
+        assertEquals(2, competenceCatalog.getAll().size());
+        verify(competenceRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    /**
+     * Verifies that an id missing from the cache is looked up and, if found, drops the cache.
+     */
+    @Test
+    void testUnknownIdFallsBackToDatabase() {
+        when(competenceRepository.findAll(any(Sort.class))).thenReturn(List.of(competence(1, "Java")));
+        when(competenceRepository.findById(2)).thenReturn(Optional.of(competence(2, "SQL")));
+        when(competenceRepository.findById(3)).thenReturn(Optional.empty());
+        competenceCatalog.getAll();
+
+        assertTrue(competenceCatalog.findById(3).isEmpty());
+        competenceCatalog.getAll();
+        assertTrue(competenceCatalog.findById(2).isPresent());
+        competenceCatalog.getAll();
+
+        verify(competenceRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    /**
+     * Verifies that lookups on a cold cache load the catalog once instead of querying per id.
+     */
+    @Test
+    void testFindByIdOnColdCacheLoadsCatalog() {
+        when(competenceRepository.findAll(any(Sort.class))).thenReturn(
+                List.of(competence(1, "Java"), competence(2, "SQL")));
+
+        assertEquals("Java", competenceCatalog.findById(1).orElseThrow().getName());
+        assertEquals("SQL", competenceCatalog.findById(2).orElseThrow().getName());
+        assertTrue(competenceCatalog.findById(3).isEmpty());
+
+        verify(competenceRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    /**
+     * Verifies that catalogs above the size limit are never cached.
+     */
+    @Test
+    void testOversizedCatalogNotCached() {
+        List<Competence> large = new ArrayList<>();
+        for (int i = 0; i <= CompetenceCatalog.MAX_ENTRIES; i++) {
+            large.add(competence(i, "c" + i));
+        }
+        when(competenceRepository.findAll(any(Sort.class))).thenReturn(large);
+
+        competenceCatalog.getAll();
+        competenceCatalog.getAll();
+
+        verify(competenceRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    /**
+     * Verifies that hits and misses are published as cache meters.
+     */
+    @Test
+    void testMetrics() {
+        when(competenceRepository.findAll(any(Sort.class))).thenReturn(List.of(competence(1, "Java")));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        competenceCatalog.bindTo(registry);
+
+        competenceCatalog.getAll();
+        competenceCatalog.findById(1);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "competences").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").gauge().value());
+    }
+
+    private static Competence competence(int id, String name) {
+        Competence competence = new Competence();
+        competence.setCompetenceId(id);
+        competence.setName(name);
+        return competence;
+    }
+}
@@ -2,6 +2,7 @@ package com.iv1201.recruitment.service;
 
 import com.iv1201.recruitment.domain.EmailVerification;
 import com.iv1201.recruitment.repository.EmailVerificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -98,4 +99,26 @@ class EmailVerificationServiceTest {
 
         assertTrue(validVerification.getUsed());
     }
+
+    /**
+     * Verifies that token checks are counted by outcome.
+     */
+    @Test
+    void testValidationMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.bindTo(registry);
+        when(repository.findByToken("valid-token")).thenReturn(Optional.of(validVerification));
+        when(repository.findByToken("nonexistent")).thenReturn(Optional.empty());
+
+        service.validateToken("valid-token");
+        service.validateToken("nonexistent");
+        service.validateToken("nonexistent");
+
+        assertEquals(1, registry.get("recruitment.email.token.validations")
+            .tag("outcome", "valid").functionCounter().count());
+        assertEquals(2, registry.get("recruitment.email.token.validations")
+            .tag("outcome", "unknown").functionCounter().count());
+        assertEquals(0, registry.get("recruitment.email.token.validations")
+            .tag("outcome", "expired").functionCounter().count());
+    }
 }
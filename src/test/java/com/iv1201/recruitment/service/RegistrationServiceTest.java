@@ -15,6 +15,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -35,6 +37,9 @@ class RegistrationServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private RegistrationService registrationService;
 
@@ -78,6 +83,7 @@ class RegistrationServiceTest {
         assertEquals("$2a$10$encodedpassword", result.getPassword());
         assertEquals("Kalle", result.getName());
         assertEquals("Anka", result.getSurname());
+        verify(userDetailsCache).removeUserFromCache("newuser");
         assertEquals("kalle.anka@example.com", result.getEmail());
         assertEquals(applicantRole, result.getRole());
     }
@@ -245,4 +251,23 @@ class RegistrationServiceTest {
         assertFalse(encoder.matches("wrongpassword", hash));
         assertTrue(hash.startsWith("$2a$"));
     }
+
+    /**
+     * Verifies that claiming a legacy account evicts both the old and new username from the login cache.
+     */
+    @Test
+    void testCompleteLegacyRegistrationEvictsCache() {
+        Person legacy = new Person();
+        legacy.setUsername("olduser");
+        legacy.setEmail("legacy@example.com");
+        when(personRepository.findByEmail("legacy@example.com")).thenReturn(Optional.of(legacy));
+        when(personRepository.existsByUsername("claimed")).thenReturn(false);
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$encoded");
+
+        registrationService.completeLegacyRegistration("legacy@example.com", "claimed", "password123");
+
+        assertEquals("claimed", legacy.getUsername());
+        verify(userDetailsCache).removeUserFromCache("olduser");
+        verify(userDetailsCache).removeUserFromCache("claimed");
+    }
 }
@@ -0,0 +1,149 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.domain.Availability;
+import com.iv1201.recruitment.domain.Competence;
+import com.iv1201.recruitment.domain.CompetenceProfile;
+import com.iv1201.recruitment.domain.Person;
+import com.iv1201.recruitment.domain.Role;
+import com.iv1201.recruitment.repository.AvailabilityRepository;
+import com.iv1201.recruitment.repository.CompetenceProfileRepository;
+import com.iv1201.recruitment.repository.CompetenceRepository;
+import com.iv1201.recruitment.repository.PersonRepository;
+import com.iv1201.recruitment.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads small synthetic datasets into H2 through the batched-insert path.
+ * Runs without a test transaction, since the generator commits on its own connection.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private CompetenceProfileRepository competenceProfileRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    private SyntheticDataGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        if (roleRepository.findByName("applicant") == null) {
+            roleRepository.save(new Role("applicant"));
+            competenceRepository.saveAll(List.of(new Competence("ticket sales"),
+                new Competence("lotteries"), new Competence("roller coaster operation")));
+        }
+        generator = new SyntheticDataGenerator(dataSource, "hash");
+    }
+
+    /**
+     * Verifies that applicants who applied get an application, competences and availability,
+     * and that the first competence in the catalog is the most popular.
+     */
+    @Test
+    void testGeneratesConsistentDataset() throws Exception {
+        assertFalse(generator.exists("consistent-"));
+
+        Map<String, Long> rows = generator.generate("consistent-", 500, 0.8, 42);
+
+        assertTrue(generator.exists("consistent-"));
+        assertEquals(500L, rows.get("person"));
+        long applications = rows.get("application");
+        assertTrue(applications > 350 && applications < 450, "applications: " + applications);
+        assertEquals(applications, countPersons("application"));
+        assertEquals(applications, countPersons("competence_profile"));
+        assertEquals(applications, countPersons("availability"));
+        assertTrue(rows.get("competence_profile") > applications);
+        assertTrue(rows.get("availability") > applications);
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM availability WHERE to_date < from_date", Integer.class));
+        List<Integer> byPopularity = jdbcTemplate.queryForList(
+            "SELECT competence_id FROM competence_profile GROUP BY competence_id ORDER BY COUNT(*) DESC",
+            Integer.class);
+        assertEquals(competenceRepository.findAll().stream()
+            .mapToInt(Competence::getCompetenceId).min().getAsInt(), byPopularity.get(0));
+    }
+
+    /**
+     * Verifies that ids handed out by Hibernate after a load, across more than one pooled block,
+     * do not collide with generated rows.
+     */
+    @Test
+    void testEntityIdsContinueAfterGeneratedRows() throws Exception {
+        generator.generate("ids-", 200, 1.0, 7);
+
+        // Saving commits, so an id already taken by a generated row fails here
+        Person person = personRepository.findByUsername("ids-0").orElseThrow();
+        for (int i = 0; i < 60; i++) {
+            CompetenceProfile profile = competenceProfileRepository.save(new CompetenceProfile(
+                person, competenceRepository.findAll().get(0), BigDecimal.ONE));
+            Availability availability = availabilityRepository.save(
+                new Availability(person, LocalDate.now(), LocalDate.now().plusDays(1)));
+            assertNotNull(profile.getCompetenceProfileId());
+            assertNotNull(availability.getAvailabilityId());
+        }
+    }
+
+    /**
+     * Verifies that users whose names merely start with the prefix, such as load test accounts or
+     * a dataset generated with a longer prefix, neither count as a generated dataset nor break loading.
+     */
+    @Test
+    void testIgnoresUsernamesSharingThePrefix() throws Exception {
+        Person recruiter = new Person();
+        recruiter.setUsername("collide-recruiter-0");
+        recruiter.setPassword("hash");
+        recruiter.setName("Rita");
+        recruiter.setSurname("Recruiter");
+        recruiter.setRole(roleRepository.findByName("applicant"));
+        personRepository.save(recruiter);
+
+        assertFalse(generator.exists("collide-"));
+        Map<String, Long> rows = generator.generate("collide-", 50, 1.0, 3);
+
+        assertEquals(50L, rows.get("application"));
+        assertTrue(generator.exists("collide-"));
+        assertFalse(generator.exists("collide"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM application a JOIN person p "
+            + "ON p.person_id = a.person_id WHERE p.username = 'collide-recruiter-0'", Integer.class));
+    }
+
+    private long countPersons(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT t.person_id) FROM " + table
+            + " t JOIN person p ON p.person_id = t.person_id WHERE p.username LIKE 'consistent-%'", Long.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.iv1201.recruitment.service;
+
+import com.iv1201.recruitment.security.PersonPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for UserDetailsCache.
+ */
+class UserDetailsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    /**
+     * Verifies that cached users are returned as copies, so erasing credentials does not corrupt the cache.
+     */
+    @Test
+    void testReturnsCopies() {
+        UserDetailsCache cache = new UserDetailsCache();
+        cache.putUserInCache(user("kalle"));
+
+        User first = (User) cache.getUserFromCache("kalle");
+        first.eraseCredentials();
+
+        assertNull(first.getPassword());
+        assertEquals("$2a$10$hash", cache.getUserFromCache("kalle").getPassword());
+        assertEquals("ROLE_APPLICANT", cache.getUserFromCache("kalle").getAuthorities().iterator().next().getAuthority());
+    }
+
+    /**
+     * Verifies that person principals keep their type and person ID through the cache.
+     */
+    @Test
+    void testKeepsPersonPrincipal() {
+        UserDetailsCache cache = new UserDetailsCache();
+        cache.putUserInCache(new PersonPrincipal("kalle", "$2a$10$hash",
+                List.of(new SimpleGrantedAuthority("ROLE_APPLICANT")), 7, "Kalle Anka"));
+
+        PersonPrincipal cached = assertInstanceOf(PersonPrincipal.class, cache.getUserFromCache("kalle"));
+
+        assertEquals(7, cached.getPersonId());
+        assertEquals("Kalle Anka", cached.getDisplayName());
+    }
+
+    /**
+     * Verifies that entries expire after the TTL.
+     */
+    @Test
+    void testExpiry() {
+        UserDetailsCache cache = new UserDetailsCache(Clock.fixed(NOW, ZoneOffset.UTC), 10, Duration.ofMinutes(5));
+        cache.putUserInCache(user("kalle"));
+        assertNotNull(cache.getUserFromCache("kalle"));
+
+        UserDetailsCache expired = new UserDetailsCache(Clock.fixed(NOW, ZoneOffset.UTC), 10, Duration.ZERO);
+        expired.putUserInCache(user("kalle"));
+        assertNull(expired.getUserFromCache("kalle"));
+        assertEquals(0, expired.size());
+    }
+
+    /**
+     * Verifies that the least recently used user is dropped once the size bound is reached.
+     */
+    @Test
+    void testSizeBound() {
+        UserDetailsCache cache = new UserDetailsCache(Clock.fixed(NOW, ZoneOffset.UTC), 2, Duration.ofMinutes(5));
+        cache.putUserInCache(user("a"));
+        cache.putUserInCache(user("b"));
+        cache.getUserFromCache("a");
+        cache.putUserInCache(user("c"));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.getUserFromCache("a"));
+        assertNull(cache.getUserFromCache("b"));
+    }
+
+    /**
+     * Verifies that eviction removes the user.
+     */
+    @Test
+    void testRemoveUserFromCache() {
+        UserDetailsCache cache = new UserDetailsCache();
+        cache.putUserInCache(user("kalle"));
+
+        cache.removeUserFromCache("kalle");
+
+        assertNull(cache.getUserFromCache("kalle"));
+    }
+
+    private static UserDetails user(String username) {
+        return User.withUsername(username).password("$2a$10$hash").roles("APPLICANT").build();
+    }
+}